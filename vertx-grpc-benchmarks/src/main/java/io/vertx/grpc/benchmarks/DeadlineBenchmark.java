@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.Timer;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.common.impl.DeadlineWheel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules and cancels {@code calls} call deadlines on an event-loop, with a context {@link Timer} per call as the
+ * server and client used to do, and with the {@link DeadlineWheel}. The deadlines are pending together, as with
+ * concurrent calls, before being cancelled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DeadlineBenchmark {
+
+  private static final int BATCH = 1000;
+
+  @Param({ "1000", "100000" })
+  public int calls;
+
+  private Vertx vertx;
+  private ContextInternal context;
+  private EventLoop eventLoop;
+  private Timer[] timers;
+  private DeadlineWheel.Deadline[] deadlines;
+  private int next;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+    eventLoop = context.nettyEventLoop();
+    timers = new Timer[calls];
+    deadlines = new DeadlineWheel.Deadline[calls];
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void timer() throws Exception {
+    eventLoop.submit(() -> {
+      for (int i = 0; i < BATCH; i++) {
+        int idx = next;
+        next = (idx + 1) % calls;
+        Timer timer = timers[idx];
+        if (timer != null) {
+          timer.cancel();
+        }
+        timers[idx] = context.timer(30, TimeUnit.SECONDS);
+      }
+    }).get();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void wheel() throws Exception {
+    eventLoop.submit(() -> {
+      for (int i = 0; i < BATCH; i++) {
+        int idx = next;
+        next = (idx + 1) % calls;
+        DeadlineWheel.Deadline deadline = deadlines[idx];
+        if (deadline != null) {
+          deadline.cancel();
+        }
+        deadlines[idx] = DeadlineWheel.schedule(context, 30, TimeUnit.SECONDS, v -> {});
+      }
+    }).get();
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.GrpcMessageDeframer;
+import io.vertx.grpc.common.impl.Http2GrpcMessageDeframer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deframes a stream of messages of {@code messageSize} bytes received as HTTP/2 frames of {@code frameSize} bytes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" })
+public class DeframerBenchmark {
+
+  private static final int STREAM_SIZE = 256 * 1024;
+
+  @Param({ "1", "1024", "4194304" })
+  public int messageSize;
+
+  @Param({ "16384" })
+  public int frameSize;
+
+  private List<Buffer> frames;
+
+  @Setup
+  public void setup() {
+    byte[] payload = new byte[messageSize];
+    Buffer stream = Buffer.buffer();
+    do {
+      stream.appendByte((byte) 0).appendInt(messageSize).appendBytes(payload);
+    } while (stream.length() < STREAM_SIZE);
+    frames = new ArrayList<>();
+    for (int from = 0; from < stream.length(); from += frameSize) {
+      frames.add(stream.getBuffer(from, Math.min(stream.length(), from + frameSize)));
+    }
+  }
+
+  private void deframe(GrpcMessageDeframer deframer, Blackhole blackhole) {
+    deframer.maxMessageSize(Long.MAX_VALUE);
+    for (Buffer frame : frames) {
+      // Fresh buffer like the ones received from the network, the legacy deframer appends to them
+      deframer.update(frame.copy());
+      Object msg;
+      while ((msg = deframer.next()) != null) {
+        blackhole.consume(msg);
+      }
+    }
+  }
+
+  @Benchmark
+  public void legacy(Blackhole blackhole) {
+    deframe(new LegacyHttp2GrpcMessageDeframer("identity", WireFormat.PROTOBUF), blackhole);
+  }
+
+  @Benchmark
+  public void composite(Blackhole blackhole) {
+    deframe(new Http2GrpcMessageDeframer("identity", WireFormat.PROTOBUF), blackhole);
+  }
+}
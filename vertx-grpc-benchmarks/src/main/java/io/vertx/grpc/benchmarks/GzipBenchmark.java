@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.impl.GzipCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compresses and decompresses messages of {@code messageSize} bytes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class GzipBenchmark {
+
+  @Param({ "64", "1024", "16384", "262144" })
+  public int messageSize;
+
+  private Buffer message;
+  private Buffer compressed;
+
+  @Setup
+  public void setup() {
+    // Text like content with some redundancy
+    Random random = new Random(0);
+    message = Buffer.buffer(messageSize);
+    for (int i = 0; i < messageSize; i++) {
+      message.appendByte((byte) ('a' + random.nextInt(16)));
+    }
+    compressed = GzipCodec.encode(message);
+  }
+
+  @Benchmark
+  public Buffer legacyEncode() {
+    return LegacyGzipCodec.GZIP_ENCODER.apply(message);
+  }
+
+  @Benchmark
+  public Buffer encode() {
+    return GzipCodec.encode(message);
+  }
+
+  @Benchmark
+  public Buffer legacyDecode() {
+    return LegacyGzipCodec.GZIP_DECODER.apply(compressed);
+  }
+
+  @Benchmark
+  public Buffer decode() {
+    return GzipCodec.decode(compressed);
+  }
+}
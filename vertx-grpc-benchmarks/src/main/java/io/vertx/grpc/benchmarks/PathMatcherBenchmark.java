@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.grpc.transcoding.MethodTranscodingOptions;
+import io.vertx.grpc.transcoding.impl.PathMatcher;
+import io.vertx.grpc.transcoding.impl.PathMatcherBuilder;
+import io.vertx.grpc.transcoding.impl.PathMatcherLookupResult;
+import io.vertx.grpc.transcoding.impl.PathMatcherUtility;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up requests in a matcher of 500 HTTP rules, a REST API of 100 collections nested in projects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PathMatcherBenchmark {
+
+  private static final int COLLECTIONS = 100;
+
+  private PathMatcher matcher;
+  private String path;
+  private String query;
+  private String missPath;
+
+  @Setup
+  public void setup() {
+    PathMatcherBuilder builder = new PathMatcherBuilder();
+    for (int i = 0; i < COLLECTIONS; i++) {
+      String collection = "/v1/projects/{project}/collection" + i;
+      String service = "example.Collection" + i + "Service/";
+      register(builder, HttpMethod.GET, collection, service + "List");
+      register(builder, HttpMethod.POST, collection, service + "Create");
+      register(builder, HttpMethod.GET, collection + "/{item}", service + "Get");
+      register(builder, HttpMethod.DELETE, collection + "/{item}", service + "Delete");
+      register(builder, HttpMethod.POST, collection + "/{item=items/*}:archive", service + "Archive");
+    }
+    matcher = builder.build();
+    path = "/v1/projects/my-project/collection57/items/item%2042:archive";
+    query = "view=full&page.size=20&page.token=abc";
+    missPath = "/v1/projects/my-project/collection57/items/item42/unknown";
+  }
+
+  private static void register(PathMatcherBuilder builder, HttpMethod method, String path, String name) {
+    PathMatcherUtility.registerByHttpRule(builder, new MethodTranscodingOptions().setHttpMethod(method).setPath(path), name);
+  }
+
+  @Benchmark
+  public String match() {
+    return matcher.lookup("POST", path);
+  }
+
+  @Benchmark
+  public PathMatcherLookupResult lookup() {
+    return matcher.lookup("POST", path, query);
+  }
+
+  @Benchmark
+  public Object lookupAndBind() {
+    return matcher.lookup("POST", path, query).getVariableBindings();
+  }
+
+  @Benchmark
+  public String miss() {
+    return matcher.lookup("GET", missPath);
+  }
+}
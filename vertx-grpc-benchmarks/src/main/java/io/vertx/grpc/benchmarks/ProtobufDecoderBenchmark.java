@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import com.google.protobuf.ByteString;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.benchmarks.proto.Blobs;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a message made of {@code blobCount} repeated bytes fields of {@code blobSize} bytes, received in a single
+ * buffer or spread over 16KB HTTP/2 frames.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ProtobufDecoderBenchmark {
+
+  private static final int FRAME_SIZE = 16384;
+
+  @Param({ "1024", "65536" })
+  public int blobSize;
+
+  @Param({ "64" })
+  public int blobCount;
+
+  @Param({ "false", "true" })
+  public boolean composite;
+
+  private GrpcMessage message;
+  private GrpcMessageDecoder<Blobs> decoder;
+  private GrpcMessageDecoder<Blobs> aliasingDecoder;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(0);
+    Blobs.Builder builder = Blobs.newBuilder();
+    for (int i = 0; i < blobCount; i++) {
+      byte[] blob = new byte[blobSize];
+      random.nextBytes(blob);
+      builder.addBlobs(ByteString.copyFrom(blob));
+    }
+    byte[] bytes = builder.build().toByteArray();
+    Buffer payload;
+    if (composite) {
+      CompositeByteBuf buf = Unpooled.compositeBuffer(bytes.length / FRAME_SIZE + 1);
+      for (int idx = 0; idx < bytes.length; idx += FRAME_SIZE) {
+        buf.addComponent(true, Unpooled.wrappedBuffer(bytes, idx, Math.min(FRAME_SIZE, bytes.length - idx)));
+      }
+      payload = BufferInternal.buffer(buf);
+    } else {
+      payload = Buffer.buffer(bytes);
+    }
+    message = GrpcMessage.message("identity", payload);
+    decoder = GrpcMessageDecoder.decoder(Blobs.newBuilder());
+    aliasingDecoder = GrpcMessageDecoder.decoder(Blobs.newBuilder(), true);
+  }
+
+  @Benchmark
+  public Blobs legacyDecode() throws Exception {
+    return Blobs.parseFrom(message.payload().getBytes());
+  }
+
+  @Benchmark
+  public Blobs decode() {
+    return decoder.decode(message);
+  }
+
+  @Benchmark
+  public Blobs decodeAliasing() {
+    return aliasingDecoder.decode(message);
+  }
+}
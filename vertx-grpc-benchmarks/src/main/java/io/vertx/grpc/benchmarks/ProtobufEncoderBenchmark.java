@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.GrpcMessageImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes a protobuf message of {@code messageSize} bytes to a gRPC frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ProtobufEncoderBenchmark {
+
+  @Param({ "16", "1024", "65536" })
+  public int messageSize;
+
+  private BytesValue message;
+  private GrpcMessageEncoder<BytesValue> encoder;
+
+  @Setup
+  public void setup() {
+    byte[] bytes = new byte[messageSize];
+    new Random(0).nextBytes(bytes);
+    message = BytesValue.of(ByteString.copyFrom(bytes));
+    encoder = GrpcMessageEncoder.encoder();
+  }
+
+  @Benchmark
+  public Buffer legacyEncode() {
+    // Previous encoder: serialize to an array, copy it to a buffer and then copy it again to the frame
+    GrpcMessage msg = GrpcMessage.message("identity", Buffer.buffer(message.toByteArray()));
+    return GrpcMessageImpl.encode(msg.payload(), false, false);
+  }
+
+  @Benchmark
+  public Buffer encode() {
+    return GrpcMessageImpl.encode(encoder.encode(message, WireFormat.PROTOBUF));
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import com.google.protobuf.ListValue;
+import com.google.protobuf.Message;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import com.google.protobuf.util.JsonFormat;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.impl.ProtobufJsonCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prints and parses a protobuf message of {@code fieldCount} fields in JSON format.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ProtobufJsonBenchmark {
+
+  @Param({ "4", "256" })
+  public int fieldCount;
+
+  private Struct message;
+  private Buffer json;
+
+  @Setup
+  public void setup() {
+    Struct.Builder builder = Struct.newBuilder();
+    for (int i = 0; i < fieldCount; i++) {
+      builder.putFields("field-" + i, Value.newBuilder().setListValue(ListValue.newBuilder()
+        .addValues(Value.newBuilder().setStringValue("value-" + i))
+        .addValues(Value.newBuilder().setNumberValue(i))
+        .addValues(Value.newBuilder().setBoolValue(i % 2 == 0))).build());
+    }
+    message = builder.build();
+    json = ProtobufJsonCodec.encode(message);
+  }
+
+  @Benchmark
+  public Buffer legacyEncode() throws Exception {
+    return Buffer.buffer(JsonFormat.printer().print(message));
+  }
+
+  @Benchmark
+  public Buffer encode() {
+    return ProtobufJsonCodec.encode(message);
+  }
+
+  @Benchmark
+  public Message legacyDecode() throws Exception {
+    Struct.Builder builder = Struct.newBuilder();
+    JsonFormat.parser().merge(json.toString(StandardCharsets.UTF_8), builder);
+    return builder.build();
+  }
+
+  @Benchmark
+  public Message decode() {
+    return ProtobufJsonCodec.decode(json, Struct.newBuilder()).build();
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.server.GrpcProtocol;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The regular expression based request inspection and timeout parsing, kept for comparison.
+ */
+final class LegacyGrpcServerRequestInspector {
+
+  private static final Pattern CONTENT_TYPE_PATTERN = Pattern.compile("application/grpc(-web(-text)?)?(\\+(json|proto))?");
+  private static final Pattern TIMEOUT_PATTERN = Pattern.compile("([0-9]{1,8})([HMSmun])");
+  private static final Map<String, TimeUnit> TIMEOUT_MAPPING;
+
+  static {
+    Map<String, TimeUnit> timeoutMapping = new HashMap<>();
+    timeoutMapping.put("H", TimeUnit.HOURS);
+    timeoutMapping.put("M", TimeUnit.MINUTES);
+    timeoutMapping.put("S", TimeUnit.SECONDS);
+    timeoutMapping.put("m", TimeUnit.MILLISECONDS);
+    timeoutMapping.put("u", TimeUnit.MICROSECONDS);
+    timeoutMapping.put("n", TimeUnit.NANOSECONDS);
+    TIMEOUT_MAPPING = timeoutMapping;
+  }
+
+  private LegacyGrpcServerRequestInspector() {
+  }
+
+  static Details inspect(HttpServerRequest request) {
+    Details details = new Details();
+    details.version = request.version();
+    String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+    if (contentType != null) {
+      Matcher matcher = CONTENT_TYPE_PATTERN.matcher(contentType);
+      if (matcher.matches()) {
+        if (matcher.group(1) != null) {
+          details.protocol = matcher.group(2) == null ? GrpcProtocol.WEB : GrpcProtocol.WEB_TEXT;
+        } else {
+          details.protocol = GrpcProtocol.HTTP_2;
+        }
+        if (matcher.group(3) != null) {
+          details.format = "json".equals(matcher.group(4)) ? WireFormat.JSON : WireFormat.PROTOBUF;
+        } else {
+          details.format = WireFormat.PROTOBUF;
+        }
+        return details;
+      } else if (GrpcProtocol.TRANSCODING.mediaType().equals(contentType)) {
+        details.protocol = GrpcProtocol.TRANSCODING;
+        details.format = WireFormat.JSON;
+        return details;
+      }
+    }
+    return null;
+  }
+
+  static long parseTimeout(String timeout) {
+    Matcher matcher = TIMEOUT_PATTERN.matcher(timeout);
+    if (matcher.matches()) {
+      long value = Long.parseLong(matcher.group(1));
+      TimeUnit unit = TIMEOUT_MAPPING.get(matcher.group(2));
+      return unit.toMillis(value);
+    } else {
+      return 0L;
+    }
+  }
+
+  static final class Details {
+    HttpVersion version;
+    GrpcProtocol protocol;
+    WireFormat format;
+  }
+}
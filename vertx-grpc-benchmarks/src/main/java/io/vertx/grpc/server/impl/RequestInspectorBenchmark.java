@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.server.GrpcServerOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inspects the content type of a request, validates the protocol and parses its {@code grpc-timeout} header.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RequestInspectorBenchmark {
+
+  @Param({ "application/grpc", "application/grpc-web-text+proto", "application/json" })
+  public String contentType;
+
+  private final GrpcServerOptions options = new GrpcServerOptions();
+  private HttpServerRequest request;
+  private String timeout;
+
+  @Setup
+  public void setup() {
+    timeout = "100m";
+    request = (HttpServerRequest) Proxy.newProxyInstance(HttpServerRequest.class.getClassLoader(), new Class[]{HttpServerRequest.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "version":
+          return HttpVersion.HTTP_2;
+        case "getHeader":
+          String name = args[0].toString();
+          if (HttpHeaders.CONTENT_TYPE.toString().equalsIgnoreCase(name)) {
+            return contentType;
+          } else if (GrpcHeaderNames.GRPC_TIMEOUT.toString().equalsIgnoreCase(name)) {
+            return timeout;
+          }
+          return null;
+        default:
+          throw new UnsupportedOperationException(method.getName());
+      }
+    });
+  }
+
+  @Benchmark
+  public long legacy() {
+    LegacyGrpcServerRequestInspector.Details details = LegacyGrpcServerRequestInspector.inspect(request);
+    if (details == null || !details.protocol.accepts(details.version) || !options.isProtocolEnabled(details.protocol)) {
+      return -1L;
+    }
+    return LegacyGrpcServerRequestInspector.parseTimeout(timeout);
+  }
+
+  @Benchmark
+  public long regexFree() {
+    GrpcServerRequestInspector.RequestInspectionDetails details = GrpcServerRequestInspector.inspect(request);
+    if (details == null || !details.protocol.accepts(details.version) || !options.isProtocolEnabled(details.protocol)) {
+      return -1L;
+    }
+    return GrpcServerRequestInspector.parseTimeout(timeout);
+  }
+}
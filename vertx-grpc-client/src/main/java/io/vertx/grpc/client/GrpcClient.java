@@ -10,6 +10,7 @@
  */
 package io.vertx.grpc.client;
 
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -19,6 +20,7 @@ import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.net.Address;
 import io.vertx.grpc.client.impl.GrpcClientBuilderImpl;
 import io.vertx.grpc.client.impl.GrpcClientImpl;
+import io.vertx.grpc.common.MemoryBudget;
 import io.vertx.grpc.common.ServiceMethod;
 
 /**
@@ -125,6 +127,12 @@ public interface GrpcClient {
    */
   <Req, Resp> Future<GrpcClientRequest<Req, Resp>> request(ServiceMethod<Resp, Req> method);
 
+  /**
+   * @return the budget of the bytes buffered by the inbound streams or {@code null} when
+   *         {@link GrpcClientOptions#setMaxInboundMemory(long)} is not set
+   */
+  @Nullable MemoryBudget inboundMemory();
+
   /**
    * Close this client.
    */
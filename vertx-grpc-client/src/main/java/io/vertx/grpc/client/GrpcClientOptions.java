@@ -11,6 +11,7 @@
 package io.vertx.grpc.client;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.grpc.common.impl.GrpcReadStreamBase;
 
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -41,10 +42,52 @@ public class GrpcClientOptions {
    */
   public static final long DEFAULT_MAX_MESSAGE_SIZE = 256 * 1024;
 
+  /**
+   * The default minimum size in bytes of a compressed message = {@code 0}
+   */
+  public static final int DEFAULT_COMPRESSION_THRESHOLD = 0;
+
+  /**
+   * The default maximum compression ratio of a compressed message = {@code 0} (not checked)
+   */
+  public static final double DEFAULT_COMPRESSION_RATIO_THRESHOLD = 0D;
+
+  /**
+   * The default number of queued messages below which the inbound stream is resumed = {@code 8}
+   */
+  public static final int DEFAULT_READ_QUEUE_LOW_WATER_MARK = GrpcReadStreamBase.DEFAULT_LOW_WATER_MARK;
+
+  /**
+   * The default number of queued messages above which the inbound stream is paused = {@code 16}
+   */
+  public static final int DEFAULT_READ_QUEUE_HIGH_WATER_MARK = GrpcReadStreamBase.DEFAULT_HIGH_WATER_MARK;
+
+  /**
+   * Whether the inbound prefetch adapts to the consumer rate, by default = {@code false}
+   */
+  public static final boolean DEFAULT_ADAPTIVE_READ_QUEUE = false;
+
+  /**
+   * The default maximum amount of bytes prefetched by an adaptive inbound queue = {@code 1MB}
+   */
+  public static final long DEFAULT_READ_QUEUE_MAX_BYTES = 1024 * 1024;
+
+  /**
+   * The default maximum amount of bytes buffered by all the inbound streams = {@code 0} (unbounded)
+   */
+  public static final long DEFAULT_MAX_INBOUND_MEMORY = 0L;
+
   private boolean scheduleDeadlineAutomatically;
   private int timeout;
   private TimeUnit timeoutUnit;
   private long maxMessageSize;
+  private int compressionThreshold;
+  private double compressionRatioThreshold;
+  private int readQueueLowWaterMark;
+  private int readQueueHighWaterMark;
+  private boolean adaptiveReadQueue;
+  private long readQueueMaxBytes;
+  private long maxInboundMemory;
 
   /**
    * Default constructor.
@@ -54,6 +97,13 @@ public class GrpcClientOptions {
     timeout = DEFAULT_TIMEOUT;
     timeoutUnit = DEFAULT_TIMEOUT_UNIT;
     this.maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
+    this.compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+    this.compressionRatioThreshold = DEFAULT_COMPRESSION_RATIO_THRESHOLD;
+    this.readQueueLowWaterMark = DEFAULT_READ_QUEUE_LOW_WATER_MARK;
+    this.readQueueHighWaterMark = DEFAULT_READ_QUEUE_HIGH_WATER_MARK;
+    this.adaptiveReadQueue = DEFAULT_ADAPTIVE_READ_QUEUE;
+    this.readQueueMaxBytes = DEFAULT_READ_QUEUE_MAX_BYTES;
+    this.maxInboundMemory = DEFAULT_MAX_INBOUND_MEMORY;
   }
 
   /**
@@ -66,6 +116,13 @@ public class GrpcClientOptions {
     timeout = other.timeout;
     timeoutUnit = other.timeoutUnit;
     maxMessageSize = other.maxMessageSize;
+    compressionThreshold = other.compressionThreshold;
+    compressionRatioThreshold = other.compressionRatioThreshold;
+    readQueueLowWaterMark = other.readQueueLowWaterMark;
+    readQueueHighWaterMark = other.readQueueHighWaterMark;
+    adaptiveReadQueue = other.adaptiveReadQueue;
+    readQueueMaxBytes = other.readQueueMaxBytes;
+    maxInboundMemory = other.maxInboundMemory;
   }
 
   /**
@@ -158,4 +215,156 @@ public class GrpcClientOptions {
     this.maxMessageSize = maxMessageSize;
     return this;
   }
+
+  /**
+   * @return the minimum size in bytes of a message payload to be compressed
+   */
+  public int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Set the minimum size in bytes of a message payload to be compressed, smaller messages are sent uncompressed
+   * even when the request encoding compresses messages.
+   *
+   * @param compressionThreshold the size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setCompressionThreshold(int compressionThreshold) {
+    if (compressionThreshold < 0) {
+      throw new IllegalArgumentException("Compression threshold must be >= 0");
+    }
+    this.compressionThreshold = compressionThreshold;
+    return this;
+  }
+
+  /**
+   * @return the maximum ratio between the compressed size and the uncompressed size of a compressed message payload
+   */
+  public double getCompressionRatioThreshold() {
+    return compressionRatioThreshold;
+  }
+
+  /**
+   * Set the maximum ratio between the compressed size and the uncompressed size of a compressed message payload,
+   * when a message does not compress well enough it is sent uncompressed and the following messages of the request
+   * are sent uncompressed until the compressibility is sampled again. The value {@code 0} disables this check.
+   *
+   * @param compressionRatioThreshold the ratio, between {@code 0} and {@code 1}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setCompressionRatioThreshold(double compressionRatioThreshold) {
+    if (compressionRatioThreshold < 0D || compressionRatioThreshold > 1D) {
+      throw new IllegalArgumentException("Compression ratio threshold must be between 0 and 1");
+    }
+    this.compressionRatioThreshold = compressionRatioThreshold;
+    return this;
+  }
+
+  /**
+   * @return the number of queued messages below which the inbound stream is resumed
+   */
+  public int getReadQueueLowWaterMark() {
+    return readQueueLowWaterMark;
+  }
+
+  /**
+   * Set the number of queued messages below which a paused inbound stream is resumed.
+   *
+   * @param readQueueLowWaterMark the number of messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setReadQueueLowWaterMark(int readQueueLowWaterMark) {
+    if (readQueueLowWaterMark < 0) {
+      throw new IllegalArgumentException("Read queue low water mark must be >= 0");
+    }
+    this.readQueueLowWaterMark = readQueueLowWaterMark;
+    return this;
+  }
+
+  /**
+   * @return the number of queued messages above which the inbound stream is paused
+   */
+  public int getReadQueueHighWaterMark() {
+    return readQueueHighWaterMark;
+  }
+
+  /**
+   * Set the number of queued messages above which the inbound stream is paused, i.e. the number of messages
+   * prefetched from the server when the application does not consume them.
+   *
+   * @param readQueueHighWaterMark the number of messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setReadQueueHighWaterMark(int readQueueHighWaterMark) {
+    if (readQueueHighWaterMark <= 0) {
+      throw new IllegalArgumentException("Read queue high water mark must be > 0");
+    }
+    this.readQueueHighWaterMark = readQueueHighWaterMark;
+    return this;
+  }
+
+  /**
+   * @return whether the inbound prefetch adapts to the consumer rate
+   */
+  public boolean getAdaptiveReadQueue() {
+    return adaptiveReadQueue;
+  }
+
+  /**
+   * Set whether the inbound prefetch adapts to the consumer rate. When enabled, the inbound stream is also paused
+   * when the queued bytes exceed a window sized from the observed consumer rate and message size, bounded by
+   * {@link #setReadQueueMaxBytes(long)}.
+   *
+   * @param adaptiveReadQueue whether the prefetch is adaptive
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setAdaptiveReadQueue(boolean adaptiveReadQueue) {
+    this.adaptiveReadQueue = adaptiveReadQueue;
+    return this;
+  }
+
+  /**
+   * @return the maximum amount of bytes prefetched by an adaptive inbound queue
+   */
+  public long getReadQueueMaxBytes() {
+    return readQueueMaxBytes;
+  }
+
+  /**
+   * Set the maximum amount of bytes prefetched by an adaptive inbound queue.
+   *
+   * @param readQueueMaxBytes the amount of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setReadQueueMaxBytes(long readQueueMaxBytes) {
+    if (readQueueMaxBytes <= 0) {
+      throw new IllegalArgumentException("Read queue max bytes must be > 0");
+    }
+    this.readQueueMaxBytes = readQueueMaxBytes;
+    return this;
+  }
+
+  /**
+   * @return the maximum amount of bytes buffered by all the inbound streams
+   */
+  public long getMaxInboundMemory() {
+    return maxInboundMemory;
+  }
+
+  /**
+   * Set the maximum amount of bytes buffered by all the inbound streams, i.e. received and not yet consumed by the
+   * handlers. When this amount is exceeded the streams buffering the most bytes are paused until the buffered amount
+   * falls below three quarters of this value. The value {@code 0} does not bound the buffered bytes.
+   *
+   * @param maxInboundMemory the amount of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setMaxInboundMemory(long maxInboundMemory) {
+    if (maxInboundMemory < 0) {
+      throw new IllegalArgumentException("Max inbound memory must be >= 0");
+    }
+    this.maxInboundMemory = maxInboundMemory;
+    return this;
+  }
 }
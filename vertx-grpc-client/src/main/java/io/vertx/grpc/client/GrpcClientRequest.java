@@ -46,6 +46,15 @@ public interface GrpcClientRequest<Req, Resp> extends GrpcWriteStream<Req> {
   @Fluent
   GrpcClientRequest<Req, Resp> encoding(String encoding);
 
+  @Fluent
+  GrpcClientRequest<Req, Resp> compressionThreshold(int threshold);
+
+  @Fluent
+  GrpcClientRequest<Req, Resp> compressionRatioThreshold(double ratio);
+
+  @Fluent
+  GrpcClientRequest<Req, Resp> coalesceWrites(boolean coalesce);
+
   @Override
   GrpcClientRequest<Req, Resp> format(WireFormat format);
 
@@ -28,6 +28,8 @@ import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.common.GrpcMessageDecoder;
 import io.vertx.grpc.common.GrpcMessageEncoder;
 import io.vertx.grpc.common.GrpcLocal;
+import io.vertx.grpc.common.MemoryBudget;
+import io.vertx.grpc.common.impl.InboundMemoryBudget;
 
 import java.util.concurrent.TimeUnit;
 
@@ -41,6 +43,12 @@ public class GrpcClientImpl implements GrpcClient {
   private boolean closeClient;
   private final boolean scheduleDeadlineAutomatically;
   private final long maxMessageSize;
+  private final int compressionThreshold;
+  private final double compressionRatioThreshold;
+  private final int readQueueLowWaterMark;
+  private final int readQueueHighWaterMark;
+  private final long readQueueMaxWindow;
+  private final InboundMemoryBudget inboundMemory;
   private final int timeout;
   private final TimeUnit timeoutUnit;
 
@@ -53,6 +61,12 @@ public class GrpcClientImpl implements GrpcClient {
     this.client = client;
     this.scheduleDeadlineAutomatically = grpcOptions.getScheduleDeadlineAutomatically();
     this.maxMessageSize = grpcOptions.getMaxMessageSize();;
+    this.compressionThreshold = grpcOptions.getCompressionThreshold();
+    this.compressionRatioThreshold = grpcOptions.getCompressionRatioThreshold();
+    this.readQueueLowWaterMark = grpcOptions.getReadQueueLowWaterMark();
+    this.readQueueHighWaterMark = grpcOptions.getReadQueueHighWaterMark();
+    this.readQueueMaxWindow = grpcOptions.getAdaptiveReadQueue() ? grpcOptions.getReadQueueMaxBytes() : 0L;
+    this.inboundMemory = grpcOptions.getMaxInboundMemory() > 0L ? new InboundMemoryBudget(grpcOptions.getMaxInboundMemory()) : null;
     this.timeout = grpcOptions.getTimeout();
     this.timeoutUnit = grpcOptions.getTimeoutUnit();
     this.closeClient = close;
@@ -62,6 +76,11 @@ public class GrpcClientImpl implements GrpcClient {
     return vertx;
   }
 
+  @Override
+  public MemoryBudget inboundMemory() {
+    return inboundMemory;
+  }
+
   public Future<GrpcClientRequest<Buffer, Buffer>> request(RequestOptions options) {
     return client.request(options)
       .map(httpRequest -> {
@@ -72,6 +91,10 @@ public class GrpcClientImpl implements GrpcClient {
           GrpcMessageEncoder.IDENTITY,
           GrpcMessageDecoder.IDENTITY);
         grpcRequest.init();
+        grpcRequest.compressionThreshold(compressionThreshold);
+        grpcRequest.compressionRatioThreshold(compressionRatioThreshold);
+        grpcRequest.readQueue(readQueueLowWaterMark, readQueueHighWaterMark, readQueueMaxWindow);
+        grpcRequest.memoryBudget(inboundMemory);
         configureTimeout(grpcRequest);
         return grpcRequest;
       });
@@ -92,7 +115,7 @@ public class GrpcClientImpl implements GrpcClient {
     GrpcLocal local = current.getLocal(GrpcLocal.CONTEXT_LOCAL_KEY);
     long timeout = this.timeout;
     TimeUnit timeoutUnit = this.timeoutUnit;
-    if (local != null) {
+    if (local != null && local.propagate()) {
       timeout = local.deadline().toEpochMilli() - System.currentTimeMillis();
       timeoutUnit = TimeUnit.MILLISECONDS;
       if (timeout < 0L) {
@@ -125,6 +148,10 @@ public class GrpcClientImpl implements GrpcClient {
           method.encoder(),
           method.decoder());
         call.init();
+        call.compressionThreshold(compressionThreshold);
+        call.compressionRatioThreshold(compressionRatioThreshold);
+        call.readQueue(readQueueLowWaterMark, readQueueHighWaterMark, readQueueMaxWindow);
+        call.memoryBudget(inboundMemory);
         call.serviceName(method.serviceName());
         call.methodName(method.methodName());
         configureTimeout(call);
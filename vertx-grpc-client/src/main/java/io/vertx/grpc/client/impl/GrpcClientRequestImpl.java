@@ -17,7 +17,9 @@ import io.vertx.core.Timer;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientRequest;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -29,8 +31,12 @@ import io.vertx.grpc.client.GrpcClientRequest;
 import io.vertx.grpc.client.GrpcClientResponse;
 import io.vertx.grpc.common.GrpcErrorException;
 import io.vertx.grpc.common.*;
+import io.vertx.grpc.common.impl.CompressorRegistry;
+import io.vertx.grpc.common.impl.DeadlineWheel;
 import io.vertx.grpc.common.impl.GrpcMessageImpl;
+import io.vertx.grpc.common.impl.GrpcReadStreamBase;
 import io.vertx.grpc.common.impl.GrpcWriteStreamBase;
+import io.vertx.grpc.common.impl.InboundMemoryBudget;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -45,7 +51,12 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
   private long timeout;
   private TimeUnit timeoutUnit;
   private String timeoutHeader;
+  private DeadlineWheel.Deadline deadlineTimeout;
   private Timer deadline;
+  private int readQueueLowWaterMark = GrpcReadStreamBase.DEFAULT_LOW_WATER_MARK;
+  private int readQueueHighWaterMark = GrpcReadStreamBase.DEFAULT_HIGH_WATER_MARK;
+  private long readQueueMaxWindow;
+  private InboundMemoryBudget inboundMemory;
 
   public GrpcClientRequestImpl(HttpClientRequest httpRequest,
                                long maxMessageSize,
@@ -84,6 +95,8 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
             status,
             httpResponse,
             messageDecoder);
+          grpcResponse.readQueue(readQueueLowWaterMark, readQueueHighWaterMark, readQueueMaxWindow);
+          grpcResponse.memoryBudget(inboundMemory);
           grpcResponse.init(this, maxMessageSize);
           grpcResponse.invalidMessageHandler(invalidMsg -> {
             cancel();
@@ -101,6 +114,22 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
       });
   }
 
+  /**
+   * Configure the inbound message queue of the response, see {@link GrpcReadStreamBase#readQueue(int, int, long)}.
+   */
+  public void readQueue(int lowWaterMark, int highWaterMark, long maxWindow) {
+    this.readQueueLowWaterMark = lowWaterMark;
+    this.readQueueHighWaterMark = highWaterMark;
+    this.readQueueMaxWindow = maxWindow;
+  }
+
+  /**
+   * Account the bytes buffered by the response in a budget, see {@link GrpcReadStreamBase#memoryBudget(InboundMemoryBudget)}.
+   */
+  public void memoryBudget(InboundMemoryBudget budget) {
+    this.inboundMemory = budget;
+  }
+
   @Override
   protected Future<Void> sendHead() {
     return httpRequest.sendHead();
@@ -152,6 +181,12 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
 
   @Override
   public Timer deadline() {
+    DeadlineWheel.Deadline timeout = deadlineTimeout;
+    if (timeout != null) {
+      // The deadline is tracked by the wheel until it is requested as a timer
+      deadlineTimeout = null;
+      deadline = timeout.toTimer();
+    }
     return deadline;
   }
 
@@ -185,14 +220,12 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
     if (encoding != null) {
       httpRequest.putHeader(GrpcHeaderNames.GRPC_ENCODING, encoding);
     }
-    httpRequest.putHeader(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, "gzip");
+    httpRequest.putHeader(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, CompressorRegistry.DEFAULT.acceptEncoding());
     httpRequest.putHeader(HttpHeaderNames.TE, "trailers");
     httpRequest.setChunked(true);
     httpRequest.setURI(uri);
     if (scheduleDeadline && timeout > 0L) {
-      Timer timer = context.timer(timeout, timeoutUnit);
-      deadline = timer;
-      timer.onSuccess(v -> {
+      deadlineTimeout = DeadlineWheel.schedule(context, timeout, timeoutUnit, v -> {
         cancel();
       });
     }
@@ -203,8 +236,17 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
   }
 
   @Override
-  protected Future<Void> sendMessage(Buffer message, boolean compressed) {
-    return httpRequest.write(GrpcMessageImpl.encode(message, compressed, false));
+  protected Future<Void> sendMessage(GrpcMessage message) {
+    return httpRequest.write(GrpcMessageImpl.encode(message, false));
+  }
+
+  @Override
+  protected Future<Void> sendMessages(List<GrpcMessage> messages) {
+    List<Buffer> frames = new ArrayList<>(messages.size());
+    for (GrpcMessage message : messages) {
+      frames.add(GrpcMessageImpl.encode(message, false));
+    }
+    return httpRequest.write(aggregate(frames));
   }
 
   @Override
@@ -212,7 +254,16 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
     return httpRequest.end();
   }
 
+  @Override
+  protected Future<Void> sendEnd(GrpcMessage message) {
+    return httpRequest.end(GrpcMessageImpl.encode(message, false));
+  }
+
   void cancelTimeout() {
+    DeadlineWheel.Deadline timeout = deadlineTimeout;
+    if (timeout != null && timeout.cancel()) {
+      deadlineTimeout = null;
+    }
     Timer timer = deadline;
     if (timer != null && timer.cancel()) {
       deadline = null;
@@ -227,7 +278,14 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
   protected boolean sendCancel() {
     httpRequest
       .reset(GrpcError.CANCELLED.http2ResetCode)
-      .onSuccess(v -> handleError(GrpcError.CANCELLED));
+      .onSuccess(v -> {
+        handleError(GrpcError.CANCELLED);
+        GrpcClientResponse<Req, Resp> grpcResponse = response != null ? response.result() : null;
+        if (grpcResponse != null) {
+          // The messages queued by the response are discarded
+          ((GrpcClientResponseImpl<Req, Resp>) grpcResponse).releaseMemory();
+        }
+      });
     return true;
   }
 
@@ -217,6 +217,42 @@ public class ClientRequestTest extends ClientTest {
       }));
   }
 
+  @Test
+  public void testReadQueueWaterMarks(TestContext should) throws IOException {
+    testReadQueue(should, new GrpcClientOptions().setReadQueueLowWaterMark(1).setReadQueueHighWaterMark(2));
+  }
+
+  @Test
+  public void testAdaptiveReadQueue(TestContext should) throws IOException {
+    testReadQueue(should, new GrpcClientOptions()
+      .setReadQueueHighWaterMark(1000)
+      .setAdaptiveReadQueue(true)
+      .setReadQueueMaxBytes(256));
+  }
+
+  private void testReadQueue(TestContext should, GrpcClientOptions options) throws IOException {
+
+    super.testServerStreaming(should);
+
+    Async test = should.async();
+    client = GrpcClient.client(vertx, options);
+    client.request(SocketAddress.inetSocketAddress(port, "localhost"), SOURCE)
+      .onComplete(should.asyncAssertSuccess(callRequest -> {
+        callRequest.response().onComplete(should.asyncAssertSuccess(callResponse -> {
+          AtomicInteger count = new AtomicInteger();
+          callResponse.pause();
+          callResponse.handler(item -> count.incrementAndGet());
+          callResponse.endHandler(v -> {
+            should.assertEquals(NUM_ITEMS, count.get());
+            should.assertTrue(callResponse.inboundPauseCount() > 0);
+            test.complete();
+          });
+          vertx.setTimer(100, id -> callResponse.resume());
+        }));
+        callRequest.end(Empty.getDefaultInstance());
+      }));
+  }
+
   @Override
   public void testClientStreaming(TestContext should) throws Exception {
 
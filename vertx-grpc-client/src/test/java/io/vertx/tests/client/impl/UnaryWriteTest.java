@@ -0,0 +1,102 @@
+package io.vertx.tests.client.impl;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.PromiseInternal;
+import io.vertx.grpc.client.GrpcClientOptions;
+import io.vertx.grpc.client.impl.GrpcClientRequestImpl;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Counts the writes performed on the HTTP request for unary and streaming requests.
+ */
+public class UnaryWriteTest {
+
+  private Vertx vertx;
+  private List<String> writes;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    writes = new ArrayList<>();
+  }
+
+  @After
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  private GrpcClientRequestImpl<Buffer, Buffer> request() {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    PromiseInternal<HttpClientResponse> response = context.promise();
+    MultiMap headers = HttpHeaders.headers();
+    HttpClientRequest httpRequest = (HttpClientRequest) Proxy.newProxyInstance(HttpClientRequest.class.getClassLoader(), new Class[]{HttpClientRequest.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "response":
+          return response;
+        case "headers":
+          return headers;
+        case "write":
+        case "end":
+        case "sendHead":
+          writes.add(method.getName() + (args == null ? "()" : "(Buffer)"));
+          return context.succeededFuture();
+        default:
+          if (method.getReturnType() == HttpClientRequest.class) {
+            return proxy;
+          } else if (method.getReturnType() == boolean.class) {
+            return false;
+          }
+          return null;
+      }
+    });
+    GrpcClientRequestImpl<Buffer, Buffer> request = new GrpcClientRequestImpl<>(
+      httpRequest,
+      GrpcClientOptions.DEFAULT_MAX_MESSAGE_SIZE,
+      false,
+      GrpcMessageEncoder.IDENTITY,
+      GrpcMessageDecoder.IDENTITY);
+    request.init();
+    request.fullMethodName("io.vertx.tests.TestService/Unary");
+    return request;
+  }
+
+  @Test
+  public void testUnary() {
+    request().end(Buffer.buffer("hello"));
+    assertEquals(Arrays.asList("end(Buffer)"), writes);
+  }
+
+  @Test
+  public void testUnaryAfterHead() {
+    GrpcClientRequestImpl<Buffer, Buffer> request = request();
+    request.writeHead();
+    request.end(Buffer.buffer("hello"));
+    assertEquals(Arrays.asList("sendHead()", "end(Buffer)"), writes);
+  }
+
+  @Test
+  public void testStreaming() {
+    GrpcClientRequestImpl<Buffer, Buffer> request = request();
+    request.write(Buffer.buffer("hello"));
+    request.write(Buffer.buffer("world"));
+    request.end();
+    assertEquals(Arrays.asList("write(Buffer)", "write(Buffer)", "end()"), writes);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A message compressor, identified by its {@code grpc-encoding} name.
+ *
+ * <p>The {@code gzip} and {@code deflate} compressors are built in, additional compressors are discovered with
+ * {@link java.util.ServiceLoader}. Servers and clients advertise the encodings of the available compressors in the
+ * {@code grpc-accept-encoding} header.</p>
+ *
+ * <p>Implementations must be thread safe.</p>
+ */
+public interface GrpcCompressor {
+
+  /**
+   * @return the encoding name, e.g. {@code gzip}
+   */
+  String encoding();
+
+  /**
+   * Compress {@code data}.
+   *
+   * @param data the data to compress
+   * @return the compressed data
+   */
+  Buffer compress(Buffer data) throws CodecException;
+
+  /**
+   * Decompress {@code data}.
+   *
+   * @param data the data to decompress
+   * @return the decompressed data
+   * @throws CodecException when {@code data} is not valid
+   */
+  Buffer decompress(Buffer data) throws CodecException;
+
+  /**
+   * Decompress {@code data}, failing when the decompressed data exceeds {@code maxSize} bytes.
+   *
+   * <p>The default implementation checks the size once {@code data} is decompressed, implementations should override it
+   * to stop decompressing as soon as the limit is exceeded.
+   *
+   * @param data the data to decompress
+   * @param maxSize the maximum size of the decompressed data
+   * @return the decompressed data
+   * @throws CodecException when {@code data} is not valid or decompresses to more than {@code maxSize} bytes
+   */
+  default Buffer decompress(Buffer data, long maxSize) throws CodecException {
+    Buffer decompressed = decompress(data);
+    if (decompressed.length() > maxSize) {
+      throw new CodecException("Decompressed message exceeds " + maxSize + " bytes");
+    }
+    return decompressed;
+  }
+
+}
@@ -51,4 +51,10 @@ public final class GrpcHeaderNames {
    * The value is base64 encoded.
    */
   public static final AsciiString GRPC_STATUS_DETAILS_BIN = AsciiString.cached("grpc-status-details-bin");
+
+  /**
+   * Trailer asking the client to wait the specified amount of milliseconds before retrying a call.
+   * A negative value or an invalid value indicates the client should not retry.
+   */
+  public static final AsciiString GRPC_RETRY_PUSHBACK_MS = AsciiString.cached("grpc-retry-pushback-ms");
 }
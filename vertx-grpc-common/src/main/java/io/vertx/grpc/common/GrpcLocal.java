@@ -29,10 +29,20 @@ public class GrpcLocal {
   public static final ContextLocal<GrpcLocal> CONTEXT_LOCAL_KEY = GrpcRequestLocalRegistration.CONTEXT_LOCAL;
 
   private final long deadlineMillis;
+  private final boolean propagate;
   private Instant deadline;
 
   public GrpcLocal(long deadlineMillis) {
+    this(deadlineMillis, true);
+  }
+
+  /**
+   * @param deadlineMillis the deadline in milliseconds since the epoch
+   * @param propagate whether the deadline is propagated to the client requests created with this local
+   */
+  public GrpcLocal(long deadlineMillis, boolean propagate) {
     this.deadlineMillis = deadlineMillis;
+    this.propagate = propagate;
   }
 
   /**
@@ -59,4 +69,26 @@ public class GrpcLocal {
     }
     return deadline;
   }
+
+  /**
+   * @return the remaining budget of the call in milliseconds, this accounts for the time the call spent queued, a value
+   *         {@code <= 0} means the deadline has expired
+   */
+  public long remaining() {
+    return deadlineMillis - System.currentTimeMillis();
+  }
+
+  /**
+   * @return whether the deadline has expired
+   */
+  public boolean isExpired() {
+    return remaining() <= 0L;
+  }
+
+  /**
+   * @return whether the deadline is propagated to the client requests created with this local
+   */
+  public boolean propagate() {
+    return propagate;
+  }
 }
@@ -10,18 +10,17 @@
  */
 package io.vertx.grpc.common;
 
-import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.google.protobuf.MessageOrBuilder;
 import com.google.protobuf.Parser;
-import com.google.protobuf.util.JsonFormat;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.JsonArray;
+import io.vertx.grpc.common.impl.ProtobufJsonCodec;
+import io.vertx.grpc.common.impl.ProtobufMessageDecoder;
 
-import java.nio.charset.StandardCharsets;
 import java.util.function.Supplier;
 
 public interface GrpcMessageDecoder<T> {
@@ -32,35 +31,22 @@ public interface GrpcMessageDecoder<T> {
    * @return the message decoder
    */
   static <T> GrpcMessageDecoder<T> decoder(MessageOrBuilder messageOrBuilder) {
-    Message dit = messageOrBuilder.getDefaultInstanceForType();
-    Parser<T> parser = (Parser<T>) dit.getParserForType();
-    return new GrpcMessageDecoder<>() {
-      @Override
-      public T decode(GrpcMessage msg) throws CodecException {
-        switch (msg.format()) {
-          case PROTOBUF:
-            try {
-              return parser.parseFrom(msg.payload().getBytes());
-            } catch (InvalidProtocolBufferException e) {
-              throw new CodecException(e);
-            }
-          case JSON:
-            try {
-              Message.Builder builder = dit.toBuilder();
-              JsonFormat.parser().merge(msg.payload().toString(StandardCharsets.UTF_8), builder);
-              return (T) builder.build();
-            } catch (InvalidProtocolBufferException e) {
-              throw new CodecException(e);
-            }
-          default:
-            throw new IllegalArgumentException("Invalid wire format: " + msg.format());
-        }
-      }
-      @Override
-      public boolean accepts(WireFormat format) {
-        return true;
-      }
-    };
+    return decoder(messageOrBuilder, false);
+  }
+
+  /**
+   * Create a decoder for a given protobuf {@link Parser}.
+   *
+   * <p>Protobuf messages are parsed in place from the payload buffer. When {@code aliasing} is enabled, the
+   * {@code bytes} fields of decoded messages reference the received payload instead of a copy of it, which avoids
+   * copying large blobs but retains the payload in memory as long as the decoded message is reachable.</p>
+   *
+   * @param messageOrBuilder the message or builder instance that returns decoded messages of type {@code <T>}
+   * @param aliasing whether {@code bytes} fields reference the payload
+   * @return the message decoder
+   */
+  static <T> GrpcMessageDecoder<T> decoder(MessageOrBuilder messageOrBuilder, boolean aliasing) {
+    return new ProtobufMessageDecoder<>(messageOrBuilder.getDefaultInstanceForType(), aliasing);
   }
 
   GrpcMessageDecoder<Buffer> IDENTITY = new GrpcMessageDecoder<>() {
@@ -83,13 +69,7 @@ public interface GrpcMessageDecoder<T> {
     return new GrpcMessageDecoder<>() {
       @Override
       public T decode(GrpcMessage msg) throws CodecException {
-        try {
-          Message.Builder builderInstance = builder.get();
-          JsonFormat.parser().merge(msg.payload().toString(StandardCharsets.UTF_8), builderInstance);
-          return (T) builderInstance.build();
-        } catch (InvalidProtocolBufferException e) {
-          throw new CodecException(e);
-        }
+        return (T) ProtobufJsonCodec.decode(msg.payload(), builder.get()).build();
       }
       @Override
       public boolean accepts(WireFormat format) {
@@ -1,13 +1,13 @@
 package io.vertx.grpc.common;
 
-import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.MessageLite;
 import com.google.protobuf.MessageOrBuilder;
-import com.google.protobuf.util.JsonFormat;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
+import io.vertx.grpc.common.impl.GrpcMessageImpl;
+import io.vertx.grpc.common.impl.ProtobufJsonCodec;
 
 public interface GrpcMessageEncoder<T> {
 
@@ -22,17 +22,11 @@ public interface GrpcMessageEncoder<T> {
       public GrpcMessage encode(T msg, WireFormat format) throws CodecException {
         switch (format) {
           case PROTOBUF:
-            byte[] bytes = msg.toByteArray();
-            return GrpcMessage.message("identity", Buffer.buffer(bytes));
+            return GrpcMessageImpl.protobuf(msg);
           case JSON:
             if (msg instanceof MessageOrBuilder) {
               MessageOrBuilder mob = (MessageOrBuilder) msg;
-              try {
-                String res = JsonFormat.printer().print(mob);
-                return GrpcMessage.message("identity", WireFormat.JSON, Buffer.buffer(res));
-              } catch (InvalidProtocolBufferException e) {
-                throw new CodecException(e);
-              }
+              return GrpcMessage.message("identity", WireFormat.JSON, ProtobufJsonCodec.encode(mob));
             }
             return GrpcMessage.message(
               "identity",
@@ -72,12 +66,7 @@ public interface GrpcMessageEncoder<T> {
       public GrpcMessage encode(T msg, WireFormat format) throws CodecException {
         if (msg instanceof MessageOrBuilder) {
           MessageOrBuilder mob = (MessageOrBuilder) msg;
-          try {
-            String res = JsonFormat.printer().print(mob);
-            return GrpcMessage.message("identity", WireFormat.JSON, Buffer.buffer(res));
-          } catch (InvalidProtocolBufferException e) {
-            throw new CodecException(e);
-          }
+          return GrpcMessage.message("identity", WireFormat.JSON, ProtobufJsonCodec.encode(mob));
         }
         return GrpcMessage.message(
           "identity",
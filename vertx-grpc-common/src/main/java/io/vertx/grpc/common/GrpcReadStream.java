@@ -59,6 +59,13 @@ public interface GrpcReadStream<T> extends ReadStream<T> {
   @Fluent
   GrpcReadStream<T> errorHandler(@Nullable Handler<GrpcError> handler);
 
+  /**
+   * @return the number of times the transport was paused because the inbound message queue was full
+   */
+  default long inboundPauseCount() {
+    return 0L;
+  }
+
   @Override
   GrpcReadStream<T> exceptionHandler(@Nullable Handler<Throwable> handler);
 
@@ -8,6 +8,8 @@ import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.streams.WriteStream;
 
+import java.util.List;
+
 @VertxGen
 public interface GrpcWriteStream<T> extends WriteStream<T> {
 
@@ -27,6 +29,31 @@ public interface GrpcWriteStream<T> extends WriteStream<T> {
   @Fluent
   GrpcWriteStream<T> encoding(String encoding);
 
+  /**
+   * Set the minimum size in bytes of a message payload to be compressed, smaller messages are sent uncompressed
+   * even when the stream {@link #encoding(String) encoding} compresses messages.
+   *
+   * The default value is {@code 0}, i.e. all messages are compressed.
+   *
+   * @param threshold the size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  GrpcWriteStream<T> compressionThreshold(int threshold);
+
+  /**
+   * Set the maximum ratio between the compressed size and the uncompressed size of a message payload, a message whose
+   * compressed payload exceeds this ratio is sent uncompressed and the following messages are sent uncompressed
+   * until the payload compressibility is sampled again.
+   *
+   * The default value is {@code 0}, i.e. the compressibility is not checked.
+   *
+   * @param ratio the ratio, between {@code 0} and {@code 1}
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  GrpcWriteStream<T> compressionRatioThreshold(double ratio);
+
   /**
    * Set the stream format, e.g. {@code proto} or {@code json}.
    *
@@ -47,6 +74,40 @@ public interface GrpcWriteStream<T> extends WriteStream<T> {
   @Override
   GrpcWriteStream<T> drainHandler(@Nullable Handler<Void> handler);
 
+  /**
+   * Set whether the messages written during the same context task are coalesced: the messages are framed together
+   * and sent to the transport with a single write after the task, the returned futures are completed with the result
+   * of this write. Ending the stream sends the coalesced messages first, checking {@link #writeQueueFull()} sends them
+   * to the transport so they are accounted by the transport write queue.
+   *
+   * Only the messages written on the stream context thread are coalesced, e.g. the messages written by a worker or a
+   * virtual thread are written to the transport.
+   *
+   * The default value is {@code false}, i.e. each message is written to the transport.
+   *
+   * @param coalesce whether to coalesce writes
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  GrpcWriteStream<T> coalesceWrites(boolean coalesce);
+
+  /**
+   * Write several messages, the messages are framed together and sent to the transport with a single write.
+   *
+   * @param messages the messages
+   * @return a future completed with the result
+   */
+  Future<Void> writeAll(List<T> messages);
+
+  /**
+   * Write several encoded gRPC messages, the messages are framed together and sent to the transport with a single
+   * write.
+   *
+   * @param messages the messages
+   * @return a future completed with the result
+   */
+  Future<Void> writeMessages(List<GrpcMessage> messages);
+
   /**
    * Write an encoded gRPC message.
    *
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.Unstable;
+
+/**
+ * The budget of the bytes buffered by the inbound streams of a server or a client, i.e. received and not yet consumed.
+ *
+ * <p>When the budget is exhausted the streams holding the most bytes are paused until enough memory is released, this
+ * gives a view on the budget metrics.</p>
+ */
+@Unstable
+@GenIgnore(GenIgnore.PERMITTED_TYPE)
+public interface MemoryBudget {
+
+  /**
+   * @return the maximum number of bytes buffered before streams are paused
+   */
+  long limit();
+
+  /**
+   * @return the number of bytes currently buffered
+   */
+  long used();
+
+  /**
+   * @return the number of streams currently paused by the budget
+   */
+  int pausedStreams();
+
+  /**
+   * @return the number of times a stream was paused by the budget
+   */
+  long pauseCount();
+
+}
@@ -40,6 +40,16 @@ public interface ServiceMethod<I, O> {
   }
 
   static <Req, Resp> ServiceMethod<Req, Resp> server(ServiceName serviceName, String methodName, GrpcMessageEncoder<Resp> encoder, GrpcMessageDecoder<Req> decoder) {
+    return server(serviceName, methodName, encoder, decoder, false);
+  }
+
+  /**
+   * Create a server service method.
+   *
+   * @param unaryRequest whether a call carries a single request message, this lets the server read the request
+   *                     without queueing its messages
+   */
+  static <Req, Resp> ServiceMethod<Req, Resp> server(ServiceName serviceName, String methodName, GrpcMessageEncoder<Resp> encoder, GrpcMessageDecoder<Req> decoder, boolean unaryRequest) {
     return new ServiceMethod<>() {
       @Override
       public ServiceName serviceName() {
@@ -57,6 +67,10 @@ public interface ServiceMethod<I, O> {
       public GrpcMessageEncoder<Resp> encoder() {
         return encoder;
       }
+      @Override
+      public boolean unaryRequest() {
+        return unaryRequest;
+      }
     };
   }
 
@@ -84,4 +98,11 @@ public interface ServiceMethod<I, O> {
    */
   GrpcMessageEncoder<O> encoder();
 
+  /**
+   * @return whether a call of this method carries a single request message, {@code false} when unknown
+   */
+  default boolean unaryRequest() {
+    return false;
+  }
+
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.grpc.common.GrpcCompressor;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * The compressors available to servers and clients: the built-in {@code gzip} and {@code deflate} compressors
+ * followed by the compressors discovered with {@link ServiceLoader}, a discovered compressor replaces a built-in
+ * compressor with the same encoding.
+ */
+public final class CompressorRegistry {
+
+  private static final Logger log = LoggerFactory.getLogger(CompressorRegistry.class);
+
+  public static final String IDENTITY = "identity";
+
+  public static final CompressorRegistry DEFAULT = load();
+
+  private static CompressorRegistry load() {
+    Map<String, GrpcCompressor> compressors = new LinkedHashMap<>();
+    compressors.put(GzipCodec.INSTANCE.encoding(), GzipCodec.INSTANCE);
+    compressors.put(DeflateCodec.INSTANCE.encoding(), DeflateCodec.INSTANCE);
+    ServiceLoader<GrpcCompressor> loader = ServiceLoader.load(GrpcCompressor.class, CompressorRegistry.class.getClassLoader());
+    Iterator<GrpcCompressor> it = loader.iterator();
+    while (true) {
+      GrpcCompressor compressor;
+      try {
+        if (!it.hasNext()) {
+          break;
+        }
+        compressor = it.next();
+      } catch (ServiceConfigurationError | LinkageError e) {
+        // Usually an optional compression library is missing, the loader can still iterate the next providers
+        log.debug("Could not load compressor", e);
+        continue;
+      }
+      compressors.put(compressor.encoding(), compressor);
+    }
+    return new CompressorRegistry(compressors);
+  }
+
+  private final Map<String, GrpcCompressor> compressors;
+  private final String acceptEncoding;
+
+  public CompressorRegistry(Map<String, GrpcCompressor> compressors) {
+    this.compressors = Collections.unmodifiableMap(new LinkedHashMap<>(compressors));
+    this.acceptEncoding = String.join(",", this.compressors.keySet());
+  }
+
+  /**
+   * @return the compressor for the {@code encoding} or {@code null} when there is none
+   */
+  public GrpcCompressor lookup(String encoding) {
+    return compressors.get(encoding);
+  }
+
+  /**
+   * @return whether messages using the {@code encoding} can be processed
+   */
+  public boolean supports(String encoding) {
+    return IDENTITY.equals(encoding) || compressors.containsKey(encoding);
+  }
+
+  /**
+   * @return the {@code grpc-accept-encoding} header value advertising the available compressors
+   */
+  public String acceptEncoding() {
+    return acceptEncoding;
+  }
+
+  /**
+   * Check whether a {@code grpc-accept-encoding} header value contains an {@code encoding}.
+   *
+   * @param acceptEncoding the comma separated list of encodings
+   * @param encoding the encoding to check
+   * @return whether the list contains the encoding
+   */
+  public static boolean accepts(String acceptEncoding, String encoding) {
+    int len = acceptEncoding.length();
+    int from = 0;
+    while (from < len) {
+      int to = acceptEncoding.indexOf(',', from);
+      if (to == -1) {
+        to = len;
+      }
+      int start = from;
+      int end = to;
+      while (start < end && acceptEncoding.charAt(start) == ' ') {
+        start++;
+      }
+      while (end > start && acceptEncoding.charAt(end - 1) == ' ') {
+        end--;
+      }
+      if (end - start == encoding.length() && acceptEncoding.regionMatches(true, start, encoding, 0, end - start)) {
+        return true;
+      }
+      from = to + 1;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.vertx.core.Handler;
+import io.vertx.core.Timer;
+import io.vertx.core.internal.ContextInternal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A coarse-grained hashed timer wheel per event-loop, used for call deadlines.
+ *
+ * <p>Scheduling and cancelling a deadline are {@code O(1)} and do not touch the event-loop scheduler, a single task
+ * advances the wheel every {@link #TICK_MILLIS} milliseconds while the wheel holds deadlines. Deadlines expire at
+ * the end of the tick containing them, i.e. at most one tick late.</p>
+ *
+ * <p>The wheel is only accessed from its event-loop thread, deadlines scheduled from another thread are added by a task
+ * executed on the event-loop. A deadline cancelled from another thread releases its handler immediately and is removed
+ * by a task executed on the event-loop.</p>
+ */
+public final class DeadlineWheel {
+
+  public static final long TICK_MILLIS = 10L;
+
+  private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+  private static final int WHEEL_SIZE = 512;
+  private static final int MASK = WHEEL_SIZE - 1;
+
+  private static final FastThreadLocal<DeadlineWheel> WHEELS = new FastThreadLocal<>();
+
+  /**
+   * Schedule {@code handler} to be called on {@code context} after {@code delay}.
+   *
+   * @param context the context calling the handler, the deadline is tracked by the wheel of its event-loop
+   * @param delay the delay
+   * @param unit the delay unit
+   * @param handler the handler
+   * @return the scheduled deadline
+   */
+  public static Deadline schedule(ContextInternal context, long delay, TimeUnit unit, Handler<Void> handler) {
+    Deadline deadline = new Deadline(context, System.nanoTime() + unit.toNanos(delay), handler);
+    EventLoop eventLoop = context.nettyEventLoop();
+    if (eventLoop.inEventLoop()) {
+      wheel(eventLoop).add(deadline);
+    } else {
+      eventLoop.execute(() -> wheel(eventLoop).add(deadline));
+    }
+    return deadline;
+  }
+
+  private static DeadlineWheel wheel(EventLoop eventLoop) {
+    DeadlineWheel wheel = WHEELS.getIfExists();
+    if (wheel == null) {
+      wheel = new DeadlineWheel(eventLoop);
+      WHEELS.set(wheel);
+    }
+    return wheel;
+  }
+
+  private final EventLoop eventLoop;
+  private final Deadline[] buckets = new Deadline[WHEEL_SIZE];
+  private final long origin = System.nanoTime();
+  private long currentTick;
+  private int size;
+  private boolean ticking;
+
+  private DeadlineWheel(EventLoop eventLoop) {
+    this.eventLoop = eventLoop;
+  }
+
+  private long tickOf(long nanos) {
+    return (nanos - origin) / TICK_NANOS;
+  }
+
+  private void add(Deadline deadline) {
+    if (deadline.state != Deadline.PENDING) {
+      return;
+    }
+    if (!ticking) {
+      // Skip the buckets elapsed while the wheel was idle
+      currentTick = tickOf(System.nanoTime());
+      ticking = true;
+      eventLoop.schedule(this::tick, TICK_NANOS, TimeUnit.NANOSECONDS);
+    }
+    // The deadline expires when the wheel has gone past the tick containing it
+    long tick = Math.max(tickOf(deadline.deadlineNanos), currentTick) + 1;
+    int idx = (int) (tick & MASK);
+    Deadline head = buckets[idx];
+    deadline.tick = tick;
+    deadline.wheel = this;
+    deadline.next = head;
+    if (head != null) {
+      head.prev = deadline;
+    }
+    buckets[idx] = deadline;
+    size++;
+  }
+
+  private void remove(Deadline deadline) {
+    Deadline prev = deadline.prev;
+    Deadline next = deadline.next;
+    if (prev != null) {
+      prev.next = next;
+    } else {
+      buckets[(int) (deadline.tick & MASK)] = next;
+    }
+    if (next != null) {
+      next.prev = prev;
+    }
+    deadline.prev = null;
+    deadline.next = null;
+    deadline.wheel = null;
+    size--;
+  }
+
+  private void tick() {
+    long now = tickOf(System.nanoTime());
+    // After a long pause of the event-loop, each bucket is visited once
+    long from = Math.max(currentTick + 1, now - MASK);
+    // Deadlines added by the expired handlers are placed after the current tick
+    currentTick = now;
+    for (long tick = from; tick <= now; tick++) {
+      Deadline deadline = buckets[(int) (tick & MASK)];
+      while (deadline != null) {
+        Deadline next = deadline.next;
+        if (deadline.state != Deadline.PENDING) {
+          remove(deadline);
+        } else if (deadline.tick <= now) {
+          remove(deadline);
+          deadline.expire();
+        }
+        deadline = next;
+      }
+    }
+    if (size > 0) {
+      eventLoop.schedule(this::tick, TICK_NANOS, TimeUnit.NANOSECONDS);
+    } else {
+      ticking = false;
+    }
+  }
+
+  /**
+   * A deadline scheduled on a wheel.
+   */
+  public static final class Deadline {
+
+    private static final int PENDING = 0;
+    private static final int EXPIRED = 1;
+    private static final int CANCELLED = 2;
+
+    private static final AtomicIntegerFieldUpdater<Deadline> STATE = AtomicIntegerFieldUpdater.newUpdater(Deadline.class, "state");
+
+    private final ContextInternal context;
+    private final long deadlineNanos;
+    private Handler<Void> handler;
+    private volatile int state;
+
+    // Event-loop confined
+    private DeadlineWheel wheel;
+    private Deadline prev;
+    private Deadline next;
+    private long tick;
+
+    private Deadline(ContextInternal context, long deadlineNanos, Handler<Void> handler) {
+      this.context = context;
+      this.deadlineNanos = deadlineNanos;
+      this.handler = handler;
+    }
+
+    private void expire() {
+      if (STATE.compareAndSet(this, PENDING, EXPIRED)) {
+        if (context.isEventLoopContext()) {
+          context.dispatch(null, handler);
+        } else {
+          context.runOnContext(handler);
+        }
+      }
+    }
+
+    /**
+     * @return the remaining delay before the deadline expires in {@code unit}, a value {@code <= 0} when it is due
+     */
+    public long delay(TimeUnit unit) {
+      return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Cancel the deadline.
+     *
+     * @return whether the deadline was pending
+     */
+    public boolean cancel() {
+      if (STATE.compareAndSet(this, PENDING, CANCELLED)) {
+        // Do not retain the call until the deadline is removed
+        handler = null;
+        EventLoop eventLoop = context.nettyEventLoop();
+        if (eventLoop.inEventLoop()) {
+          unlink();
+        } else {
+          eventLoop.execute(this::unlink);
+        }
+        return true;
+      }
+      return false;
+    }
+
+    private void unlink() {
+      DeadlineWheel w = wheel;
+      if (w != null) {
+        w.remove(this);
+      }
+    }
+
+    /**
+     * Move a pending deadline from the wheel to a context {@link Timer}, for the APIs exposing the deadline as a timer.
+     *
+     * @return the timer replacing this deadline, when the deadline is not pending anymore the timer fires immediately
+     *         without calling the handler
+     */
+    public Timer toTimer() {
+      Handler<Void> h = handler;
+      if (cancel()) {
+        Timer timer = context.timer(Math.max(1L, delay(TimeUnit.MILLISECONDS)), TimeUnit.MILLISECONDS);
+        timer.onSuccess(h);
+        return timer;
+      }
+      return context.timer(1L, TimeUnit.MILLISECONDS);
+    }
+  }
+}
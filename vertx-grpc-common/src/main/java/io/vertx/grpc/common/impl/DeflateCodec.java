@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate codec using the ZLIB (RFC 1950) format, like {@link GzipCodec} it reuses a {@link Deflater} /
+ * {@link Inflater} per thread.
+ */
+public final class DeflateCodec implements GrpcCompressor {
+
+  public static final DeflateCodec INSTANCE = new DeflateCodec();
+
+  private static final int MAX_INITIAL_CAPACITY = 64 * 1024;
+
+  private static final FastThreadLocal<Deflater> DEFLATER = new FastThreadLocal<>() {
+    @Override
+    protected Deflater initialValue() {
+      return new Deflater(Deflater.DEFAULT_COMPRESSION);
+    }
+    @Override
+    protected void onRemoval(Deflater deflater) {
+      deflater.end();
+    }
+  };
+
+  private static final FastThreadLocal<Inflater> INFLATER = new FastThreadLocal<>() {
+    @Override
+    protected Inflater initialValue() {
+      return new Inflater();
+    }
+    @Override
+    protected void onRemoval(Inflater inflater) {
+      inflater.end();
+    }
+  };
+
+  private DeflateCodec() {
+  }
+
+  @Override
+  public String encoding() {
+    return "deflate";
+  }
+
+  @Override
+  public Buffer compress(Buffer data) throws CodecException {
+    ByteBuf in = ((BufferInternal) data).getByteBuf();
+    // Account for the 2 bytes header and the 4 bytes adler32 trailer
+    ByteBuf out = Unpooled.buffer(Math.min(GzipCodec.deflateBound(in.readableBytes()) + 6, MAX_INITIAL_CAPACITY));
+    Deflater deflater = DEFLATER.get();
+    deflater.reset();
+    try {
+      for (ByteBuffer nio : in.nioBuffers()) {
+        deflater.setInput(nio);
+        while (!deflater.needsInput()) {
+          GzipCodec.deflate(deflater, out);
+        }
+      }
+      deflater.finish();
+      while (!deflater.finished()) {
+        GzipCodec.deflate(deflater, out);
+      }
+    } finally {
+      // Release the reference on the input
+      deflater.reset();
+    }
+    return BufferInternal.buffer(out);
+  }
+
+  @Override
+  public Buffer decompress(Buffer data) throws CodecException {
+    return decompress(data, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public Buffer decompress(Buffer data, long maxSize) throws CodecException {
+    int limit = GzipCodec.limit(maxSize);
+    ByteBuf in = ((BufferInternal) data).getByteBuf();
+    ByteBuf out = Unpooled.buffer(GzipCodec.initialCapacity(in.readableBytes(), limit));
+    Inflater inflater = INFLATER.get();
+    inflater.reset();
+    try {
+      for (ByteBuffer nio : in.nioBuffers()) {
+        inflater.setInput(nio);
+        GzipCodec.inflate(inflater, out, limit);
+        if (inflater.finished()) {
+          break;
+        }
+      }
+      if (!inflater.finished()) {
+        throw new CodecException("Truncated deflate input");
+      }
+    } catch (DataFormatException e) {
+      throw new CodecException(e);
+    } finally {
+      // Release the reference on the input
+      inflater.reset();
+    }
+    return BufferInternal.buffer(out);
+  }
+}
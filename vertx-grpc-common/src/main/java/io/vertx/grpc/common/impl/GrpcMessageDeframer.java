@@ -25,4 +25,11 @@ public interface GrpcMessageDeframer {
 
   Object next();
 
+  /**
+   * @return the number of bytes buffered by the deframer and not yet returned as a message
+   */
+  default long buffered() {
+    return 0L;
+  }
+
 }
@@ -10,11 +10,21 @@
  */
 package io.vertx.grpc.common.impl;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.UnsafeByteOperations;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
 import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.common.GrpcMessage;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 public class GrpcMessageImpl implements GrpcMessage {
@@ -22,11 +32,89 @@ public class GrpcMessageImpl implements GrpcMessage {
   private final String encoding;
   private final WireFormat format;
   private final Buffer payload;
+  private final BufferInternal frame;
 
   public GrpcMessageImpl(String encoding, WireFormat format, Buffer payload) {
     this.encoding = Objects.requireNonNull(encoding);
     this.format = Objects.requireNonNull(format);
     this.payload = Objects.requireNonNull(payload);
+    this.frame = null;
+  }
+
+  private GrpcMessageImpl(String encoding, WireFormat format, BufferInternal frame, Buffer payload) {
+    this.encoding = encoding;
+    this.format = format;
+    this.payload = payload;
+    this.frame = frame;
+  }
+
+  /**
+   * Serialize a protobuf message in a buffer that also holds its gRPC prefix, the message is written directly
+   * in the buffer and is later sent without copying it when it is not compressed.
+   *
+   * @param message the protobuf message
+   * @return the identity encoded message
+   */
+  public static GrpcMessage protobuf(MessageLite message) throws CodecException {
+    int len = message.getSerializedSize();
+    byte[] array = new byte[5 + len];
+    array[1] = (byte) (len >>> 24);
+    array[2] = (byte) (len >>> 16);
+    array[3] = (byte) (len >>> 8);
+    array[4] = (byte) len;
+    CodedOutputStream out = CodedOutputStream.newInstance(array, 5, len);
+    try {
+      message.writeTo(out);
+      out.checkNoSpaceLeft();
+    } catch (IOException | IllegalStateException e) {
+      throw new CodecException(e);
+    }
+    BufferInternal frame = BufferInternal.buffer(Unpooled.wrappedBuffer(array));
+    return new GrpcMessageImpl("identity", WireFormat.PROTOBUF, frame, frame.slice(5, 5 + len));
+  }
+
+  /**
+   * Frame a message once, so it can be sent several times without encoding its gRPC prefix again.
+   *
+   * @param message the message
+   * @return the framed message
+   */
+  public static GrpcMessage framed(GrpcMessage message) {
+    if (message instanceof GrpcMessageImpl && ((GrpcMessageImpl) message).frame != null) {
+      return message;
+    }
+    boolean compressed = !message.encoding().equals("identity");
+    BufferInternal frame = encode(message.payload(), compressed, false);
+    return new GrpcMessageImpl(message.encoding(), message.format(), frame, frame.slice(5, frame.length()));
+  }
+
+  /**
+   * Create a protobuf input reading a message payload in place, i.e. without copying it to an intermediate array.
+   *
+   * @param payload the payload
+   * @param aliasing whether the parsed {@code bytes} fields can reference the payload instead of copying it
+   * @return the input
+   */
+  public static CodedInputStream protobufInput(Buffer payload, boolean aliasing) {
+    CodedInputStream input = byteString(payload).newCodedInput();
+    input.enableAliasing(aliasing);
+    return input;
+  }
+
+  private static ByteString byteString(Buffer payload) {
+    ByteBuf buf = ((BufferInternal) payload).getByteBuf();
+    if (buf.hasArray()) {
+      return UnsafeByteOperations.unsafeWrap(buf.array(), buf.arrayOffset() + buf.readerIndex(), buf.readableBytes());
+    }
+    if (buf.nioBufferCount() == 1) {
+      return UnsafeByteOperations.unsafeWrap(buf.nioBuffer());
+    }
+    // Composite payload, e.g. a message spanning several HTTP/2 frames
+    ByteString bytes = ByteString.EMPTY;
+    for (ByteBuffer nio : buf.nioBuffers()) {
+      bytes = bytes.concat(UnsafeByteOperations.unsafeWrap(nio));
+    }
+    return bytes;
   }
 
   @Override
@@ -56,6 +144,12 @@ public class GrpcMessageImpl implements GrpcMessage {
    * @return the encoded message
    */
   public static BufferInternal encode(GrpcMessage message, boolean trailer) {
+    if (!trailer && message instanceof GrpcMessageImpl) {
+      BufferInternal frame = ((GrpcMessageImpl) message).frame;
+      if (frame != null) {
+        return frame;
+      }
+    }
     boolean compressed = !message.encoding().equals("identity");
     return encode(message.payload(), compressed, trailer);
   }
@@ -10,6 +10,7 @@
  */
 package io.vertx.grpc.common.impl;
 
+import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.common.ServiceName;
 
 public class GrpcMethodCall {
@@ -23,6 +24,16 @@ public class GrpcMethodCall {
     this.path = path;
   }
 
+  /**
+   * Create a fully initialized method call of a service method that can be shared between requests.
+   */
+  public GrpcMethodCall(ServiceMethod<?, ?> method) {
+    this.fullMethodName = method.fullMethodName();
+    this.path = '/' + fullMethodName;
+    this.serviceName = method.serviceName();
+    this.methodName = method.methodName();
+  }
+
   public String fullMethodName() {
     if (fullMethodName == null) {
       fullMethodName = path.substring(1);
@@ -22,6 +22,10 @@ import io.vertx.core.internal.concurrent.InboundMessageQueue;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.grpc.common.*;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
 import static io.vertx.grpc.common.GrpcError.mapHttp2ErrorCode;
 
 /**
@@ -46,19 +50,67 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
     }
   };
 
+  /**
+   * The default low water mark of the inbound message queue.
+   */
+  public static final int DEFAULT_LOW_WATER_MARK = 8;
+
+  /**
+   * The default high water mark of the inbound message queue.
+   */
+  public static final int DEFAULT_HIGH_WATER_MARK = 16;
+
+  /**
+   * The adaptive prefetch window is sized to the amount of bytes the consumer processes during this period.
+   */
+  private static final long ADAPTIVE_HORIZON_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<GrpcReadStreamBase> HELD = AtomicLongFieldUpdater.newUpdater(GrpcReadStreamBase.class, "held");
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater<GrpcReadStreamBase> BUDGET_STATE = AtomicIntegerFieldUpdater.newUpdater(GrpcReadStreamBase.class, "budgetState");
+
+  private static final int UNARY_RECEIVING = 0;
+  private static final int UNARY_ENDED = 1;
+  private static final int UNARY_DELIVERED = 2;
+  private static final int UNARY_DISCARDING = 3;
+
   protected final ContextInternal context;
+  private ContextInternal handlerContext;
   private final String encoding;
   private final WireFormat format;
   private final ReadStream<Buffer> stream;
   private final GrpcMessageDeframer deframer;
-  private final InboundMessageQueue<GrpcMessage> queue;
+  private long maxMessageSize = Long.MAX_VALUE;
+  private InboundMessageQueue<GrpcMessage> queue;
+  private int lowWaterMark = DEFAULT_LOW_WATER_MARK;
+  private int highWaterMark = DEFAULT_HIGH_WATER_MARK;
+  private long maxWindow;
+  private long window;
+  private long queuedBytes;
+  private long averageSize;
+  private long lastDelivery;
+  private boolean queuePaused;
+  private boolean windowPaused;
+  private boolean producerPaused;
+  private long pauseCount;
+  private InboundMemoryBudget budget;
+  private boolean budgetPaused;
+  private volatile int budgetState;
+  private volatile long held;
+  private volatile long deframerBytes;
+  private boolean unary;
+  private GrpcMessage unaryMessage;
+  private int unaryState;
+  private long demand = Long.MAX_VALUE;
+  private boolean draining;
   private Handler<Throwable> exceptionHandler;
   private Handler<GrpcMessage> messageHandler;
   private Handler<Void> endHandler;
   private Handler<InvalidMessageException> invalidMessageHandler;
   private GrpcMessage last;
   private final GrpcMessageDecoder<T> messageDecoder;
-  private final Promise<Void> end;
+  private Promise<Void> end;
   private GrpcWriteStreamBase<?, ?> ws;
 
   protected GrpcReadStreamBase(Context context,
@@ -69,63 +121,154 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
                                GrpcMessageDecoder<T> messageDecoder) {
     ContextInternal ctx = (ContextInternal) context;
     this.context = ctx;
+    this.handlerContext = ctx;
     this.encoding = encoding;
     this.stream = stream;
     this.format = format;
-    this.queue = new InboundMessageQueue<>(ctx.executor(), ctx.executor(), 8, 16) {
+    this.messageDecoder = messageDecoder;
+    this.end = ctx.promise();
+    this.deframer = messageDeframer;
+  }
+
+  /**
+   * Configure the inbound message queue, this must be called before {@link #init}.
+   *
+   * @param lowWaterMark the number of queued messages below which the transport is resumed
+   * @param highWaterMark the number of queued messages above which the transport is paused
+   * @param maxWindow when positive, the transport is also paused when the queued bytes exceed a prefetch window
+   *                  adapted to the consumer rate and bounded by this value
+   */
+  public final void readQueue(int lowWaterMark, int highWaterMark, long maxWindow) {
+    this.lowWaterMark = Math.min(lowWaterMark, highWaterMark);
+    this.highWaterMark = highWaterMark;
+    this.maxWindow = maxWindow;
+  }
+
+  /**
+   * Account the bytes buffered by this stream in a budget shared with other streams, this must be called before
+   * {@link #init}.
+   *
+   * @param budget the budget or {@code null}
+   */
+  public final void memoryBudget(InboundMemoryBudget budget) {
+    this.budget = budget;
+  }
+
+  /**
+   * Set the context on which the stream handlers are called when it differs from the transport context, e.g. a worker
+   * or virtual thread context, this must be called before {@link #init}.
+   *
+   * <p>Messages are still queued by the transport context and the transport is paused when the handler context does not
+   * consume them fast enough.</p>
+   *
+   * @param handlerContext the handler context
+   */
+  public final void handlerContext(ContextInternal handlerContext) {
+    this.handlerContext = handlerContext;
+    this.end = handlerContext.promise();
+  }
+
+  /**
+   * @return the context on which the stream handlers are called
+   */
+  public final ContextInternal handlerContext() {
+    return handlerContext;
+  }
+
+  /**
+   * @return whether this stream reads a single message, when {@code true} the message is collected and delivered
+   * with the end of the stream without going through the inbound message queue
+   */
+  protected boolean isUnary() {
+    return false;
+  }
+
+  /**
+   * Called when a unary stream receives more than one message, further messages are discarded.
+   */
+  protected void handleTooManyMessages() {
+    tryFail(new IllegalStateException("Received more than one message"));
+  }
+
+  public void init(GrpcWriteStreamBase<?, ?> ws, long maxMessageSize) {
+    this.ws = ws;
+    // Unary messages are delivered by the transport context
+    this.unary = isUnary() && handlerContext == context;
+    this.maxMessageSize = maxMessageSize;
+    deframer.maxMessageSize(maxMessageSize);
+    if (budget != null && held >= 0L) {
+      budget.register(this);
+    }
+    if (unary) {
+      stream.endHandler(v -> {
+        deframer.end();
+        deframe();
+        accountDeframer();
+        if (unaryState == UNARY_RECEIVING) {
+          unaryState = UNARY_ENDED;
+          drainUnary();
+        }
+      });
+    } else {
+      initQueue();
+    }
+    stream.handler(this);
+    stream.exceptionHandler(err -> {
+      releaseMemory();
+      if (err instanceof StreamResetException) {
+        StreamResetException reset = (StreamResetException) err;
+        GrpcError error = mapHttp2ErrorCode(reset.getCode());
+        ws.handleError(error);
+      } else {
+        handleException(err);
+      }
+    });
+  }
+
+  private void initQueue() {
+    if (handlerContext != context) {
+      // The adaptive window is updated by the consumer which must run on the transport context
+      maxWindow = 0L;
+    }
+    this.window = maxWindow;
+    this.queue = new InboundMessageQueue<>(context.executor(), handlerContext.executor(), lowWaterMark, highWaterMark) {
       @Override
       protected void handleResume() {
-        stream.resume();
+        queuePaused = false;
+        updateProducer();
       }
       @Override
       protected void handlePause() {
-        stream.pause();
+        queuePaused = true;
+        updateProducer();
       }
       @Override
       protected void handleMessage(GrpcMessage msg) {
         if (msg == END_SENTINEL) {
           handleEnd();
         } else {
+          consumed(msg);
           GrpcReadStreamBase.this.handleMessage(msg);
         }
       }
     };
-    this.messageDecoder = messageDecoder;
-    this.end = ctx.promise();
-    this.deframer = messageDeframer;
-  }
-
-  public void init(GrpcWriteStreamBase<?, ?> ws, long maxMessageSize) {
-    this.ws = ws;
-    deframer.maxMessageSize(maxMessageSize);
-    stream.handler(this);
     stream.endHandler(v -> {
       deframer.end();
       deframe();
+      accountDeframer();
       queue.write(END_SENTINEL);
     });
-    stream.exceptionHandler(err -> {
-      if (err instanceof StreamResetException) {
-        StreamResetException reset = (StreamResetException) err;
-        GrpcError error = mapHttp2ErrorCode(reset.getCode());
-        ws.handleError(error);
-      } else {
-        handleException(err);
-      }
-    });
   }
 
   protected final T decodeMessage(GrpcMessage msg) throws CodecException {
-    switch (msg.encoding()) {
-      case "identity":
-        // Nothing to do
-        break;
-      case "gzip": {
-        msg = GrpcMessage.message("identity", msg.format(), Utils.GZIP_DECODER.apply(msg.payload()));
-        break;
+    String encoding = msg.encoding();
+    if (!CompressorRegistry.IDENTITY.equals(encoding)) {
+      GrpcCompressor compressor = CompressorRegistry.DEFAULT.lookup(encoding);
+      if (compressor == null) {
+        throw new CodecException("Encoding " + encoding + " is not supported");
       }
-      default:
-        throw new UnsupportedOperationException();
+      // The max message size also bounds the decompressed message
+      msg = GrpcMessage.message(CompressorRegistry.IDENTITY, msg.format(), compressor.decompress(msg.payload(), maxMessageSize));
     }
     return messageDecoder.decode(msg);
   }
@@ -141,7 +284,11 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
   }
 
   public final S pause() {
-    queue.pause();
+    if (unary) {
+      demand = 0L;
+    } else {
+      queue.pause();
+    }
     return (S) this;
   }
 
@@ -150,7 +297,18 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
   }
 
   public final S fetch(long amount) {
-    queue.fetch(amount);
+    if (unary) {
+      if (amount < 0L) {
+        throw new IllegalArgumentException("Invalid fetch amount " + amount);
+      }
+      demand += amount;
+      if (demand < 0L) {
+        demand = Long.MAX_VALUE;
+      }
+      drainUnary();
+    } else {
+      queue.fetch(amount);
+    }
     return (S) this;
   }
 
@@ -190,6 +348,99 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
   public void handle(Buffer chunk) {
     deframer.update(chunk);
     deframe();
+    accountDeframer();
+  }
+
+  /**
+   * Account the bytes buffered by the deframer, i.e. the partial message.
+   */
+  private void accountDeframer() {
+    if (budget != null) {
+      long buffered = deframer.buffered();
+      long delta = buffered - deframerBytes;
+      deframerBytes = buffered;
+      if (delta > 0L) {
+        acquireMemory(delta);
+      } else if (delta < 0L) {
+        releaseMemory(-delta);
+      }
+    }
+  }
+
+  private void acquireMemory(long amount) {
+    while (true) {
+      long current = held;
+      if (current < 0L) {
+        // Released
+        return;
+      }
+      if (HELD.compareAndSet(this, current, current + amount)) {
+        budget.acquire(this, amount);
+        return;
+      }
+    }
+  }
+
+  private void releaseMemory(long amount) {
+    while (true) {
+      long current = held;
+      if (current <= 0L) {
+        return;
+      }
+      long next = Math.max(0L, current - amount);
+      if (HELD.compareAndSet(this, current, next)) {
+        budget.release(current - next);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Release the bytes held by this stream from the memory budget, when the stream is ended or reset.
+   */
+  public final void releaseMemory() {
+    InboundMemoryBudget b = budget;
+    if (b != null) {
+      long current = HELD.getAndSet(this, -1L);
+      if (current > 0L) {
+        b.release(current);
+      }
+      b.unregister(this);
+    }
+  }
+
+  long heldBytes() {
+    return held;
+  }
+
+  /**
+   * @return the bytes of the complete messages held by this stream, i.e. the bytes the stream can release while its
+   *         transport is paused
+   */
+  long queuedBytes() {
+    return Math.max(0L, held - deframerBytes);
+  }
+
+  boolean isBudgetPaused() {
+    return budgetState != 0;
+  }
+
+  boolean markBudgetPaused() {
+    return BUDGET_STATE.compareAndSet(this, 0, 1);
+  }
+
+  boolean clearBudgetPaused() {
+    return BUDGET_STATE.compareAndSet(this, 1, 0);
+  }
+
+  /**
+   * Pause or resume the transport on behalf of the memory budget, this can be called from any thread.
+   */
+  void budgetPause(boolean pause) {
+    context.executor().execute(() -> {
+      budgetPaused = pause;
+      updateProducer();
+    });
   }
 
   private void deframe() {
@@ -201,20 +452,123 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
         MessageSizeOverflowException msoe = (MessageSizeOverflowException) ret;
         Handler<InvalidMessageException> handler = invalidMessageHandler;
         if (handler != null) {
-          context.dispatch(msoe, handler);
+          emit(msoe, handler);
         }
       } else {
         GrpcMessage msg = (GrpcMessage) ret;
+        if (unary) {
+          if (unaryState == UNARY_RECEIVING && unaryMessage == null) {
+            unaryMessage = msg;
+            if (budget != null) {
+              acquireMemory(msg.payload().length());
+            }
+          } else if (unaryState != UNARY_DISCARDING) {
+            if (budget != null && unaryMessage != null) {
+              releaseMemory(unaryMessage.payload().length());
+            }
+            unaryMessage = null;
+            unaryState = UNARY_DISCARDING;
+            handleTooManyMessages();
+          }
+          continue;
+        }
+        queuedBytes += msg.payload().length();
+        if (budget != null) {
+          acquireMemory(msg.payload().length());
+        }
         queue.write(msg);
+        if (maxWindow > 0L && !windowPaused && queuedBytes > window) {
+          windowPaused = true;
+          updateProducer();
+        }
+      }
+    }
+  }
+
+  /**
+   * Deliver the collected message and the end of a unary stream, according to the demand.
+   */
+  private void drainUnary() {
+    if (draining) {
+      // Fetched by a handler, the loop delivers the end once the handler returns
+      return;
+    }
+    draining = true;
+    try {
+      while (unaryState == UNARY_ENDED && demand > 0L) {
+        GrpcMessage msg = unaryMessage;
+        if (msg != null) {
+          unaryMessage = null;
+          if (budget != null) {
+            releaseMemory(msg.payload().length());
+          }
+          if (demand != Long.MAX_VALUE) {
+            demand--;
+          }
+          last = msg;
+          Handler<GrpcMessage> handler = messageHandler;
+          if (handler != null) {
+            handlerContext.dispatch(msg, handler);
+          }
+        } else {
+          unaryState = UNARY_DELIVERED;
+          handleEnd();
+        }
+      }
+    } finally {
+      draining = false;
+    }
+  }
+
+  /**
+   * Account a message delivered to the consumer and adapt the prefetch window. The consumer rate is only sampled
+   * when messages are queued, i.e. when the consumer is slower than the producer.
+   */
+  private void consumed(GrpcMessage msg) {
+    long size = msg.payload().length();
+    queuedBytes -= size;
+    if (budget != null) {
+      releaseMemory(size);
+    }
+    if (maxWindow > 0L) {
+      averageSize += (size - averageSize) >> 3;
+      long now = System.nanoTime();
+      if (queuedBytes > 0L && lastDelivery != 0L) {
+        long elapsed = Math.max(1L, now - lastDelivery);
+        long target = Math.max(2 * averageSize, size * ADAPTIVE_HORIZON_NANOS / elapsed);
+        window = Math.max(1L, Math.min(maxWindow, window + ((target - window) >> 2)));
+      }
+      lastDelivery = now;
+      if (windowPaused && queuedBytes <= window / 2) {
+        windowPaused = false;
+        updateProducer();
+      }
+    }
+  }
+
+  private void updateProducer() {
+    boolean paused = queuePaused || windowPaused || budgetPaused;
+    if (paused != producerPaused) {
+      producerPaused = paused;
+      if (paused) {
+        pauseCount++;
+        stream.pause();
+      } else {
+        stream.resume();
       }
     }
   }
 
+  @Override
+  public final long inboundPauseCount() {
+    return pauseCount;
+  }
+
   public final void tryFail(Throwable err) {
     if (end.tryFail(err)) {
       Handler<Throwable> handler = exceptionHandler;
       if (handler != null) {
-        context.dispatch(err, handler);
+        emit(err, handler);
       }
     }
   }
@@ -224,10 +578,11 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
   }
 
   protected void handleEnd() {
+    releaseMemory();
     end.tryComplete();
     Handler<Void> handler = endHandler;
     if (handler != null) {
-      context.dispatch(handler);
+      handlerContext.dispatch(handler);
     }
   }
 
@@ -235,7 +590,20 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
     last = msg;
     Handler<GrpcMessage> handler = messageHandler;
     if (handler != null) {
-      context.dispatch(msg, messageHandler);
+      handlerContext.dispatch(msg, messageHandler);
+    }
+  }
+
+  /**
+   * Emit an event from the transport context to a stream handler, the event is dispatched after the messages
+   * previously queued for the handler context.
+   */
+  protected final <E> void emit(E event, Handler<E> handler) {
+    ContextInternal ctx = handlerContext;
+    if (ctx == context) {
+      ctx.dispatch(event, handler);
+    } else {
+      ctx.executor().execute(() -> ctx.dispatch(event, handler));
     }
   }
 
@@ -1,20 +1,41 @@
 package io.vertx.grpc.common.impl;
 
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.StreamResetException;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.streams.WriteStream;
 import io.vertx.grpc.common.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import static io.vertx.grpc.common.GrpcError.mapHttp2ErrorCode;
 
 public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T> implements GrpcWriteStream<T> {
 
+  /**
+   * The number of messages sent uncompressed after a message did not compress well enough.
+   */
+  private static final int COMPRESSION_SAMPLE_INTERVAL = 16;
+
+  /**
+   * The amount of coalesced bytes above which the coalesced messages are written without waiting for the end of the task.
+   */
+  private static final int COALESCE_MAX_BYTES = 64 * 1024;
+
+  /**
+   * Batches up to this size are copied to a contiguous buffer, larger batches are composed without copying.
+   */
+  private static final int CONTIGUOUS_BATCH_MAX_BYTES = 16 * 1024;
+
   protected final ContextInternal context;
   private final GrpcMessageEncoder<T> messageEncoder;
   private final WriteStream<Buffer> writeStream;
@@ -22,6 +43,13 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
   protected String mediaType;
   protected String encoding;
   protected WireFormat format;
+  private int compressionThreshold;
+  private double compressionRatioThreshold;
+  private int compressionSkips;
+  private boolean coalesce;
+  private List<GrpcMessage> coalesced;
+  private int coalescedBytes;
+  private Promise<Void> coalescedPromise;
   private boolean headersSent;
   private boolean trailersSent;
   private GrpcError error;
@@ -108,10 +136,48 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
     return (S) this;
   }
 
+  @Override
+  public final S compressionThreshold(int threshold) {
+    if (threshold < 0) {
+      throw new IllegalArgumentException("Compression threshold must be >= 0");
+    }
+    this.compressionThreshold = threshold;
+    return (S) this;
+  }
+
+  @Override
+  public final S compressionRatioThreshold(double ratio) {
+    if (ratio < 0D || ratio > 1D) {
+      throw new IllegalArgumentException("Compression ratio threshold must be between 0 and 1");
+    }
+    this.compressionRatioThreshold = ratio;
+    return (S) this;
+  }
+
+  @Override
+  public final S coalesceWrites(boolean coalesce) {
+    this.coalesce = coalesce;
+    if (!coalesce) {
+      flushCoalesced();
+    }
+    return (S) this;
+  }
+
   public final ContextInternal context() {
     return context;
   }
 
+  /**
+   * Select the encoding of the stream before the headers are sent, e.g. to fall back to {@code identity} when the
+   * peer does not accept the {@code encoding}.
+   *
+   * @param encoding the encoding set on this stream
+   * @return the encoding to use
+   */
+  protected String selectEncoding(String encoding) {
+    return encoding;
+  }
+
   public boolean isHeadersSent() {
     return headersSent;
   }
@@ -143,6 +209,10 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
 
   @Override
   public final boolean writeQueueFull() {
+    if (context.inThread() && coalescedPromise != null && !writeStream.writeQueueFull()) {
+      // The coalesced messages are not queued by the transport yet
+      flushCoalesced();
+    }
     return writeStream.writeQueueFull();
   }
 
@@ -187,6 +257,34 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
     return writeMessage(data, false);
   }
 
+  @Override
+  public final Future<Void> writeAll(List<T> messages) {
+    List<GrpcMessage> encoded = new ArrayList<>(messages.size());
+    for (T message : messages) {
+      encoded.add(encodeMessage(message));
+    }
+    return writeMessages(encoded);
+  }
+
+  @Override
+  public final Future<Void> writeMessages(List<GrpcMessage> messages) {
+    checkWritable();
+    List<GrpcMessage> prepared = new ArrayList<>(messages.size());
+    for (GrpcMessage message : messages) {
+      try {
+        prepared.add(prepareMessage(message));
+      } catch (CodecException e) {
+        return context.failedFuture(e);
+      }
+    }
+    sendHeaders();
+    if (prepared.isEmpty()) {
+      return context.succeededFuture();
+    }
+    flushCoalesced();
+    return sendMessages(prepared);
+  }
+
   @Override
   public final Future<Void> endMessage(GrpcMessage message) {
     return writeMessage(message, true);
@@ -199,8 +297,18 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
   protected abstract void setHeaders(String contentType, MultiMap headers);
   protected abstract void setTrailers(MultiMap trailers);
 
-  protected abstract Future<Void> sendMessage(Buffer message, boolean compressed);
+  protected abstract Future<Void> sendMessage(GrpcMessage message);
   protected abstract Future<Void> sendEnd();
+
+  /**
+   * Send the last {@code message} and end the stream. When the headers have not been sent yet, implementations
+   * should emit the headers, the message and the end of stream with a single write.
+   */
+  protected Future<Void> sendEnd(GrpcMessage message) {
+    sendMessage(message);
+    return sendEnd();
+  }
+
   protected abstract Future<Void> sendHead();
   protected abstract boolean sendCancel();
 
@@ -225,83 +333,227 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
   }
 
   protected Future<Void> writeMessage(GrpcMessage message, boolean end) {
-    if (error != null) {
-      throw new IllegalStateException("The stream is failed: " + error);
+    checkWritable();
+    if (message != null) {
+      try {
+        message = prepareMessage(message);
+      } catch (CodecException e) {
+        return context.failedFuture(e);
+      }
     }
-    if (trailersSent) {
-      throw new IllegalStateException("The stream has been closed");
+    return send(message, end);
+  }
+
+  /**
+   * Write a message shared with other streams: the first stream using a format and an encoding encodes, compresses
+   * and frames the message, the other streams using the same format and encoding write the same frame.
+   *
+   * @param shared the shared message
+   * @return a future completed with the result
+   */
+  public final Future<Void> writeShared(SharedMessage<T> shared) {
+    checkWritable();
+    GrpcMessage message = shared.encode(format != null ? format : WireFormat.PROTOBUF, messageEncoder);
+    if (encoding != null && !headersSent) {
+      encoding = selectEncoding(encoding);
     }
-    if (message != null) {
-      if (format == null) {
-        format = message.format();
-      } else if (!format.equals(message.format())) {
-        return context.failedFuture("Message format does not match the response format");
+    GrpcMessage frame = shared.frame(message.format(), encoding);
+    try {
+      if (frame == null) {
+        frame = shared.frame(message.format(), encoding, GrpcMessageImpl.framed(prepareMessage(message)));
+      } else {
+        checkFormat(frame);
       }
+    } catch (CodecException e) {
+      return context.failedFuture(e);
     }
-    Buffer payload;
-    boolean compressed;
-    if (message != null) {
-      if (encoding != null) {
-        switch (encoding) {
-          case "gzip":
-            compressed = true;
-            if (message.encoding().equals("identity")) {
-              try {
-                payload = Utils.GZIP_ENCODER.apply(message.payload());
-              } catch (CodecException e) {
-                return Future.failedFuture(e);
-              }
-            } else {
-              if (!message.encoding().equals("gzip")) {
-                return Future.failedFuture("Encoding " + message.encoding() + " is not supported");
-              }
-              payload = message.payload();
-            }
-            break;
-          case "identity":
-            compressed = false;
-            if (!message.encoding().equals("identity")) {
-              if (!message.encoding().equals("gzip")) {
-                return Future.failedFuture("Encoding " + message.encoding() + " is not supported");
-              }
-              try {
-                payload = Utils.GZIP_DECODER.apply(message.payload());
-              } catch (CodecException e) {
-                return Future.failedFuture(e);
-              }
-            } else {
-              payload = message.payload();
-            }
-            break;
-          default:
-            return Future.failedFuture("Encoding " + encoding + " is not supported");
-        }
+    return send(frame, false);
+  }
+
+  private Future<Void> send(GrpcMessage message, boolean end) {
+    sendHeaders();
+    if (end) {
+      flushCoalesced();
+      trailersSent = true;
+      setTrailers(trailers);
+      if (message != null) {
+        return sendEnd(message);
       } else {
-        compressed = !message.encoding().equals("identity");
-        payload = message.payload();
+        return sendEnd();
       }
     } else {
-      compressed = false;
-      payload = null;
+      if (message != null) {
+        if (coalesce && context.inThread()) {
+          return coalesce(message);
+        }
+        flushCoalesced();
+        return sendMessage(message);
+      } else {
+        flushCoalesced();
+        return sendHead();
+      }
+    }
+  }
+
+  private void checkWritable() {
+    if (error != null) {
+      throw new IllegalStateException("The stream is failed: " + error);
+    }
+    if (trailersSent) {
+      throw new IllegalStateException("The stream has been closed");
     }
+  }
+
+  private void sendHeaders() {
     if (!headersSent) {
       headersSent = true;
       String contentType = contentType(format);
       setHeaders(contentType, headers);
     }
-    if (end) {
-      trailersSent = true;
-      if (payload != null) {
-        sendMessage(payload, compressed);
+  }
+
+  /**
+   * Check the message format and compress the message payload according to the stream encoding.
+   */
+  private GrpcMessage prepareMessage(GrpcMessage message) throws CodecException {
+    checkFormat(message);
+    if (encoding != null) {
+      if (!headersSent) {
+        encoding = selectEncoding(encoding);
       }
-      setTrailers(trailers);
-      return sendEnd();
-    } else {
-      if (message != null) {
-        return sendMessage(payload, compressed);
-      } else {
-        return sendHead();
+      String payloadEncoding = message.encoding();
+      if (!payloadEncoding.equals(encoding)) {
+        Buffer payload = message.payload();
+        if (!payloadEncoding.equals(CompressorRegistry.IDENTITY)) {
+          GrpcCompressor decompressor = CompressorRegistry.DEFAULT.lookup(payloadEncoding);
+          if (decompressor == null) {
+            throw new CodecException("Encoding " + payloadEncoding + " is not supported");
+          }
+          payload = decompressor.decompress(payload);
+          payloadEncoding = CompressorRegistry.IDENTITY;
+        }
+        if (!encoding.equals(CompressorRegistry.IDENTITY)) {
+          GrpcCompressor compressor = CompressorRegistry.DEFAULT.lookup(encoding);
+          if (compressor == null) {
+            throw new CodecException("Encoding " + encoding + " is not supported");
+          }
+          Buffer compressedPayload = compress(compressor, payload);
+          if (compressedPayload != null) {
+            payload = compressedPayload;
+            payloadEncoding = encoding;
+          }
+        }
+        if (payload != message.payload()) {
+          message = GrpcMessage.message(payloadEncoding, message.format(), payload);
+        }
       }
     }
+    return message;
+  }
+
+  private void checkFormat(GrpcMessage message) throws CodecException {
+    if (format == null) {
+      format = message.format();
+    } else if (!format.equals(message.format())) {
+      throw new CodecException("Message format does not match the response format");
+    }
+  }
+
+  private Future<Void> coalesce(GrpcMessage message) {
+    Promise<Void> promise = coalescedPromise;
+    if (promise == null) {
+      promise = context.promise();
+      coalescedPromise = promise;
+      coalesced = new ArrayList<>();
+      coalescedBytes = 0;
+      // Written after the current task
+      context.runOnContext(v -> flushCoalesced());
+    }
+    coalesced.add(message);
+    coalescedBytes += message.payload().length();
+    Future<Void> fut = promise.future();
+    if (coalescedBytes >= COALESCE_MAX_BYTES) {
+      flushCoalesced();
+    }
+    return fut;
+  }
+
+  /**
+   * Write the coalesced messages. Messages are only coalesced on the context thread, a call from another thread leaves
+   * them to the flush scheduled on the context.
+   */
+  private void flushCoalesced() {
+    if (!context.inThread()) {
+      return;
+    }
+    Promise<Void> promise = coalescedPromise;
+    if (promise != null) {
+      List<GrpcMessage> messages = coalesced;
+      coalescedPromise = null;
+      coalesced = null;
+      Future<Void> fut = messages.size() == 1 ? sendMessage(messages.get(0)) : sendMessages(messages);
+      fut.onComplete(promise);
+    }
+  }
+
+  /**
+   * Send several messages with a single write, the default implementation sends the messages one by one.
+   */
+  protected Future<Void> sendMessages(List<GrpcMessage> messages) {
+    Future<Void> fut = null;
+    for (GrpcMessage message : messages) {
+      fut = sendMessage(message);
+    }
+    return fut;
+  }
+
+  /**
+   * Aggregate the {@code frames} of a batch of messages in a single buffer: small batches are copied to a contiguous
+   * buffer, larger batches are composed without copying.
+   */
+  protected static Buffer aggregate(List<Buffer> frames) {
+    int size = frames.size();
+    if (size == 1) {
+      return frames.get(0);
+    }
+    int len = 0;
+    for (Buffer frame : frames) {
+      len += frame.length();
+    }
+    if (len <= CONTIGUOUS_BATCH_MAX_BYTES) {
+      Buffer buffer = Buffer.buffer(len);
+      for (Buffer frame : frames) {
+        buffer.appendBuffer(frame);
+      }
+      return buffer;
+    }
+    CompositeByteBuf composite = Unpooled.compositeBuffer(size);
+    for (Buffer frame : frames) {
+      composite.addComponent(true, ((BufferInternal) frame).getByteBuf());
+    }
+    return BufferInternal.buffer(composite);
+  }
+
+  /**
+   * Compress a message payload according to the compression policy of this stream.
+   *
+   * @return the compressed payload or {@code null} when the payload should be sent uncompressed
+   */
+  private Buffer compress(GrpcCompressor compressor, Buffer payload) throws CodecException {
+    int len = payload.length();
+    if (len < compressionThreshold) {
+      return null;
+    }
+    if (compressionSkips > 0) {
+      compressionSkips--;
+      return null;
+    }
+    Buffer compressed = compressor.compress(payload);
+    if (compressionRatioThreshold > 0D && compressed.length() > len * compressionRatioThreshold) {
+      // Poorly compressible content, skip the next messages before sampling again
+      compressionSkips = COMPRESSION_SAMPLE_INTERVAL;
+      return null;
+    }
+    return compressed;
   }
 }
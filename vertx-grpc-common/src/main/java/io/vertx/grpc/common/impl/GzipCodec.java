@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * GZIP (RFC 1952) codec reusing a {@link Deflater} / {@link Inflater} per thread, i.e. per event-loop.
+ *
+ * <p>The input is read from the buffer NIO views, so heap, direct and composite buffers are processed without
+ * copying them. The output is a heap buffer.</p>
+ */
+public final class GzipCodec implements GrpcCompressor {
+
+  public static final GzipCodec INSTANCE = new GzipCodec();
+
+  private static final int FHCRC = 0x02;
+  private static final int FEXTRA = 0x04;
+  private static final int FNAME = 0x08;
+  private static final int FCOMMENT = 0x10;
+
+  private static final byte[] HEADER = {
+    (byte) 0x1f, (byte) 0x8b, // Magic number
+    Deflater.DEFLATED,        // Compression method
+    0,                        // Flags
+    0, 0, 0, 0,               // Modification time
+    0,                        // Extra flags
+    (byte) 0xff               // Operating system (unknown)
+  };
+
+  private static final int TRAILER_LENGTH = 8;
+  private static final int MAX_INITIAL_CAPACITY = 64 * 1024;
+
+  private static final FastThreadLocal<Deflater> DEFLATER = new FastThreadLocal<>() {
+    @Override
+    protected Deflater initialValue() {
+      return new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    }
+    @Override
+    protected void onRemoval(Deflater deflater) {
+      deflater.end();
+    }
+  };
+
+  private static final FastThreadLocal<Inflater> INFLATER = new FastThreadLocal<>() {
+    @Override
+    protected Inflater initialValue() {
+      return new Inflater(true);
+    }
+    @Override
+    protected void onRemoval(Inflater inflater) {
+      inflater.end();
+    }
+  };
+
+  private static final FastThreadLocal<CRC32> CRC = new FastThreadLocal<>() {
+    @Override
+    protected CRC32 initialValue() {
+      return new CRC32();
+    }
+  };
+
+  private GzipCodec() {
+  }
+
+  @Override
+  public String encoding() {
+    return "gzip";
+  }
+
+  @Override
+  public Buffer compress(Buffer data) throws CodecException {
+    return encode(data);
+  }
+
+  @Override
+  public Buffer decompress(Buffer data) throws CodecException {
+    return decode(data);
+  }
+
+  @Override
+  public Buffer decompress(Buffer data, long maxSize) throws CodecException {
+    return decode(data, maxSize);
+  }
+
+  /**
+   * Compress {@code data} to the GZIP format.
+   *
+   * @param data the data to compress
+   * @return the compressed data
+   */
+  public static Buffer encode(Buffer data) throws CodecException {
+    ByteBuf in = ((BufferInternal) data).getByteBuf();
+    int len = in.readableBytes();
+    ByteBuf out = Unpooled.buffer(HEADER.length + Math.min(deflateBound(len), MAX_INITIAL_CAPACITY) + TRAILER_LENGTH);
+    out.writeBytes(HEADER);
+    Deflater deflater = DEFLATER.get();
+    CRC32 crc = CRC.get();
+    deflater.reset();
+    crc.reset();
+    try {
+      for (ByteBuffer nio : in.nioBuffers()) {
+        crc.update(nio.duplicate());
+        deflater.setInput(nio);
+        while (!deflater.needsInput()) {
+          deflate(deflater, out);
+        }
+      }
+      deflater.finish();
+      while (!deflater.finished()) {
+        deflate(deflater, out);
+      }
+    } finally {
+      // Release the reference on the input
+      deflater.reset();
+    }
+    out.writeIntLE((int) crc.getValue());
+    out.writeIntLE(len);
+    return BufferInternal.buffer(out);
+  }
+
+  /**
+   * Decompress {@code data} from the GZIP format.
+   *
+   * @param data the data to decompress
+   * @return the decompressed data
+   * @throws CodecException when {@code data} is not valid
+   */
+  public static Buffer decode(Buffer data) throws CodecException {
+    return decode(data, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Decompress {@code data} from the GZIP format, failing as soon as the decompressed data exceeds {@code maxSize} bytes.
+   *
+   * @param data the data to decompress
+   * @param maxSize the maximum size of the decompressed data
+   * @return the decompressed data
+   * @throws CodecException when {@code data} is not valid or too large
+   */
+  public static Buffer decode(Buffer data, long maxSize) throws CodecException {
+    int limit = limit(maxSize);
+    ByteBuf in = ((BufferInternal) data).getByteBuf();
+    int from = in.readerIndex();
+    int to = in.writerIndex();
+    int idx = skipHeader(in, from, to);
+    ByteBuf out = Unpooled.buffer(initialCapacity(to - idx, limit));
+    Inflater inflater = INFLATER.get();
+    inflater.reset();
+    long consumed;
+    try {
+      for (ByteBuffer nio : in.nioBuffers(idx, to - idx)) {
+        inflater.setInput(nio);
+        inflate(inflater, out, limit);
+        if (inflater.finished()) {
+          break;
+        }
+      }
+      if (!inflater.finished()) {
+        throw new CodecException("Truncated GZIP input");
+      }
+      consumed = inflater.getBytesRead();
+    } catch (DataFormatException e) {
+      throw new CodecException(e);
+    } finally {
+      // Release the reference on the input
+      inflater.reset();
+    }
+    long trailer = idx + consumed;
+    if (trailer + TRAILER_LENGTH > to) {
+      throw new CodecException("Truncated GZIP input");
+    }
+    CRC32 crc = CRC.get();
+    crc.reset();
+    crc.update(out.array(), out.arrayOffset() + out.readerIndex(), out.readableBytes());
+    if (in.getIntLE((int) trailer) != (int) crc.getValue()) {
+      throw new CodecException("Invalid GZIP checksum");
+    }
+    if (in.getIntLE((int) trailer + 4) != out.readableBytes()) {
+      throw new CodecException("Invalid GZIP size");
+    }
+    return BufferInternal.buffer(out);
+  }
+
+  static void deflate(Deflater deflater, ByteBuf out) {
+    if (!out.isWritable()) {
+      out.ensureWritable(out.capacity());
+    }
+    int written = deflater.deflate(out.array(), out.arrayOffset() + out.writerIndex(), out.writableBytes());
+    out.writerIndex(out.writerIndex() + written);
+  }
+
+  static void inflate(Inflater inflater, ByteBuf out, int maxSize) throws DataFormatException {
+    while (!inflater.finished()) {
+      ensureWritable(out, maxSize);
+      int written = inflater.inflate(out.array(), out.arrayOffset() + out.writerIndex(), out.writableBytes());
+      out.writerIndex(out.writerIndex() + written);
+      if (out.writerIndex() > maxSize) {
+        throw new CodecException("Decompressed message exceeds " + maxSize + " bytes");
+      }
+      if (written == 0) {
+        if (inflater.needsDictionary()) {
+          throw new CodecException("Invalid compressed input");
+        }
+        if (inflater.needsInput()) {
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the decompression limit as a buffer size
+   */
+  static int limit(long maxSize) {
+    // Leave room for the extra byte that detects an overflow
+    return (int) Math.min(maxSize, Integer.MAX_VALUE - 1);
+  }
+
+  /**
+   * @return the initial capacity of the buffer decompressing {@code compressedSize} bytes
+   */
+  static int initialCapacity(int compressedSize, int maxSize) {
+    return Math.min(Math.min(Math.max(256, compressedSize * 2), MAX_INITIAL_CAPACITY), maxSize + 1);
+  }
+
+  /**
+   * Grow a full buffer without exceeding {@code maxSize} by more than one byte, so the decompressed data is never
+   * sized after the input claims.
+   */
+  private static void ensureWritable(ByteBuf out, int maxSize) {
+    if (!out.isWritable()) {
+      out.ensureWritable(Math.min(out.capacity(), maxSize + 1 - out.writerIndex()));
+    }
+  }
+
+  /**
+   * @return the index of the deflate stream following the GZIP header
+   */
+  private static int skipHeader(ByteBuf in, int idx, int to) {
+    if (to - idx < HEADER.length || in.getByte(idx) != HEADER[0] || in.getByte(idx + 1) != HEADER[1] || in.getByte(idx + 2) != Deflater.DEFLATED) {
+      throw new CodecException("Invalid GZIP input");
+    }
+    int flags = in.getByte(idx + 3);
+    idx += HEADER.length;
+    if ((flags & FEXTRA) != 0) {
+      if (to - idx < 2) {
+        throw new CodecException("Invalid GZIP input");
+      }
+      idx += 2 + in.getUnsignedShortLE(idx);
+    }
+    if ((flags & FNAME) != 0) {
+      idx = skipZeroTerminated(in, idx, to);
+    }
+    if ((flags & FCOMMENT) != 0) {
+      idx = skipZeroTerminated(in, idx, to);
+    }
+    if ((flags & FHCRC) != 0) {
+      idx += 2;
+    }
+    if (idx > to) {
+      throw new CodecException("Invalid GZIP input");
+    }
+    return idx;
+  }
+
+  private static int skipZeroTerminated(ByteBuf in, int idx, int to) {
+    int zero = idx < to ? in.indexOf(idx, to, (byte) 0) : -1;
+    if (zero == -1) {
+      throw new CodecException("Invalid GZIP input");
+    }
+    return zero + 1;
+  }
+
+  /**
+   * Same as zlib {@code deflateBound}.
+   */
+  static int deflateBound(int len) {
+    return len + (len >> 12) + (len >> 14) + (len >> 25) + 13;
+  }
+}
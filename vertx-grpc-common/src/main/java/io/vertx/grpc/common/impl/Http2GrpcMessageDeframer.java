@@ -10,13 +10,21 @@
  */
 package io.vertx.grpc.common.impl;
 
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.MessageSizeOverflowException;
 import io.vertx.grpc.common.WireFormat;
 
+import java.util.ArrayDeque;
+
 /**
- * State machine that handles slicing the input to a message
+ * State machine that handles slicing the input to a message.
+ *
+ * <p>Received chunks are kept in a queue and never copied: a message contained in a single chunk is a slice of
+ * this chunk, a message spanning several chunks is a composite of slices of these chunks.</p>
  */
 public class Http2GrpcMessageDeframer implements GrpcMessageDeframer {
 
@@ -24,7 +32,9 @@ public class Http2GrpcMessageDeframer implements GrpcMessageDeframer {
   private final WireFormat format;
   private long maxMessageSize;
 
-  private Buffer buffer;
+  private final ArrayDeque<Buffer> chunks = new ArrayDeque<>();
+  private int offset;
+  private long readable;
   private long bytesToSkip;
 
   public Http2GrpcMessageDeframer(String encoding, WireFormat format) {
@@ -38,31 +48,19 @@ public class Http2GrpcMessageDeframer implements GrpcMessageDeframer {
   }
 
   public void update(Buffer chunk) {
+    int len = chunk.length();
     if (bytesToSkip > 0L) {
-      int len = chunk.length();
       if (len <= bytesToSkip) {
         bytesToSkip -= len;
         return;
       }
       chunk = chunk.slice((int) bytesToSkip, len);
+      len -= (int) bytesToSkip;
       bytesToSkip = 0L;
     }
-    if (buffer == null) {
-      buffer = chunk;
-    } else {
-      try {
-        buffer.appendBuffer(chunk);
-      } catch (IndexOutOfBoundsException e) {
-        // Work around because we cannot happend to slices
-        //          java.lang.IndexOutOfBoundsException: writerIndex(270) + minWritableBytes(120) exceeds maxCapacity(270): UnpooledSlicedByteBuf(ridx: 0, widx: 270, cap: 270/270, unwrapped: VertxUnsafeHeapByteBuf(ridx: 0, widx: 0, cap: 270))
-        //          at io.netty.buffer@4.2.0.RC3/io.netty.buffer.AbstractByteBuf.ensureWritable0(AbstractByteBuf.java:294)
-        //          at io.netty.buffer@4.2.0.RC3/io.netty.buffer.AbstractByteBuf.ensureWritable(AbstractByteBuf.java:280)
-        //          at io.netty.buffer@4.2.0.RC3/io.netty.buffer.AbstractByteBuf.writeBytes(AbstractByteBuf.java:1103)
-        //          at io.vertx.core@5.0.0-SNAPSHOT/io.vertx.core.buffer.impl.BufferImpl.appendBuffer(BufferImpl.java:256)
-        //          at io.vertx.core@5.0.0-SNAPSHOT/io.vertx.core.buffer.impl.BufferImpl.appendBuffer(BufferImpl.java:41)
-        buffer = buffer.copy();
-        buffer.appendBuffer(chunk);
-      }
+    if (len > 0) {
+      chunks.add(chunk);
+      readable += len;
     }
   }
 
@@ -70,42 +68,112 @@ public class Http2GrpcMessageDeframer implements GrpcMessageDeframer {
   public void end() {
   }
 
+  @Override
+  public long buffered() {
+    return readable;
+  }
+
   public Object next() {
-    if (buffer == null) {
+    if (readable < 5) {
       return null;
     }
-    int idx = 0;
-    if (idx + 5 > buffer.length()) {
-      return null;
+    int flags;
+    long len;
+    Buffer head = chunks.peekFirst();
+    if (head.length() - offset >= 5) {
+      flags = head.getByte(offset);
+      len = ((long) head.getInt(offset + 1)) & 0xFFFFFFFFL;
+    } else {
+      flags = byteAt(0);
+      len = ((long) byteAt(1) << 24 | byteAt(2) << 16 | byteAt(3) << 8 | byteAt(4)) & 0xFFFFFFFFL;
     }
-    long len = ((long) buffer.getInt(idx + 1)) & 0xFFFFFFFFL;
     if (len > maxMessageSize) {
       MessageSizeOverflowException msoe = new MessageSizeOverflowException(len);
-      if (buffer.length() < (len + 5)) {
-        bytesToSkip = (len + 5) - buffer.length();
-        buffer = null;
+      if (readable < (len + 5)) {
+        bytesToSkip = (len + 5) - readable;
+        chunks.clear();
+        offset = 0;
+        readable = 0L;
       } else {
-        buffer = buffer.slice((int) (len + 5), buffer.length());
+        skip(len + 5);
       }
       return msoe;
     }
-    if (len > buffer.length() - (idx + 5)) {
+    if (len > readable - 5) {
       return null;
     }
-    boolean compressed = buffer.getByte(idx) == 1;
+    boolean compressed = flags == 1;
     if (compressed && encoding == null) {
       throw new UnsupportedOperationException("Handle me");
     }
-    Buffer payload = buffer.slice(idx + 5, (int) (idx + 5 + len));
-    GrpcMessage message = GrpcMessage.message(compressed ? encoding : "identity", format, payload);
-    idx += 5 + (int) len;
-    if (idx < buffer.length()) {
-      if (idx > 0) {
-        buffer = buffer.getBuffer(idx, buffer.length());
+    skip(5);
+    Buffer payload = read((int) len);
+    return GrpcMessage.message(compressed ? encoding : "identity", format, payload);
+  }
+
+  /**
+   * @return the unsigned byte at the {@code index} relative to the current read position, this can span chunks
+   */
+  private int byteAt(int index) {
+    index += offset;
+    for (Buffer chunk : chunks) {
+      int len = chunk.length();
+      if (index < len) {
+        return chunk.getByte(index) & 0xFF;
+      }
+      index -= len;
+    }
+    throw new IndexOutOfBoundsException();
+  }
+
+  /**
+   * Discard {@code amount} bytes, the caller must ensure there are enough readable bytes.
+   */
+  private void skip(long amount) {
+    readable -= amount;
+    while (amount > 0L) {
+      Buffer head = chunks.peekFirst();
+      int available = head.length() - offset;
+      if (amount < available) {
+        offset += (int) amount;
+        return;
+      }
+      amount -= available;
+      chunks.pollFirst();
+      offset = 0;
+    }
+  }
+
+  /**
+   * Read {@code len} bytes without copying them, the caller must ensure there are enough readable bytes.
+   */
+  private Buffer read(int len) {
+    Buffer head = chunks.peekFirst();
+    if (head == null) {
+      return Buffer.buffer();
+    }
+    int available = head.length() - offset;
+    if (len <= available) {
+      Buffer slice = head.slice(offset, offset + len);
+      skip(len);
+      return slice;
+    }
+    CompositeByteBuf composite = Unpooled.compositeBuffer(chunks.size());
+    int remaining = len;
+    while (remaining > 0) {
+      head = chunks.peekFirst();
+      available = head.length() - offset;
+      int amount = Math.min(available, remaining);
+      composite.addComponent(true, ((BufferInternal) head.slice(offset, offset + amount)).getByteBuf());
+      remaining -= amount;
+      if (amount == available) {
+        chunks.pollFirst();
+        offset = 0;
+      } else {
+        offset += amount;
       }
-    } else {
-      buffer = null;
     }
-    return message;
+    readable -= len;
+    return BufferInternal.buffer(composite);
   }
 }
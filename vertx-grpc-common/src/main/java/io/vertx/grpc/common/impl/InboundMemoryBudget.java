@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.grpc.common.MemoryBudget;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accounts the bytes held by the inbound streams of a server or a client.
+ *
+ * <p>When a stream acquires bytes beyond the limit, the stream is paused when its queued messages hold at least its fair
+ * share of the budget, otherwise the stream whose queued messages hold the most bytes is paused. The partial message
+ * buffered by a stream is accounted but is not considered, since it cannot be released while the stream is paused. The
+ * paused streams are resumed once the used bytes fall below three quarters of the limit.</p>
+ */
+public final class InboundMemoryBudget implements MemoryBudget {
+
+  private final long limit;
+  private final long resumeThreshold;
+  private final AtomicLong used = new AtomicLong();
+  private final Set<GrpcReadStreamBase<?, ?>> streams = ConcurrentHashMap.newKeySet();
+  private final Queue<GrpcReadStreamBase<?, ?>> paused = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pausedStreams = new AtomicInteger();
+  private final LongAdder pauseCount = new LongAdder();
+
+  public InboundMemoryBudget(long limit) {
+    if (limit <= 0L) {
+      throw new IllegalArgumentException("Limit must be > 0");
+    }
+    this.limit = limit;
+    this.resumeThreshold = limit - (limit >> 2);
+  }
+
+  @Override
+  public long limit() {
+    return limit;
+  }
+
+  @Override
+  public long used() {
+    return used.get();
+  }
+
+  @Override
+  public int pausedStreams() {
+    return pausedStreams.get();
+  }
+
+  @Override
+  public long pauseCount() {
+    return pauseCount.sum();
+  }
+
+  void register(GrpcReadStreamBase<?, ?> stream) {
+    streams.add(stream);
+  }
+
+  void unregister(GrpcReadStreamBase<?, ?> stream) {
+    streams.remove(stream);
+    if (stream.clearBudgetPaused()) {
+      paused.remove(stream);
+      pausedStreams.decrementAndGet();
+    }
+  }
+
+  void acquire(GrpcReadStreamBase<?, ?> stream, long amount) {
+    if (used.addAndGet(amount) > limit) {
+      shed(stream);
+    }
+  }
+
+  void release(long amount) {
+    if (used.addAndGet(-amount) <= resumeThreshold && pausedStreams.get() > 0) {
+      GrpcReadStreamBase<?, ?> stream;
+      while (used.get() <= resumeThreshold && (stream = paused.poll()) != null) {
+        if (stream.clearBudgetPaused()) {
+          pausedStreams.decrementAndGet();
+          stream.budgetPause(false);
+        }
+      }
+    }
+  }
+
+  private void shed(GrpcReadStreamBase<?, ?> stream) {
+    GrpcReadStreamBase<?, ?> victim = null;
+    long fairShare = limit / Math.max(1, streams.size());
+    long queued = stream.queuedBytes();
+    if (queued > 0L && queued >= fairShare) {
+      victim = stream;
+    } else {
+      long max = 0L;
+      for (GrpcReadStreamBase<?, ?> candidate : streams) {
+        long held = candidate.queuedBytes();
+        if (held > max && !candidate.isBudgetPaused()) {
+          max = held;
+          victim = candidate;
+        }
+      }
+    }
+    if (victim != null && victim.markBudgetPaused()) {
+      pausedStreams.incrementAndGet();
+      pauseCount.increment();
+      paused.add(victim);
+      victim.budgetPause(true);
+    }
+  }
+}
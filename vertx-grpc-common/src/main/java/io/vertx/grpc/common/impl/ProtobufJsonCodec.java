@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+import com.google.protobuf.util.JsonFormat;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Protobuf JSON codec sharing a single {@link JsonFormat.Printer} and {@link JsonFormat.Parser}, both are immutable
+ * and thread safe.
+ *
+ * <p>Messages are printed directly as UTF-8 bytes in a buffer and parsed from the buffer bytes, without an intermediate
+ * {@code String}.</p>
+ */
+public final class ProtobufJsonCodec {
+
+  private static final int MAX_INITIAL_CAPACITY = 64 * 1024;
+
+  private static final JsonFormat.Printer PRINTER = JsonFormat.printer();
+  private static final JsonFormat.Parser PARSER = JsonFormat.parser();
+
+  private ProtobufJsonCodec() {
+  }
+
+  /**
+   * Print {@code message} in JSON format.
+   *
+   * @param message the message
+   * @return the UTF-8 encoded JSON
+   */
+  public static Buffer encode(MessageOrBuilder message) throws CodecException {
+    int estimate = message instanceof Message ? ((Message) message).getSerializedSize() * 2 : 0;
+    ByteBuf buf = Unpooled.buffer(Math.min(Math.max(64, estimate), MAX_INITIAL_CAPACITY));
+    encode(message, buf);
+    return BufferInternal.buffer(buf);
+  }
+
+  /**
+   * Print {@code message} in JSON format at the end of {@code buf}.
+   *
+   * @param message the message
+   * @param buf the buffer receiving the UTF-8 encoded JSON
+   */
+  public static void encode(MessageOrBuilder message, ByteBuf buf) throws CodecException {
+    try {
+      Utf8Appendable out = new Utf8Appendable(buf);
+      PRINTER.appendTo(message, out);
+      out.flush();
+    } catch (IOException e) {
+      throw new CodecException(e);
+    }
+  }
+
+  /**
+   * Parse the UTF-8 encoded {@code json} in {@code builder}.
+   *
+   * @param json the JSON
+   * @param builder the message builder
+   * @return the {@code builder} argument
+   * @throws CodecException when {@code json} is not valid
+   */
+  public static <B extends Message.Builder> B decode(Buffer json, B builder) throws CodecException {
+    ByteBuf buf = ((BufferInternal) json).getByteBuf();
+    try (Reader reader = new InputStreamReader(new ByteBufInputStream(buf.duplicate()), StandardCharsets.UTF_8)) {
+      PARSER.merge(reader, builder);
+    } catch (IOException e) {
+      throw new CodecException(e);
+    }
+    return builder;
+  }
+
+  /**
+   * Encodes appended characters in UTF-8, a surrogate pair split across two appends is encoded as a single code point.
+   */
+  private static final class Utf8Appendable implements Appendable {
+
+    private final ByteBuf buf;
+    private char highSurrogate;
+
+    Utf8Appendable(ByteBuf buf) {
+      this.buf = buf;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) {
+      return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) {
+      if (start == end) {
+        return this;
+      }
+      if (highSurrogate != 0) {
+        ByteBufUtil.writeUtf8(buf, new String(new char[] { highSurrogate, csq.charAt(start++) }));
+        highSurrogate = 0;
+        if (start == end) {
+          return this;
+        }
+      }
+      char last = csq.charAt(end - 1);
+      if (Character.isHighSurrogate(last)) {
+        highSurrogate = last;
+        end--;
+      }
+      ByteBufUtil.writeUtf8(buf, csq, start, end);
+      return this;
+    }
+
+    @Override
+    public Appendable append(char c) {
+      if (c < 0x80 && highSurrogate == 0) {
+        buf.writeByte(c);
+        return this;
+      }
+      return append(String.valueOf(c), 0, 1);
+    }
+
+    void flush() {
+      if (highSurrogate != 0) {
+        // Unpaired surrogate
+        ByteBufUtil.writeUtf8(buf, String.valueOf(highSurrogate));
+        highSurrogate = 0;
+      }
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.WireFormat;
+
+/**
+ * Decoder of protobuf messages, the message builder is exposed so a message can be assembled from several sources
+ * before it is built.
+ */
+public final class ProtobufMessageDecoder<T> implements GrpcMessageDecoder<T> {
+
+  private final Message defaultInstance;
+  private final Parser<T> parser;
+  private final boolean aliasing;
+
+  @SuppressWarnings("unchecked")
+  public ProtobufMessageDecoder(Message defaultInstance, boolean aliasing) {
+    this.defaultInstance = defaultInstance;
+    this.parser = (Parser<T>) defaultInstance.getParserForType();
+    this.aliasing = aliasing;
+  }
+
+  /**
+   * @return a new builder of the decoded message type
+   */
+  public Message.Builder newBuilder() {
+    return defaultInstance.newBuilderForType();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public T decode(GrpcMessage msg) throws CodecException {
+    switch (msg.format()) {
+      case PROTOBUF:
+        try {
+          return parser.parseFrom(GrpcMessageImpl.protobufInput(msg.payload(), aliasing));
+        } catch (InvalidProtocolBufferException e) {
+          throw new CodecException(e);
+        }
+      case JSON:
+        return (T) ProtobufJsonCodec.decode(msg.payload(), newBuilder()).build();
+      default:
+        throw new IllegalArgumentException("Invalid wire format: " + msg.format());
+    }
+  }
+
+  @Override
+  public boolean accepts(WireFormat format) {
+    return true;
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.WireFormat;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A message written to several streams, the message is encoded once per format, then compressed and framed once per
+ * format and encoding.
+ *
+ * <p>The streams can be used from different threads, the results are kept in concurrent maps and the framed buffers
+ * are never modified, so they can be written by several streams.</p>
+ */
+public final class SharedMessage<T> {
+
+  /**
+   * @return a shared message encoded by the streams
+   */
+  public static <T> SharedMessage<T> message(T message) {
+    return new SharedMessage<>(message, null);
+  }
+
+  /**
+   * @return a shared message already encoded
+   */
+  public static <T> SharedMessage<T> encoded(GrpcMessage message) {
+    return new SharedMessage<>(null, message);
+  }
+
+  private final T message;
+  private final GrpcMessage encoded;
+  private final ConcurrentMap<WireFormat, GrpcMessage> encodings = new ConcurrentHashMap<>(2);
+  private final ConcurrentMap<String, GrpcMessage> frames = new ConcurrentHashMap<>(2);
+
+  private SharedMessage(T message, GrpcMessage encoded) {
+    this.message = message;
+    this.encoded = encoded;
+  }
+
+  GrpcMessage encode(WireFormat format, GrpcMessageEncoder<T> encoder) {
+    if (encoded != null) {
+      return encoded;
+    }
+    return encodings.computeIfAbsent(format, f -> encoder.encode(message, f));
+  }
+
+  GrpcMessage frame(WireFormat format, String encoding) {
+    return frames.get(key(format, encoding));
+  }
+
+  GrpcMessage frame(WireFormat format, String encoding, GrpcMessage frame) {
+    GrpcMessage prev = frames.putIfAbsent(key(format, encoding), frame);
+    return prev != null ? prev : frame;
+  }
+
+  private static String key(WireFormat format, String encoding) {
+    return encoding == null ? format.name() : format.name() + '/' + encoding;
+  }
+}
@@ -11,6 +11,8 @@ module io.vertx.grpc.common {
   requires com.google.protobuf;
   requires com.google.protobuf.util;
 
+  uses io.vertx.grpc.common.GrpcCompressor;
+
   exports io.vertx.grpc.common;
   exports io.vertx.grpc.common.impl to io.vertx.tests.common, io.vertx.grpc.server, io.vertx.grpc.client, io.vertx.grpc.transcoding, io.vertx.tests.server, io.vertx.tests.client;
 
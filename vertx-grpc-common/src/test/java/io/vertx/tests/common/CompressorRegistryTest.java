@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.common;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.impl.CompressorRegistry;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.Assert.*;
+
+public class CompressorRegistryTest {
+
+  @Test
+  public void testBuiltIn() {
+    CompressorRegistry registry = CompressorRegistry.DEFAULT;
+    assertTrue(registry.supports("identity"));
+    assertTrue(registry.supports("gzip"));
+    assertTrue(registry.supports("deflate"));
+    assertFalse(registry.supports("unknown"));
+    assertNull(registry.lookup("identity"));
+    assertTrue(registry.acceptEncoding().startsWith("gzip,deflate"));
+  }
+
+  @Test
+  public void testAccepts() {
+    assertTrue(CompressorRegistry.accepts("gzip", "gzip"));
+    assertTrue(CompressorRegistry.accepts("identity, deflate,gzip", "gzip"));
+    assertTrue(CompressorRegistry.accepts("identity , deflate ,gzip", "deflate"));
+    assertFalse(CompressorRegistry.accepts("gzipped,deflate", "gzip"));
+    assertFalse(CompressorRegistry.accepts("", "gzip"));
+  }
+
+  @Test
+  public void testDeflate() throws Exception {
+    GrpcCompressor deflate = CompressorRegistry.DEFAULT.lookup("deflate");
+    Buffer data = Buffer.buffer();
+    for (int i = 0; i < 10_000; i++) {
+      data.appendString("Hello World " + i);
+    }
+    assertEquals(data, deflate.decompress(deflate.compress(data)));
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (DeflaterOutputStream out = new DeflaterOutputStream(baos)) {
+      out.write(data.getBytes());
+    }
+    assertEquals(data, deflate.decompress(Buffer.buffer(baos.toByteArray())));
+    try {
+      deflate.decompress(Buffer.buffer("not deflate"));
+      fail();
+    } catch (CodecException expected) {
+    }
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.common;
+
+import io.vertx.core.Context;
+import io.vertx.core.Timer;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.common.impl.DeadlineWheel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class DeadlineWheelTest {
+
+  private Vertx vertx;
+  private ContextInternal context;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+  }
+
+  @After
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  @Test
+  public void testExpire() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    long start = System.nanoTime();
+    context.runOnContext(v -> {
+      DeadlineWheel.schedule(context, 50, TimeUnit.MILLISECONDS, v2 -> {
+        assertSame(context, Vertx.currentContext());
+        latch.countDown();
+      });
+    });
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  @Test
+  public void testExpireInOrder() throws Exception {
+    List<Integer> expired = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(3);
+    context.runOnContext(v -> {
+      // Beyond a rotation of the wheel
+      DeadlineWheel.schedule(context, 6000, TimeUnit.MILLISECONDS, v2 -> {
+        expired.add(3);
+        latch.countDown();
+      });
+      DeadlineWheel.schedule(context, 200, TimeUnit.MILLISECONDS, v2 -> {
+        expired.add(2);
+        latch.countDown();
+      });
+      DeadlineWheel.schedule(context, 20, TimeUnit.MILLISECONDS, v2 -> {
+        expired.add(1);
+        latch.countDown();
+      });
+    });
+    assertTrue(latch.await(20, TimeUnit.SECONDS));
+    assertEquals(List.of(1, 2, 3), expired);
+  }
+
+  @Test
+  public void testCancel() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    CompletableFuture<Boolean> fired = new CompletableFuture<>();
+    context.runOnContext(v -> {
+      DeadlineWheel.Deadline deadline = DeadlineWheel.schedule(context, 20, TimeUnit.MILLISECONDS, v2 -> fired.complete(true));
+      assertTrue(deadline.cancel());
+      assertFalse(deadline.cancel());
+      DeadlineWheel.schedule(context, 100, TimeUnit.MILLISECONDS, v2 -> latch.countDown());
+    });
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertFalse(fired.isDone());
+  }
+
+  @Test
+  public void testScheduleFromAnotherThread() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    DeadlineWheel.Deadline cancelled = DeadlineWheel.schedule(context, 20, TimeUnit.MILLISECONDS, v -> fail());
+    assertTrue(cancelled.cancel());
+    DeadlineWheel.schedule(context, 20, TimeUnit.MILLISECONDS, v -> {
+      assertTrue(Context.isOnEventLoopThread());
+      latch.countDown();
+    });
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testCancelFromAnotherThread() throws Exception {
+    CompletableFuture<DeadlineWheel.Deadline> scheduled = new CompletableFuture<>();
+    context.runOnContext(v -> scheduled.complete(DeadlineWheel.schedule(context, 60, TimeUnit.SECONDS, v2 -> fail())));
+    DeadlineWheel.Deadline deadline = scheduled.get(10, TimeUnit.SECONDS);
+    assertTrue(deadline.cancel());
+    WeakReference<DeadlineWheel.Deadline> ref = new WeakReference<>(deadline);
+    deadline = null;
+    scheduled = null;
+    // The wheel releases the deadline without waiting for its bucket
+    CountDownLatch removed = new CountDownLatch(1);
+    context.runOnContext(v -> removed.countDown());
+    assertTrue(removed.await(10, TimeUnit.SECONDS));
+    long until = System.currentTimeMillis() + 10_000;
+    while (ref.get() != null && System.currentTimeMillis() < until) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertNull(ref.get());
+  }
+
+  @Test
+  public void testToTimer() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    DeadlineWheel.Deadline deadline = DeadlineWheel.schedule(context, 100, TimeUnit.MILLISECONDS, v -> latch.countDown());
+    Timer timer = deadline.toTimer();
+    assertTrue(timer.getDelay(TimeUnit.MILLISECONDS) > 0L);
+    assertFalse(deadline.cancel());
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertTrue(timer.succeeded());
+  }
+}
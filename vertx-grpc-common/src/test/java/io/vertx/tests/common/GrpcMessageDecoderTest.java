@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.common;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.tests.common.grpc.Request;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GrpcMessageDecoderTest {
+
+  private static final Request REQUEST = Request.newBuilder().setName("x".repeat(1024)).build();
+
+  private static Request decode(ByteBuf payload) {
+    GrpcMessageDecoder<Request> decoder = GrpcMessageDecoder.decoder(Request.newBuilder());
+    return decoder.decode(GrpcMessage.message("identity", BufferInternal.buffer(payload)));
+  }
+
+  @Test
+  public void testDecodeHeap() {
+    byte[] bytes = REQUEST.toByteArray();
+    byte[] padded = new byte[bytes.length + 8];
+    System.arraycopy(bytes, 0, padded, 4, bytes.length);
+    assertEquals(REQUEST, decode(Unpooled.wrappedBuffer(padded).slice(4, bytes.length)));
+  }
+
+  @Test
+  public void testDecodeDirect() {
+    byte[] bytes = REQUEST.toByteArray();
+    ByteBuf direct = Unpooled.directBuffer(bytes.length).writeBytes(bytes);
+    try {
+      assertEquals(REQUEST, decode(direct));
+    } finally {
+      direct.release();
+    }
+  }
+
+  @Test
+  public void testDecodeComposite() {
+    byte[] bytes = REQUEST.toByteArray();
+    CompositeByteBuf composite = Unpooled.compositeBuffer();
+    for (int idx = 0; idx < bytes.length; idx += 100) {
+      composite.addComponent(true, Unpooled.wrappedBuffer(bytes, idx, Math.min(100, bytes.length - idx)));
+    }
+    assertEquals(REQUEST, decode(composite));
+  }
+
+  @Test
+  public void testDecodeInvalid() {
+    try {
+      decode(Unpooled.wrappedBuffer(new byte[] { 10, 20, 'a' }));
+      fail();
+    } catch (CodecException expected) {
+    }
+  }
+
+  @Test
+  public void testAliasing() {
+    BytesValue value = BytesValue.of(ByteString.copyFromUtf8("Hello World"));
+    byte[] bytes = value.toByteArray();
+    GrpcMessage msg = GrpcMessage.message("identity", Buffer.buffer().appendBytes(bytes));
+    BytesValue copy = GrpcMessageDecoder.<BytesValue>decoder(BytesValue.newBuilder()).decode(msg);
+    BytesValue alias = GrpcMessageDecoder.<BytesValue>decoder(BytesValue.newBuilder(), true).decode(msg);
+    assertEquals(value, copy);
+    assertEquals(value, alias);
+    msg.payload().setByte(bytes.length - 1, (byte) 'D');
+    assertEquals("Hello World", copy.getValue().toStringUtf8());
+    assertEquals("Hello WorlD", alias.getValue().toStringUtf8());
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.common;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.GrpcMessageImpl;
+import io.vertx.tests.common.grpc.Request;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GrpcMessageEncoderTest {
+
+  @Test
+  public void testEncodeProtobuf() {
+    GrpcMessageEncoder<Request> encoder = GrpcMessageEncoder.encoder();
+    for (String name : new String[] { "", "Julien", "x".repeat(64 * 1024) }) {
+      Request request = Request.newBuilder().setName(name).build();
+      byte[] expected = request.toByteArray();
+      GrpcMessage message = encoder.encode(request, WireFormat.PROTOBUF);
+      assertEquals("identity", message.encoding());
+      assertEquals(WireFormat.PROTOBUF, message.format());
+      assertEquals(Buffer.buffer(expected), message.payload());
+      Buffer frame = GrpcMessageImpl.encode(message);
+      assertEquals(5 + expected.length, frame.length());
+      assertEquals(0, frame.getByte(0));
+      assertEquals(expected.length, frame.getInt(1));
+      assertEquals(Buffer.buffer(expected), frame.slice(5, frame.length()));
+      // The framed message can be sent several times
+      assertEquals(frame, GrpcMessageImpl.encode(message));
+      // Trailers are never framed in advance
+      assertEquals((byte) 0x80, GrpcMessageImpl.encode(message, true).getByte(0));
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.common;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.impl.DeflateCodec;
+import io.vertx.grpc.common.impl.GzipCodec;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class GzipCodecTest {
+
+  private static Buffer data(int size) {
+    Random random = new Random(size);
+    Buffer buffer = Buffer.buffer(size);
+    for (int i = 0; i < size; i++) {
+      buffer.appendByte((byte) ('a' + random.nextInt(8)));
+    }
+    return buffer;
+  }
+
+  @Test
+  public void testEncode() {
+    for (int size : new int[] { 0, 1, 1024, 256 * 1024 }) {
+      Buffer data = data(size);
+      assertEquals(data, GrpcTestBase.unzip(GzipCodec.encode(data)));
+    }
+  }
+
+  @Test
+  public void testDecode() {
+    for (int size : new int[] { 0, 1, 1024, 256 * 1024 }) {
+      Buffer data = data(size);
+      assertEquals(data, GzipCodec.decode(GrpcTestBase.zip(data)));
+    }
+  }
+
+  @Test
+  public void testRoundTrip() {
+    Buffer data = data(100_000);
+    for (int i = 0; i < 3; i++) {
+      assertEquals(data, GzipCodec.decode(GzipCodec.encode(data)));
+    }
+  }
+
+  @Test
+  public void testDecodeSlice() {
+    Buffer data = data(1024);
+    Buffer zipped = GrpcTestBase.zip(data);
+    Buffer padded = Buffer.buffer().appendString("padding").appendBuffer(zipped);
+    assertEquals(data, GzipCodec.decode(padded.slice(7, padded.length())));
+  }
+
+  @Test
+  public void testDecodeMaxSize() {
+    Buffer data = Buffer.buffer(new byte[256 * 1024]);
+    Buffer zipped = GzipCodec.encode(data);
+    assertEquals(data, GzipCodec.decode(zipped, data.length()));
+    try {
+      GzipCodec.decode(zipped, data.length() - 1);
+      fail();
+    } catch (CodecException expected) {
+    }
+    Buffer deflated = DeflateCodec.INSTANCE.compress(data);
+    assertEquals(data, DeflateCodec.INSTANCE.decompress(deflated, data.length()));
+    try {
+      DeflateCodec.INSTANCE.decompress(deflated, 1024);
+      fail();
+    } catch (CodecException expected) {
+    }
+  }
+
+  @Test
+  public void testDecodeInvalid() {
+    assertDecodeFailure(Buffer.buffer());
+    assertDecodeFailure(Buffer.buffer("not gzip content"));
+    Buffer zipped = GrpcTestBase.zip(data(1024));
+    assertDecodeFailure(zipped.getBuffer(0, zipped.length() - 4));
+    Buffer corrupted = zipped.copy();
+    corrupted.setByte(corrupted.length() - 8, (byte) (corrupted.getByte(corrupted.length() - 8) + 1));
+    assertDecodeFailure(corrupted);
+  }
+
+  private static void assertDecodeFailure(Buffer buffer) {
+    try {
+      GzipCodec.decode(buffer);
+      fail();
+    } catch (CodecException expected) {
+    }
+  }
+}
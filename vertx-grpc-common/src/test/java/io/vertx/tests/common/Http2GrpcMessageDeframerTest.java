@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.common;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.MessageSizeOverflowException;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.Http2GrpcMessageDeframer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class Http2GrpcMessageDeframerTest {
+
+  private static Buffer frame(Buffer payload, boolean compressed) {
+    return Buffer.buffer()
+      .appendByte((byte) (compressed ? 1 : 0))
+      .appendInt(payload.length())
+      .appendBuffer(payload);
+  }
+
+  private static Buffer payload(int size) {
+    Buffer buffer = Buffer.buffer(size);
+    for (int i = 0; i < size; i++) {
+      buffer.appendByte((byte) i);
+    }
+    return buffer;
+  }
+
+  private static List<Object> deframe(Http2GrpcMessageDeframer deframer, Buffer stream, int chunkSize) {
+    List<Object> messages = new ArrayList<>();
+    for (int from = 0; from < stream.length(); from += chunkSize) {
+      deframer.update(stream.slice(from, Math.min(stream.length(), from + chunkSize)));
+      Object next;
+      while ((next = deframer.next()) != null) {
+        messages.add(next);
+      }
+    }
+    return messages;
+  }
+
+  private static Http2GrpcMessageDeframer deframer(long maxMessageSize) {
+    Http2GrpcMessageDeframer deframer = new Http2GrpcMessageDeframer("gzip", WireFormat.PROTOBUF);
+    deframer.maxMessageSize(maxMessageSize);
+    return deframer;
+  }
+
+  @Test
+  public void testSmallMessagesInSingleChunk() {
+    Buffer stream = Buffer.buffer();
+    for (int i = 0; i < 100; i++) {
+      stream.appendBuffer(frame(Buffer.buffer().appendByte((byte) i), false));
+    }
+    List<Object> messages = deframe(deframer(Long.MAX_VALUE), stream, stream.length());
+    assertEquals(100, messages.size());
+    for (int i = 0; i < 100; i++) {
+      GrpcMessage message = (GrpcMessage) messages.get(i);
+      assertEquals("identity", message.encoding());
+      assertEquals(Buffer.buffer().appendByte((byte) i), message.payload());
+    }
+  }
+
+  @Test
+  public void testMessageSpanningChunks() {
+    Buffer payload = payload(64 * 1024);
+    Buffer stream = frame(payload, false).appendBuffer(frame(payload, true));
+    for (int chunkSize : new int[] { 1, 3, 7, 1000, 16 * 1024 }) {
+      List<Object> messages = deframe(deframer(Long.MAX_VALUE), stream, chunkSize);
+      assertEquals(2, messages.size());
+      assertEquals("identity", ((GrpcMessage) messages.get(0)).encoding());
+      assertEquals(payload, ((GrpcMessage) messages.get(0)).payload());
+      assertEquals("gzip", ((GrpcMessage) messages.get(1)).encoding());
+      assertEquals(payload, ((GrpcMessage) messages.get(1)).payload());
+    }
+  }
+
+  @Test
+  public void testEmptyMessage() {
+    Buffer stream = frame(Buffer.buffer(), false).appendBuffer(frame(payload(3), false));
+    List<Object> messages = deframe(deframer(Long.MAX_VALUE), stream, 2);
+    assertEquals(2, messages.size());
+    assertEquals(Buffer.buffer(), ((GrpcMessage) messages.get(0)).payload());
+    assertEquals(payload(3), ((GrpcMessage) messages.get(1)).payload());
+  }
+
+  @Test
+  public void testMessageSizeOverflow() {
+    Buffer stream = frame(payload(10), false)
+      .appendBuffer(frame(payload(1000), false))
+      .appendBuffer(frame(payload(20), false));
+    for (int chunkSize : new int[] { 1, 8, 100, stream.length() }) {
+      List<Object> messages = deframe(deframer(100), stream, chunkSize);
+      assertEquals(3, messages.size());
+      assertEquals(payload(10), ((GrpcMessage) messages.get(0)).payload());
+      assertEquals(1000L, ((MessageSizeOverflowException) messages.get(1)).messageSize());
+      assertEquals(payload(20), ((GrpcMessage) messages.get(2)).payload());
+    }
+  }
+}
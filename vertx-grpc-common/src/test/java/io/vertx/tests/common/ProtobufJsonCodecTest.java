@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.common;
+
+import com.google.protobuf.util.JsonFormat;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.impl.ProtobufJsonCodec;
+import io.vertx.tests.common.grpc.Request;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ProtobufJsonCodecTest {
+
+  @Test
+  public void testEncode() throws Exception {
+    for (String name : new String[] { "", "Julien", "café € 😀", "\"quoted\"\n", "x".repeat(100_000) }) {
+      Request request = Request.newBuilder().setName(name).build();
+      Buffer json = ProtobufJsonCodec.encode(request);
+      assertEquals(Buffer.buffer(JsonFormat.printer().print(request)), json);
+      assertEquals(request, ProtobufJsonCodec.decode(json, Request.newBuilder()).build());
+    }
+  }
+
+  @Test
+  public void testDecodeSlice() {
+    Buffer json = Buffer.buffer("xx{\"name\":\"Julien\"}xx");
+    Request request = ProtobufJsonCodec.decode(json.slice(2, json.length() - 2), Request.newBuilder()).build();
+    assertEquals("Julien", request.getName());
+  }
+
+  @Test
+  public void testDecodeInvalid() {
+    try {
+      ProtobufJsonCodec.decode(Buffer.buffer("{\"name\":"), Request.newBuilder());
+      fail();
+    } catch (CodecException expected) {
+    }
+    try {
+      ProtobufJsonCodec.decode(Buffer.buffer("{\"unknown\":3}"), Request.newBuilder());
+      fail();
+    } catch (CodecException expected) {
+    }
+  }
+}
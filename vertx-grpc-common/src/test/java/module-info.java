@@ -1,10 +1,12 @@
 open module io.vertx.tests.common {
   requires io.vertx.core;
+  requires io.netty.buffer;
   requires io.vertx.grpc.common;
   requires io.vertx.testing.unit;
   requires junit;
   requires com.google.common;
   requires com.google.protobuf;
+  requires com.google.protobuf.util;
   requires io.grpc;
   requires io.grpc.protobuf;
   requires io.grpc.stub;
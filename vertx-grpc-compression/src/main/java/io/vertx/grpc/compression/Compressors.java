@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.compression;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+class Compressors {
+
+  /**
+   * @return the decompression limit as a buffer size
+   */
+  static int limit(long maxSize) {
+    // Leave room for the extra byte that detects an overflow
+    return (int) Math.min(maxSize, Integer.MAX_VALUE - 1);
+  }
+
+  static CodecException tooLarge(long maxSize) {
+    return new CodecException("Decompressed message exceeds " + maxSize + " bytes");
+  }
+
+  /**
+   * Read the decompressed stream {@code is} to a buffer, failing as soon as more than {@code maxSize} bytes are read.
+   *
+   * @param is the stream
+   * @param compressedSize the compressed size used to size the buffer
+   * @param maxSize the maximum size of the decompressed data
+   * @return the buffer
+   */
+  static Buffer readFully(InputStream is, int compressedSize, long maxSize) throws IOException {
+    int limit = limit(maxSize);
+    ByteBuf out = Unpooled.buffer(Math.min(Math.max(256, compressedSize * 2), limit + 1));
+    while (true) {
+      if (!out.isWritable()) {
+        // Grow by at most one byte past the limit
+        out.ensureWritable(Math.min(out.capacity(), limit + 1 - out.writerIndex()));
+      }
+      int amount = out.writeBytes(is, out.writableBytes());
+      if (amount == -1) {
+        break;
+      }
+      if (out.writerIndex() > limit) {
+        throw tooLarge(maxSize);
+      }
+    }
+    return BufferInternal.buffer(out);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.compression;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * {@code lz4} compressor using the LZ4 frame format, requires the {@code org.lz4:lz4-java} library.
+ */
+public class Lz4Compressor implements GrpcCompressor {
+
+  public Lz4Compressor() {
+    // Fails when the library is not available
+    LZ4Factory.fastestInstance();
+  }
+
+  @Override
+  public String encoding() {
+    return "lz4";
+  }
+
+  @Override
+  public Buffer compress(Buffer data) throws CodecException {
+    ByteBuf in = ((BufferInternal) data).getByteBuf();
+    ByteBuf out = Unpooled.buffer(64 + in.readableBytes());
+    try (OutputStream os = new LZ4FrameOutputStream(new ByteBufOutputStream(out))) {
+      in.getBytes(in.readerIndex(), os, in.readableBytes());
+    } catch (IOException | RuntimeException e) {
+      throw new CodecException(e);
+    }
+    return BufferInternal.buffer(out);
+  }
+
+  @Override
+  public Buffer decompress(Buffer data) throws CodecException {
+    return decompress(data, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public Buffer decompress(Buffer data, long maxSize) throws CodecException {
+    ByteBuf in = ((BufferInternal) data).getByteBuf();
+    try (InputStream is = new LZ4FrameInputStream(new ByteBufInputStream(in.duplicate()))) {
+      return Compressors.readFully(is, in.readableBytes(), maxSize);
+    } catch (IOException | RuntimeException e) {
+      throw new CodecException(e);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.compression;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.compression.Snappy;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+
+/**
+ * {@code snappy} compressor using the Snappy block format, implemented with the Netty Snappy codec.
+ */
+public class SnappyCompressor implements GrpcCompressor {
+
+  @Override
+  public String encoding() {
+    return "snappy";
+  }
+
+  @Override
+  public Buffer compress(Buffer data) throws CodecException {
+    ByteBuf in = ((BufferInternal) data).getByteBuf().duplicate();
+    int len = in.readableBytes();
+    // Snappy worst case
+    ByteBuf out = Unpooled.buffer(32 + len + len / 6);
+    new Snappy().encode(in, out, len);
+    return BufferInternal.buffer(out);
+  }
+
+  @Override
+  public Buffer decompress(Buffer data) throws CodecException {
+    return decompress(data, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public Buffer decompress(Buffer data, long maxSize) throws CodecException {
+    ByteBuf in = ((BufferInternal) data).getByteBuf().duplicate();
+    int uncompressedLength = uncompressedLength(in);
+    // The length is declared by the peer, check it before allocating
+    if (uncompressedLength > maxSize) {
+      throw Compressors.tooLarge(maxSize);
+    }
+    ByteBuf out = Unpooled.buffer(uncompressedLength);
+    try {
+      new Snappy().decode(in, out);
+    } catch (Exception e) {
+      throw new CodecException(e);
+    }
+    if (in.isReadable() || out.readableBytes() != uncompressedLength) {
+      throw new CodecException("Invalid snappy input");
+    }
+    return BufferInternal.buffer(out);
+  }
+
+  /**
+   * @return the uncompressed length encoded as a varint at the beginning of the block
+   */
+  private static int uncompressedLength(ByteBuf in) {
+    int length = 0;
+    int idx = in.readerIndex();
+    for (int shift = 0; shift < 32; shift += 7) {
+      if (idx >= in.writerIndex()) {
+        break;
+      }
+      int b = in.getByte(idx++);
+      length |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        if (length < 0) {
+          break;
+        }
+        return length;
+      }
+    }
+    throw new CodecException("Invalid snappy input");
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdInputStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@code zstd} compressor, requires the {@code com.github.luben:zstd-jni} library.
+ */
+public class ZstdCompressor implements GrpcCompressor {
+
+  private final int level;
+
+  public ZstdCompressor() {
+    // Fails when the library is not available
+    this(Zstd.defaultCompressionLevel());
+  }
+
+  public ZstdCompressor(int level) {
+    this.level = level;
+  }
+
+  @Override
+  public String encoding() {
+    return "zstd";
+  }
+
+  @Override
+  public Buffer compress(Buffer data) throws CodecException {
+    try {
+      return BufferInternal.buffer(Unpooled.wrappedBuffer(Zstd.compress(data.getBytes(), level)));
+    } catch (RuntimeException e) {
+      throw new CodecException(e);
+    }
+  }
+
+  @Override
+  public Buffer decompress(Buffer data) throws CodecException {
+    return decompress(data, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public Buffer decompress(Buffer data, long maxSize) throws CodecException {
+    ByteBuf in = ((BufferInternal) data).getByteBuf();
+    try (InputStream is = new ZstdInputStream(new ByteBufInputStream(in.duplicate()))) {
+      return Compressors.readFully(is, in.readableBytes(), maxSize);
+    } catch (IOException | RuntimeException e) {
+      throw new CodecException(e);
+    }
+  }
+}
@@ -0,0 +1,17 @@
+module io.vertx.grpc.compression {
+
+  requires io.vertx.core;
+  requires io.vertx.grpc.common;
+  requires io.netty.buffer;
+  requires io.netty.codec.compression;
+
+  requires static com.github.luben.zstd_jni;
+  requires static org.lz4.java;
+
+  exports io.vertx.grpc.compression;
+
+  provides io.vertx.grpc.common.GrpcCompressor with
+    io.vertx.grpc.compression.SnappyCompressor,
+    io.vertx.grpc.compression.ZstdCompressor,
+    io.vertx.grpc.compression.Lz4Compressor;
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.compression;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.ServiceLoader;
+
+import static org.junit.Assert.*;
+
+public class CompressorTest {
+
+  private static Map<String, GrpcCompressor> compressors() {
+    Map<String, GrpcCompressor> compressors = new HashMap<>();
+    for (GrpcCompressor compressor : ServiceLoader.load(GrpcCompressor.class)) {
+      compressors.put(compressor.encoding(), compressor);
+    }
+    return compressors;
+  }
+
+  private static Buffer data(int size) {
+    Random random = new Random(size);
+    Buffer buffer = Buffer.buffer(size);
+    for (int i = 0; i < size; i++) {
+      buffer.appendByte((byte) ('a' + random.nextInt(8)));
+    }
+    return buffer;
+  }
+
+  @Test
+  public void testDiscovery() {
+    Map<String, GrpcCompressor> compressors = compressors();
+    assertTrue(compressors.containsKey("snappy"));
+    assertTrue(compressors.containsKey("zstd"));
+    assertTrue(compressors.containsKey("lz4"));
+  }
+
+  @Test
+  public void testSnappy() {
+    testRoundTrip("snappy");
+  }
+
+  @Test
+  public void testZstd() {
+    testRoundTrip("zstd");
+  }
+
+  @Test
+  public void testLz4() {
+    testRoundTrip("lz4");
+  }
+
+  @Test
+  public void testMaxSize() {
+    Buffer data = Buffer.buffer(new byte[256 * 1024]);
+    for (GrpcCompressor compressor : compressors().values()) {
+      Buffer compressed = compressor.compress(data);
+      assertEquals(data, compressor.decompress(compressed, data.length()));
+      try {
+        compressor.decompress(compressed, data.length() - 1);
+        fail(compressor.encoding());
+      } catch (CodecException expected) {
+      }
+    }
+  }
+
+  @Test
+  public void testSnappyDeclaredLengthTooLarge() {
+    // A literal of a single byte declaring an uncompressed length of 2GB - 1
+    Buffer block = Buffer.buffer(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0x00, 'a' });
+    try {
+      compressors().get("snappy").decompress(block, 1024);
+      fail();
+    } catch (CodecException expected) {
+    }
+  }
+
+  @Test
+  public void testMissingLibrary() throws Exception {
+    // Load the registry from the class path without the zstd-jni library
+    List<URL> urls = new ArrayList<>();
+    boolean found = false;
+    for (String property : new String[] { "jdk.module.path", "java.class.path" }) {
+      String path = System.getProperty(property);
+      if (path == null || path.isEmpty()) {
+        continue;
+      }
+      for (String entry : path.split(File.pathSeparator)) {
+        if (entry.contains("zstd-jni")) {
+          found = true;
+        } else {
+          urls.add(new File(entry).toURI().toURL());
+        }
+      }
+    }
+    Assume.assumeTrue(found);
+    try (URLClassLoader loader = new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getPlatformClassLoader())) {
+      Class<?> registryClass = Class.forName("io.vertx.grpc.common.impl.CompressorRegistry", true, loader);
+      Object registry = registryClass.getField("DEFAULT").get(null);
+      Method lookup = registryClass.getMethod("lookup", String.class);
+      assertNotNull(lookup.invoke(registry, "gzip"));
+      assertNotNull(lookup.invoke(registry, "snappy"));
+      assertNotNull(lookup.invoke(registry, "lz4"));
+      assertNull(lookup.invoke(registry, "zstd"));
+    }
+  }
+
+  private void testRoundTrip(String encoding) {
+    GrpcCompressor compressor = compressors().get(encoding);
+    for (int size : new int[] { 0, 1, 1024, 256 * 1024 }) {
+      Buffer data = data(size);
+      Buffer compressed = compressor.compress(data);
+      if (size > 1024) {
+        assertTrue(compressed.length() < size);
+      }
+      assertEquals(data, compressor.decompress(compressed));
+      // Slices
+      Buffer padded = Buffer.buffer("padding").appendBuffer(compressed);
+      assertEquals(data, compressor.decompress(padded.slice(7, padded.length())));
+    }
+    try {
+      compressor.decompress(Buffer.buffer("not compressed data"));
+      fail();
+    } catch (CodecException expected) {
+    }
+  }
+}
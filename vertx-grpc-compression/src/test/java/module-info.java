@@ -0,0 +1,7 @@
+open module io.vertx.tests.compression {
+  requires io.vertx.core;
+  requires io.vertx.grpc.common;
+  requires io.vertx.grpc.compression;
+  requires junit;
+  uses io.vertx.grpc.common.GrpcCompressor;
+}
@@ -18,6 +18,8 @@ import io.vertx.grpc.reflection.ReflectionService;
 import io.vertx.grpc.server.*;
 import io.vertx.grpc.transcoding.TranscodingServiceMethod;
 
+import java.util.List;
+
 @Source
 public class GrpcServerExamples {
 
@@ -90,6 +92,44 @@ public class GrpcServerExamples {
     });
   }
 
+  public void batchedResponse(GrpcServer server, List<Item> items) {
+
+    server.callHandler(StreamingGrpcService.Source, request -> {
+      GrpcServerResponse<Empty, Item> response = request.response();
+      request.handler(empty -> {
+        // Framed together and written with a single write
+        response.writeAll(items);
+        response.end();
+      });
+    });
+  }
+
+  public void coalescedResponse(GrpcServer server) {
+
+    server.callHandler(StreamingGrpcService.Source, request -> {
+      GrpcServerResponse<Empty, Item> response = request.response().coalesceWrites(true);
+      request.handler(empty -> {
+        for (int i = 0;i < 10;i++) {
+          response.write(Item.newBuilder().setValue("1").build());
+        }
+        response.end();
+      });
+    });
+  }
+
+  public void broadcast(GrpcServer server, Vertx vertx) {
+
+    GrpcBroadcaster<Item> broadcaster = GrpcBroadcaster.create(SlowConsumerPolicy.CONFLATE);
+
+    server.callHandler(StreamingGrpcService.Source, request -> {
+      request.handler(empty -> broadcaster.subscribe(request.response()));
+    });
+
+    vertx.setPeriodic(1000, id -> {
+      broadcaster.broadcast(Item.newBuilder().setValue("tick").build());
+    });
+  }
+
   public void bidi(GrpcServer server) {
 
     server.callHandler(StreamingGrpcService.Pipe, request -> {
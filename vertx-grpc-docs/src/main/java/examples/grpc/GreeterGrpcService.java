@@ -3,6 +3,7 @@ package examples.grpc;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
@@ -108,6 +109,7 @@ public class GreeterGrpcService extends GreeterService implements Service {
 
     private final List<ServiceMethod<?, ?>> serviceMethods = new ArrayList<>();
     private final GreeterService instance;
+    private ThreadingModel threadingModel;
 
     private Builder(GreeterService instance) {
       this.instance = instance;
@@ -128,6 +130,23 @@ public class GreeterGrpcService extends GreeterService implements Service {
       throw new UnsupportedOperationException();
     }
 
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    public <Req, Resp> ServiceBuilder bind(ServiceMethod<Req, Resp> serviceMethod, ThreadingModel threadingModel, Handler<GrpcServerRequest<Req, Resp>> handler) {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Set the threading model of the service methods, by default the server threading model is used.
+     *
+     * @return this builder
+     */
+    public Builder threadingModel(ThreadingModel threadingModel) {
+      this.threadingModel = threadingModel;
+      return this;
+    }
+
     /**
      * @return this builder
      */
@@ -151,6 +170,7 @@ public class GreeterGrpcService extends GreeterService implements Service {
 
       // Defensive copy
       private final List<ServiceMethod<?, ?>> serviceMethods = new ArrayList<>(Builder.this.serviceMethods);
+      private final ThreadingModel threadingModel = Builder.this.threadingModel;
 
       public ServiceName name() {
         return SERVICE_NAME;
@@ -171,7 +191,11 @@ public class GreeterGrpcService extends GreeterService implements Service {
 
       private <Req, Resp> void bindHandler(ServiceMethod<Req, Resp> serviceMethod, GrpcServer server) {
         Handler<io.vertx.grpc.server.GrpcServerRequest<Req, Resp>> handler = resolveHandler(serviceMethod);
-        server.callHandler(serviceMethod, handler);
+        if (threadingModel != null) {
+          server.callHandler(serviceMethod, threadingModel, handler);
+        } else {
+          server.callHandler(serviceMethod, handler);
+        }
       }
 
       private <Req, Resp> Handler<io.vertx.grpc.server.GrpcServerRequest<Req, Resp>> resolveHandler(ServiceMethod<Req, Resp> serviceMethod) {
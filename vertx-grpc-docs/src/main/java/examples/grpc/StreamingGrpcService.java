@@ -3,6 +3,7 @@ package examples.grpc;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
@@ -74,7 +75,8 @@ public class StreamingGrpcService extends StreamingService implements Service {
     SERVICE_NAME,
     "Source",
     GrpcMessageEncoder.encoder(),
-    GrpcMessageDecoder.decoder(examples.grpc.Empty.newBuilder()));
+    GrpcMessageDecoder.decoder(examples.grpc.Empty.newBuilder()),
+    true);
 
   /**
    * Sink protobuf RPC server service method.
@@ -83,7 +85,8 @@ public class StreamingGrpcService extends StreamingService implements Service {
     SERVICE_NAME,
     "Sink",
     GrpcMessageEncoder.encoder(),
-    GrpcMessageDecoder.decoder(examples.grpc.Item.newBuilder()));
+    GrpcMessageDecoder.decoder(examples.grpc.Item.newBuilder()),
+    false);
 
   /**
    * Pipe protobuf RPC server service method.
@@ -92,7 +95,8 @@ public class StreamingGrpcService extends StreamingService implements Service {
     SERVICE_NAME,
     "Pipe",
     GrpcMessageEncoder.encoder(),
-    GrpcMessageDecoder.decoder(examples.grpc.Item.newBuilder()));
+    GrpcMessageDecoder.decoder(examples.grpc.Item.newBuilder()),
+    false);
 
   /**
    * @return a mutable list of the known protobuf RPC server service methods.
@@ -120,6 +124,7 @@ public class StreamingGrpcService extends StreamingService implements Service {
 
     private final List<ServiceMethod<?, ?>> serviceMethods = new ArrayList<>();
     private final StreamingService instance;
+    private ThreadingModel threadingModel;
 
     private Builder(StreamingService instance) {
       this.instance = instance;
@@ -140,6 +145,23 @@ public class StreamingGrpcService extends StreamingService implements Service {
       throw new UnsupportedOperationException();
     }
 
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    public <Req, Resp> ServiceBuilder bind(ServiceMethod<Req, Resp> serviceMethod, ThreadingModel threadingModel, Handler<GrpcServerRequest<Req, Resp>> handler) {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Set the threading model of the service methods, by default the server threading model is used.
+     *
+     * @return this builder
+     */
+    public Builder threadingModel(ThreadingModel threadingModel) {
+      this.threadingModel = threadingModel;
+      return this;
+    }
+
     /**
      * @return this builder
      */
@@ -163,6 +185,7 @@ public class StreamingGrpcService extends StreamingService implements Service {
 
       // Defensive copy
       private final List<ServiceMethod<?, ?>> serviceMethods = new ArrayList<>(Builder.this.serviceMethods);
+      private final ThreadingModel threadingModel = Builder.this.threadingModel;
 
       public ServiceName name() {
         return SERVICE_NAME;
@@ -183,7 +206,11 @@ public class StreamingGrpcService extends StreamingService implements Service {
 
       private <Req, Resp> void bindHandler(ServiceMethod<Req, Resp> serviceMethod, GrpcServer server) {
         Handler<io.vertx.grpc.server.GrpcServerRequest<Req, Resp>> handler = resolveHandler(serviceMethod);
-        server.callHandler(serviceMethod, handler);
+        if (threadingModel != null) {
+          server.callHandler(serviceMethod, threadingModel, handler);
+        } else {
+          server.callHandler(serviceMethod, handler);
+        }
       }
 
       private <Req, Resp> Handler<io.vertx.grpc.server.GrpcServerRequest<Req, Resp>> resolveHandler(ServiceMethod<Req, Resp> serviceMethod) {
@@ -17,7 +17,8 @@ public class GrpcHealthCheckV1Handler extends GrpcHealthV1HandlerBase implements
     ServiceName.create("grpc.health.v1.Health"),
     "Check",
     GrpcMessageEncoder.encoder(),
-    GrpcMessageDecoder.decoder(HealthCheckRequest.newBuilder()));
+    GrpcMessageDecoder.decoder(HealthCheckRequest.newBuilder()),
+    true);
 
   public GrpcHealthCheckV1Handler(GrpcServer server, Map<String, Supplier<Future<Boolean>>> healthChecks) {
     super(server, healthChecks);
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.it;
+
+import io.grpc.examples.helloworld.*;
+import io.vertx.core.Context;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.InvalidStatusException;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.server.GrpcServer;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class BlockingServiceTest extends ProxyTestBase {
+
+  @Test
+  public void testHelloWorld(TestContext should) throws Exception {
+    Assume.assumeTrue(Runtime.version().feature() >= 21);
+
+    GrpcServer grpcServer = GrpcServer.server(vertx);
+    grpcServer.addService(new GreeterBlockingGrpcService() {
+      @Override
+      public HelloReply sayHello(HelloRequest request) {
+        Context context = Vertx.currentContext();
+        should.assertEquals(ThreadingModel.VIRTUAL_THREAD, context.threadingModel());
+        // Blocking is allowed
+        try {
+          Thread.sleep(10);
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        return HelloReply.newBuilder()
+          .setMessage("Hello " + request.getName())
+          .build();
+      }
+    });
+    HttpServer httpServer = vertx.createHttpServer();
+    httpServer.requestHandler(grpcServer)
+      .listen(port).toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+
+    GreeterClient client = GreeterGrpcClient.create(GrpcClient.client(vertx), SocketAddress.inetSocketAddress(port, "localhost"));
+
+    Async test = should.async();
+    client.sayHello(HelloRequest.newBuilder()
+        .setName("World")
+        .build())
+      .onComplete(should.asyncAssertSuccess(reply -> {
+        should.assertEquals("Hello World", reply.getMessage());
+        test.complete();
+      }));
+    test.awaitSuccess();
+  }
+
+  @Test
+  public void testNotImplemented(TestContext should) throws Exception {
+    Assume.assumeTrue(Runtime.version().feature() >= 21);
+
+    GrpcServer grpcServer = GrpcServer.server(vertx);
+    grpcServer.addService(new GreeterBlockingGrpcService());
+    HttpServer httpServer = vertx.createHttpServer();
+    httpServer.requestHandler(grpcServer)
+      .listen(port).toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+
+    GreeterClient client = GreeterGrpcClient.create(GrpcClient.client(vertx), SocketAddress.inetSocketAddress(port, "localhost"));
+
+    Async test = should.async();
+    client.sayHello(HelloRequest.newBuilder()
+        .setName("World")
+        .build())
+      .onComplete(should.asyncAssertFailure(err -> {
+        should.assertTrue(err instanceof InvalidStatusException);
+        should.assertEquals(GrpcStatus.UNIMPLEMENTED, ((InvalidStatusException) err).actualStatus());
+        test.complete();
+      }));
+    test.awaitSuccess();
+  }
+}
@@ -23,6 +23,9 @@ public class VertxGrpcGenerator implements Callable<Integer> {
   @Option(names = { "--grpc-service" }, description = "Generate gRPC service code")
   boolean generateService = false;
 
+  @Option(names = { "--grpc-blocking-service" }, description = "Generate gRPC blocking service code running on virtual threads, implies --grpc-service")
+  boolean generateBlockingService = false;
+
   @Option(names = { "--grpc-io" }, description = "Generate gRPC IO code")
   boolean generateIo = false;
 
@@ -40,10 +43,14 @@ public class VertxGrpcGenerator implements Callable<Integer> {
 
   @Override
   public Integer call() {
-    if (!generateClient && !generateService && !generateIo) {
+    if (!generateClient && !generateService && !generateBlockingService && !generateIo) {
       generateClient = true;
       generateService = true;
     }
+    if (generateBlockingService) {
+      // The blocking service reuses the service methods of the generated service
+      generateService = true;
+    }
 
     VertxGrpcGeneratorImpl generator = new VertxGrpcGeneratorImpl(this);
     ProtocPlugin.generate(List.of(generator), List.of(AnnotationsProto.http));
@@ -341,6 +341,9 @@ public class VertxGrpcGeneratorImpl extends Generator {
       files.add(buildServiceFile(context));
       files.add(buildGrpcServiceFile(context));
     }
+    if (options.generateBlockingService) {
+      files.add(buildBlockingGrpcServiceFile(context));
+    }
     if (options.generateIo) {
       files.add(buildGrpcIoFile(context));
     }
@@ -372,6 +375,11 @@ public class VertxGrpcGeneratorImpl extends Generator {
     return buildFile(context, applyTemplate("grpc-service.mustache", context));
   }
 
+  private PluginProtos.CodeGeneratorResponse.File buildBlockingGrpcServiceFile(ServiceContext context) {
+    context.fileName = context.classPrefix + context.serviceName + "BlockingGrpcService.java";
+    return buildFile(context, applyTemplate("blocking-grpc-service.mustache", context));
+  }
+
   private PluginProtos.CodeGeneratorResponse.File buildGrpcIoFile(ServiceContext context) {
     context.fileName = context.classPrefix + context.serviceName + "GrpcIo.java";
     return buildFile(context, applyTemplate("grpc-io.mustache", context));
@@ -427,6 +435,7 @@ public class VertxGrpcGeneratorImpl extends Generator {
     public String clientFqn;
     public String grpcClientFqn;
     public String grpcServiceFqn;
+    public String blockingGrpcServiceFqn;
     public String grpcIoFqn;
     public String serviceName;
     public String outerFqn;
@@ -444,6 +453,7 @@ public class VertxGrpcGeneratorImpl extends Generator {
       this.serviceFqn = classPrefix + serviceName + "Service";
       this.grpcClientFqn = classPrefix + serviceName + "GrpcClient";
       this.grpcServiceFqn = classPrefix + serviceName + "GrpcService";
+      this.blockingGrpcServiceFqn = classPrefix + serviceName + "BlockingGrpcService";
       this.grpcIoFqn = classPrefix + serviceName + "GrpcIo";
     }
 
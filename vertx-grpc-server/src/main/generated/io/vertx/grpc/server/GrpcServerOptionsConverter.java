@@ -37,6 +37,56 @@ public class GrpcServerOptionsConverter {
             obj.setMaxMessageSize(((Number)member.getValue()).longValue());
           }
           break;
+        case "compressionThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setCompressionThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "compressionRatioThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setCompressionRatioThreshold(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "readQueueLowWaterMark":
+          if (member.getValue() instanceof Number) {
+            obj.setReadQueueLowWaterMark(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "readQueueHighWaterMark":
+          if (member.getValue() instanceof Number) {
+            obj.setReadQueueHighWaterMark(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "adaptiveReadQueue":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAdaptiveReadQueue((Boolean)member.getValue());
+          }
+          break;
+        case "readQueueMaxBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setReadQueueMaxBytes(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "threadingModel":
+          if (member.getValue() instanceof String) {
+            obj.setThreadingModel(io.vertx.core.ThreadingModel.valueOf((String)member.getValue()));
+          }
+          break;
+        case "rejectExpiredCalls":
+          if (member.getValue() instanceof Boolean) {
+            obj.setRejectExpiredCalls((Boolean)member.getValue());
+          }
+          break;
+        case "maxInboundMemory":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxInboundMemory(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "maxWorkerCalls":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxWorkerCalls(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -54,5 +104,17 @@ public class GrpcServerOptionsConverter {
     json.put("scheduleDeadlineAutomatically", obj.getScheduleDeadlineAutomatically());
     json.put("deadlinePropagation", obj.getDeadlinePropagation());
     json.put("maxMessageSize", obj.getMaxMessageSize());
+    json.put("compressionThreshold", obj.getCompressionThreshold());
+    json.put("compressionRatioThreshold", obj.getCompressionRatioThreshold());
+    json.put("readQueueLowWaterMark", obj.getReadQueueLowWaterMark());
+    json.put("readQueueHighWaterMark", obj.getReadQueueHighWaterMark());
+    json.put("adaptiveReadQueue", obj.getAdaptiveReadQueue());
+    json.put("readQueueMaxBytes", obj.getReadQueueMaxBytes());
+    if (obj.getThreadingModel() != null) {
+      json.put("threadingModel", obj.getThreadingModel().name());
+    }
+    json.put("rejectExpiredCalls", obj.getRejectExpiredCalls());
+    json.put("maxWorkerCalls", obj.getMaxWorkerCalls());
+    json.put("maxInboundMemory", obj.getMaxInboundMemory());
   }
 }
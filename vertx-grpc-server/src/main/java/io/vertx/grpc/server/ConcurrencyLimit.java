@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.server.impl.AimdConcurrencyLimit;
+import io.vertx.grpc.server.impl.FixedConcurrencyLimit;
+import io.vertx.grpc.server.impl.GradientConcurrencyLimit;
+
+/**
+ * The algorithm computing the maximum number of calls concurrently handled by a {@link GrpcServer} or a service method.
+ *
+ * <p>The limit is sampled when a call is admitted and updated when a call completes, implementations can be shared
+ * across event-loops and must be thread-safe.</p>
+ */
+@Unstable
+@GenIgnore(GenIgnore.PERMITTED_TYPE)
+public interface ConcurrencyLimit {
+
+  /**
+   * Create a limit that never changes.
+   *
+   * @param limit the maximum number of concurrent calls
+   * @return the limit
+   */
+  static ConcurrencyLimit fixed(int limit) {
+    return new FixedConcurrencyLimit(limit);
+  }
+
+  /**
+   * Create an additive increase / multiplicative decrease limit: the limit grows by one when a call succeeds while the
+   * limit is used at least by half and is multiplied by {@code backoffRatio} when a call is dropped, i.e. it does not
+   * meet its deadline, is cancelled or fails with {@code RESOURCE_EXHAUSTED} or {@code UNAVAILABLE}.
+   *
+   * @param initialLimit the initial limit
+   * @param minLimit the minimum limit
+   * @param maxLimit the maximum limit
+   * @param backoffRatio the ratio applied to the limit when a call is dropped, between {@code 0} and {@code 1}
+   * @return the limit
+   */
+  static ConcurrencyLimit aimd(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+    return new AimdConcurrencyLimit(initialLimit, minLimit, maxLimit, backoffRatio);
+  }
+
+  /**
+   * Create a latency based limit: the limit follows the ratio between the long term average latency and the latency
+   * of the completed calls, plus a headroom of the square root of the limit. The limit decreases when calls queue up
+   * and their latency rises, and grows back when the latency returns to its average.
+   *
+   * @param initialLimit the initial limit
+   * @param minLimit the minimum limit
+   * @param maxLimit the maximum limit
+   * @return the limit
+   */
+  static ConcurrencyLimit gradient(int initialLimit, int minLimit, int maxLimit) {
+    return new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit);
+  }
+
+  /**
+   * @return the current maximum number of concurrent calls
+   */
+  int limit();
+
+  /**
+   * Update the limit with a completed call.
+   *
+   * @param latency the call latency in nanoseconds
+   * @param inFlight the number of calls in flight when the call completed, including this call
+   * @param dropped whether the call was dropped
+   */
+  void onSample(long latency, int inFlight, boolean dropped);
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.Unstable;
+
+/**
+ * The admission control of a {@link GrpcServer} or a service method, calls exceeding the {@link ConcurrencyLimit}
+ * are rejected with the {@code RESOURCE_EXHAUSTED} status and a {@code grpc-retry-pushback-ms} trailer.
+ *
+ * <p>This gives a view on the limiter metrics.</p>
+ */
+@Unstable
+@GenIgnore(GenIgnore.PERMITTED_TYPE)
+public interface ConcurrencyLimiter {
+
+  /**
+   * @return the number of calls in flight
+   */
+  int inFlight();
+
+  /**
+   * @return the current maximum number of concurrent calls
+   */
+  int limit();
+
+  /**
+   * @return the number of rejected calls
+   */
+  long rejected();
+
+  /**
+   * @return the average latency of the completed calls in milliseconds
+   */
+  long averageLatency();
+
+}
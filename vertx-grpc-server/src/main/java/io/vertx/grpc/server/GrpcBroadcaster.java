@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.server.impl.GrpcBroadcasterImpl;
+
+/**
+ * Broadcast the same messages to the responses of many server streaming calls.
+ *
+ * <p>A message is encoded once per wire format, then compressed and framed once per wire format and encoding, the
+ * subscribers share the same frames. Subscribers are written on their event-loop, a subscriber whose write queue is
+ * full is handled according to its {@link SlowConsumerPolicy}. A response is unsubscribed when it ends or is reset.</p>
+ *
+ * <p>The broadcaster can be used from any thread.</p>
+ */
+@Unstable
+@GenIgnore(GenIgnore.PERMITTED_TYPE)
+public interface GrpcBroadcaster<T> {
+
+  /**
+   * Create a broadcaster dropping the messages of slow subscribers.
+   *
+   * @return the broadcaster
+   */
+  static <T> GrpcBroadcaster<T> create() {
+    return create(SlowConsumerPolicy.DROP);
+  }
+
+  /**
+   * Create a broadcaster.
+   *
+   * @param policy the default policy applied to slow subscribers
+   * @return the broadcaster
+   */
+  static <T> GrpcBroadcaster<T> create(SlowConsumerPolicy policy) {
+    return new GrpcBroadcasterImpl<>(policy);
+  }
+
+  /**
+   * Subscribe a response with the default slow consumer policy.
+   *
+   * @param response the response
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  <Req> GrpcBroadcaster<T> subscribe(GrpcServerResponse<Req, T> response);
+
+  /**
+   * Subscribe a response, the broadcaster sets the response drain handler when the policy is
+   * {@link SlowConsumerPolicy#CONFLATE}.
+   *
+   * @param response the response
+   * @param policy the policy applied when the response cannot keep up
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  <Req> GrpcBroadcaster<T> subscribe(GrpcServerResponse<Req, T> response, SlowConsumerPolicy policy);
+
+  /**
+   * Unsubscribe a response, the response is not ended.
+   *
+   * @param response the response
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  <Req> GrpcBroadcaster<T> unsubscribe(GrpcServerResponse<Req, T> response);
+
+  /**
+   * Broadcast a message to the subscribers.
+   *
+   * @param message the message
+   */
+  void broadcast(T message);
+
+  /**
+   * Broadcast an encoded message to the subscribers, the subscribers format must match the message format.
+   *
+   * @param message the message
+   */
+  void broadcastMessage(GrpcMessage message);
+
+  /**
+   * @return the number of subscribers
+   */
+  int subscribers();
+
+  /**
+   * @return the number of messages dropped or conflated for slow subscribers
+   */
+  long dropped();
+
+  /**
+   * @return the number of subscribers disconnected by the {@link SlowConsumerPolicy#DISCONNECT} policy
+   */
+  long disconnected();
+
+}
@@ -11,11 +11,14 @@
 package io.vertx.grpc.server;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.grpc.common.MemoryBudget;
 import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.server.impl.GrpcServerImpl;
 
@@ -73,6 +76,54 @@ public interface GrpcServer extends Handler<HttpServerRequest> {
    */
   <Req, Resp> GrpcServer callHandler(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler);
 
+  /**
+   * Like {@link #callHandler(ServiceMethod, Handler)} but the handler is called with the specified {@code threadingModel}
+   * instead of the {@link GrpcServerOptions#getThreadingModel() server threading model}.
+   *
+   * @param serviceMethod the service method
+   * @param threadingModel the threading model of the handler
+   * @param handler the service method call handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  <Req, Resp> GrpcServer callHandler(ServiceMethod<Req, Resp> serviceMethod, ThreadingModel threadingModel, Handler<GrpcServerRequest<Req, Resp>> handler);
+
+  /**
+   * Set the concurrency limit of the calls handled by this server, calls exceeding the limit are rejected with the
+   * {@code RESOURCE_EXHAUSTED} status and a {@code grpc-retry-pushback-ms} trailer.
+   *
+   * @param limit the limit or {@code null} to remove the limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  GrpcServer concurrencyLimit(@Nullable ConcurrencyLimit limit);
+
+  /**
+   * Set the concurrency limit of the calls to a service method, this limit applies in addition to the server limit.
+   *
+   * @param serviceMethod the service method
+   * @param limit the limit or {@code null} to remove the limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  <Req, Resp> GrpcServer concurrencyLimit(ServiceMethod<Req, Resp> serviceMethod, @Nullable ConcurrencyLimit limit);
+
+  /**
+   * @return the limiter of the calls handled by this server or {@code null} when no limit is set
+   */
+  @Nullable ConcurrencyLimiter concurrencyLimiter();
+
+  /**
+   * @param serviceMethod the service method
+   * @return the limiter of the calls to the service method or {@code null} when no limit is set
+   */
+  <Req, Resp> @Nullable ConcurrencyLimiter concurrencyLimiter(ServiceMethod<Req, Resp> serviceMethod);
+
+  /**
+   * @return the budget of the bytes buffered by the inbound streams or {@code null} when
+   *         {@link GrpcServerOptions#setMaxInboundMemory(long)} is not set
+   */
+  @Nullable MemoryBudget inboundMemory();
+
   /**
    * Add a service to this gRPC server.
    * <p>
@@ -85,6 +136,29 @@ public interface GrpcServer extends Handler<HttpServerRequest> {
    */
   GrpcServer addService(Service service);
 
+  /**
+   * Atomically replace the services of this server with {@code services}, e.g. to roll out a new version of a set of
+   * services.
+   * <p>
+   * The services are bound first, then the handlers of the previous services are replaced by the handlers of
+   * {@code services} at once: a request is dispatched either to the previous services or to {@code services}. The calls
+   * in flight are not affected and the previous services are not closed. The handlers registered directly with
+   * {@link #callHandler(ServiceMethod, Handler)} are kept.
+   *
+   * @param services the services
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalStateException if two services have the same name
+   */
+  GrpcServer replaceServices(List<Service> services);
+
+  /**
+   * Remove a service from this gRPC server, the service is not closed.
+   *
+   * @param service the service to remove
+   * @return whether the service was removed
+   */
+  boolean removeService(Service service);
+
   /**
    * Get a list of all services registered with this gRPC server.
    *
@@ -13,7 +13,9 @@ package io.vertx.grpc.server;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.annotations.Unstable;
 import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.json.JsonObject;
+import io.vertx.grpc.common.impl.GrpcReadStreamBase;
 
 import java.util.Collections;
 import java.util.EnumSet;
@@ -47,10 +49,70 @@ public class GrpcServerOptions {
    */
   public static final long DEFAULT_MAX_MESSAGE_SIZE = 256 * 1024;
 
+  /**
+   * The default minimum size in bytes of a compressed message = {@code 0}
+   */
+  public static final int DEFAULT_COMPRESSION_THRESHOLD = 0;
+
+  /**
+   * The default maximum compression ratio of a compressed message = {@code 0} (not checked)
+   */
+  public static final double DEFAULT_COMPRESSION_RATIO_THRESHOLD = 0D;
+
+  /**
+   * The default number of queued messages below which the inbound stream is resumed = {@code 8}
+   */
+  public static final int DEFAULT_READ_QUEUE_LOW_WATER_MARK = GrpcReadStreamBase.DEFAULT_LOW_WATER_MARK;
+
+  /**
+   * The default number of queued messages above which the inbound stream is paused = {@code 16}
+   */
+  public static final int DEFAULT_READ_QUEUE_HIGH_WATER_MARK = GrpcReadStreamBase.DEFAULT_HIGH_WATER_MARK;
+
+  /**
+   * Whether the inbound prefetch adapts to the consumer rate, by default = {@code false}
+   */
+  public static final boolean DEFAULT_ADAPTIVE_READ_QUEUE = false;
+
+  /**
+   * The default maximum amount of bytes prefetched by an adaptive inbound queue = {@code 1MB}
+   */
+  public static final long DEFAULT_READ_QUEUE_MAX_BYTES = 1024 * 1024;
+
+  /**
+   * The default maximum amount of bytes buffered by all the inbound streams = {@code 0} (unbounded)
+   */
+  public static final long DEFAULT_MAX_INBOUND_MEMORY = 0L;
+
+  /**
+   * The default threading model of call handlers = {@link ThreadingModel#EVENT_LOOP}
+   */
+  public static final ThreadingModel DEFAULT_THREADING_MODEL = ThreadingModel.EVENT_LOOP;
+
+  /**
+   * Whether the server rejects calls whose deadline has expired before they are handled, by default = {@code true}
+   */
+  public static final boolean DEFAULT_REJECT_EXPIRED_CALLS = true;
+
+  /**
+   * The default maximum number of calls concurrently handled on worker contexts = {@code 0} (unbounded)
+   */
+  public static final int DEFAULT_MAX_WORKER_CALLS = 0;
+
   private Set<GrpcProtocol> enabledProtocols;
   private boolean scheduleDeadlineAutomatically;
   private boolean deadlinePropagation;
   private long maxMessageSize;
+  private int compressionThreshold;
+  private double compressionRatioThreshold;
+  private int readQueueLowWaterMark;
+  private int readQueueHighWaterMark;
+  private boolean adaptiveReadQueue;
+  private long readQueueMaxBytes;
+  private long maxInboundMemory;
+  private ThreadingModel threadingModel;
+  private boolean rejectExpiredCalls;
+  private int maxWorkerCalls;
 
   /**
    * Default options.
@@ -60,6 +122,16 @@ public class GrpcServerOptions {
     scheduleDeadlineAutomatically = DEFAULT_SCHEDULE_DEADLINE_AUTOMATICALLY;
     deadlinePropagation = DEFAULT_PROPAGATE_DEADLINE;
     maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
+    compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+    compressionRatioThreshold = DEFAULT_COMPRESSION_RATIO_THRESHOLD;
+    readQueueLowWaterMark = DEFAULT_READ_QUEUE_LOW_WATER_MARK;
+    readQueueHighWaterMark = DEFAULT_READ_QUEUE_HIGH_WATER_MARK;
+    adaptiveReadQueue = DEFAULT_ADAPTIVE_READ_QUEUE;
+    readQueueMaxBytes = DEFAULT_READ_QUEUE_MAX_BYTES;
+    maxInboundMemory = DEFAULT_MAX_INBOUND_MEMORY;
+    threadingModel = DEFAULT_THREADING_MODEL;
+    rejectExpiredCalls = DEFAULT_REJECT_EXPIRED_CALLS;
+    maxWorkerCalls = DEFAULT_MAX_WORKER_CALLS;
   }
 
   /**
@@ -70,6 +142,16 @@ public class GrpcServerOptions {
     scheduleDeadlineAutomatically = other.scheduleDeadlineAutomatically;
     deadlinePropagation = other.deadlinePropagation;
     maxMessageSize = other.maxMessageSize;
+    compressionThreshold = other.compressionThreshold;
+    compressionRatioThreshold = other.compressionRatioThreshold;
+    readQueueLowWaterMark = other.readQueueLowWaterMark;
+    readQueueHighWaterMark = other.readQueueHighWaterMark;
+    adaptiveReadQueue = other.adaptiveReadQueue;
+    readQueueMaxBytes = other.readQueueMaxBytes;
+    maxInboundMemory = other.maxInboundMemory;
+    threadingModel = other.threadingModel;
+    rejectExpiredCalls = other.rejectExpiredCalls;
+    maxWorkerCalls = other.maxWorkerCalls;
   }
 
   /**
@@ -189,6 +271,232 @@ public class GrpcServerOptions {
     return this;
   }
 
+  /**
+   * @return the minimum size in bytes of a message payload to be compressed
+   */
+  public int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Set the minimum size in bytes of a message payload to be compressed, smaller messages are sent uncompressed
+   * even when the response encoding compresses messages.
+   *
+   * @param compressionThreshold the size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setCompressionThreshold(int compressionThreshold) {
+    if (compressionThreshold < 0) {
+      throw new IllegalArgumentException("Compression threshold must be >= 0");
+    }
+    this.compressionThreshold = compressionThreshold;
+    return this;
+  }
+
+  /**
+   * @return the maximum ratio between the compressed size and the uncompressed size of a compressed message payload
+   */
+  public double getCompressionRatioThreshold() {
+    return compressionRatioThreshold;
+  }
+
+  /**
+   * Set the maximum ratio between the compressed size and the uncompressed size of a compressed message payload,
+   * when a message does not compress well enough it is sent uncompressed and the following messages of the response
+   * are sent uncompressed until the compressibility is sampled again. The value {@code 0} disables this check.
+   *
+   * @param compressionRatioThreshold the ratio, between {@code 0} and {@code 1}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setCompressionRatioThreshold(double compressionRatioThreshold) {
+    if (compressionRatioThreshold < 0D || compressionRatioThreshold > 1D) {
+      throw new IllegalArgumentException("Compression ratio threshold must be between 0 and 1");
+    }
+    this.compressionRatioThreshold = compressionRatioThreshold;
+    return this;
+  }
+
+  /**
+   * @return the number of queued messages below which the inbound stream is resumed
+   */
+  public int getReadQueueLowWaterMark() {
+    return readQueueLowWaterMark;
+  }
+
+  /**
+   * Set the number of queued messages below which a paused inbound stream is resumed.
+   *
+   * @param readQueueLowWaterMark the number of messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setReadQueueLowWaterMark(int readQueueLowWaterMark) {
+    if (readQueueLowWaterMark < 0) {
+      throw new IllegalArgumentException("Read queue low water mark must be >= 0");
+    }
+    this.readQueueLowWaterMark = readQueueLowWaterMark;
+    return this;
+  }
+
+  /**
+   * @return the number of queued messages above which the inbound stream is paused
+   */
+  public int getReadQueueHighWaterMark() {
+    return readQueueHighWaterMark;
+  }
+
+  /**
+   * Set the number of queued messages above which the inbound stream is paused, i.e. the number of messages
+   * prefetched from the client when the application does not consume them.
+   *
+   * @param readQueueHighWaterMark the number of messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setReadQueueHighWaterMark(int readQueueHighWaterMark) {
+    if (readQueueHighWaterMark <= 0) {
+      throw new IllegalArgumentException("Read queue high water mark must be > 0");
+    }
+    this.readQueueHighWaterMark = readQueueHighWaterMark;
+    return this;
+  }
+
+  /**
+   * @return whether the inbound prefetch adapts to the consumer rate
+   */
+  public boolean getAdaptiveReadQueue() {
+    return adaptiveReadQueue;
+  }
+
+  /**
+   * Set whether the inbound prefetch adapts to the consumer rate. When enabled, the inbound stream is also paused
+   * when the queued bytes exceed a window sized from the observed consumer rate and message size, bounded by
+   * {@link #setReadQueueMaxBytes(long)}.
+   *
+   * @param adaptiveReadQueue whether the prefetch is adaptive
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setAdaptiveReadQueue(boolean adaptiveReadQueue) {
+    this.adaptiveReadQueue = adaptiveReadQueue;
+    return this;
+  }
+
+  /**
+   * @return the maximum amount of bytes prefetched by an adaptive inbound queue
+   */
+  public long getReadQueueMaxBytes() {
+    return readQueueMaxBytes;
+  }
+
+  /**
+   * Set the maximum amount of bytes prefetched by an adaptive inbound queue.
+   *
+   * @param readQueueMaxBytes the amount of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setReadQueueMaxBytes(long readQueueMaxBytes) {
+    if (readQueueMaxBytes <= 0) {
+      throw new IllegalArgumentException("Read queue max bytes must be > 0");
+    }
+    this.readQueueMaxBytes = readQueueMaxBytes;
+    return this;
+  }
+
+  /**
+   * @return the maximum amount of bytes buffered by all the inbound streams
+   */
+  public long getMaxInboundMemory() {
+    return maxInboundMemory;
+  }
+
+  /**
+   * Set the maximum amount of bytes buffered by all the inbound streams, i.e. received and not yet consumed by the
+   * handlers. When this amount is exceeded the streams buffering the most bytes are paused until the buffered amount
+   * falls below three quarters of this value. The value {@code 0} does not bound the buffered bytes.
+   *
+   * @param maxInboundMemory the amount of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setMaxInboundMemory(long maxInboundMemory) {
+    if (maxInboundMemory < 0) {
+      throw new IllegalArgumentException("Max inbound memory must be >= 0");
+    }
+    this.maxInboundMemory = maxInboundMemory;
+    return this;
+  }
+
+  /**
+   * @return the threading model of call handlers
+   */
+  public ThreadingModel getThreadingModel() {
+    return threadingModel;
+  }
+
+  /**
+   * <p>Set the threading model of call handlers, this can be overridden per service with {@link ServiceBuilder#threadingModel(ThreadingModel)}
+   * or per method with {@link GrpcServer#callHandler(io.vertx.grpc.common.ServiceMethod, ThreadingModel, io.vertx.core.Handler)}.</p>
+   * <ul>
+   * <li>{@link ThreadingModel#EVENT_LOOP}: handlers are called on the context of the HTTP request.</li>
+   * <li>{@link ThreadingModel#WORKER}: each call is handled on its own worker context, the handler can block.</li>
+   * <li>{@link ThreadingModel#VIRTUAL_THREAD}: each call is handled on its own virtual thread context, the handler can block
+   * or await futures, this requires a JVM supporting virtual threads.</li>
+   * </ul>
+   * <p>Inbound messages are queued on the event-loop and the transport is paused when the handler does not consume them, the
+   * deadline of a call is scheduled on the event-loop and fires even when the handler blocks.</p>
+   *
+   * @param threadingModel the threading model
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setThreadingModel(ThreadingModel threadingModel) {
+    if (threadingModel == null || threadingModel == ThreadingModel.OTHER) {
+      throw new IllegalArgumentException("Threading model must be EVENT_LOOP, WORKER or VIRTUAL_THREAD");
+    }
+    this.threadingModel = threadingModel;
+    return this;
+  }
+
+  /**
+   * @return whether the server rejects calls whose deadline has expired before they are handled
+   */
+  public boolean getRejectExpiredCalls() {
+    return rejectExpiredCalls;
+  }
+
+  /**
+   * Set whether the server rejects calls whose deadline has expired before they are handled, e.g. after waiting for a
+   * worker, with the {@code DEADLINE_EXCEEDED} status instead of calling the handler. The deadline of a call is computed
+   * when the server receives it, so the time spent queued counts against the call timeout.
+   *
+   * @param rejectExpiredCalls whether to reject expired calls
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setRejectExpiredCalls(boolean rejectExpiredCalls) {
+    this.rejectExpiredCalls = rejectExpiredCalls;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of calls concurrently handled on worker contexts
+   */
+  public int getMaxWorkerCalls() {
+    return maxWorkerCalls;
+  }
+
+  /**
+   * Set the maximum number of calls concurrently handled with the {@link ThreadingModel#WORKER} threading model,
+   * further calls are queued and started in the earliest deadline first order, calls without a deadline are started
+   * last in arrival order. The value {@code 0} does not bound the number of calls, which are then started in arrival
+   * order by the worker pool.
+   *
+   * @param maxWorkerCalls the maximum number of calls
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setMaxWorkerCalls(int maxWorkerCalls) {
+    if (maxWorkerCalls < 0) {
+      throw new IllegalArgumentException("Max worker calls must be >= 0");
+    }
+    this.maxWorkerCalls = maxWorkerCalls;
+    return this;
+  }
+
   /**
    * @return a JSON representation of options
    */
@@ -45,6 +45,15 @@ public interface GrpcServerResponse<Req, Resp> extends GrpcWriteStream<Resp> {
   @Fluent
   GrpcServerResponse<Req, Resp> encoding(String encoding);
 
+  @Fluent
+  GrpcServerResponse<Req, Resp> compressionThreshold(int threshold);
+
+  @Fluent
+  GrpcServerResponse<Req, Resp> compressionRatioThreshold(double ratio);
+
+  @Fluent
+  GrpcServerResponse<Req, Resp> coalesceWrites(boolean coalesce);
+
   @Fluent
   GrpcServerResponse<Req, Resp> format(WireFormat format);
 
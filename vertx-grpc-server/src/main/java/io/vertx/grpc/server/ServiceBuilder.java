@@ -1,6 +1,7 @@
 package io.vertx.grpc.server;
 
 import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
 import io.vertx.grpc.common.ServiceMethod;
 
 /**
@@ -19,6 +20,25 @@ public interface ServiceBuilder {
    */
   <Req, Resp> ServiceBuilder bind(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler);
 
+  /**
+   * Bind a service method call handler called with the specified {@code threadingModel}.
+   *
+   * @param serviceMethod the service method
+   * @param threadingModel the threading model of the handler
+   * @param handler the service method call handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  <Req, Resp> ServiceBuilder bind(ServiceMethod<Req, Resp> serviceMethod, ThreadingModel threadingModel, Handler<GrpcServerRequest<Req, Resp>> handler);
+
+  /**
+   * Set the threading model of the service method call handlers bound without an explicit threading model, by default
+   * the {@link GrpcServerOptions#getThreadingModel() server threading model} is used.
+   *
+   * @param threadingModel the threading model
+   * @return a reference to this, so the API can be used fluently
+   */
+  ServiceBuilder threadingModel(ThreadingModel threadingModel);
+
   /**
    * Constructs and returns a {@link Service} instance based on the current configuration of the builder.
    *
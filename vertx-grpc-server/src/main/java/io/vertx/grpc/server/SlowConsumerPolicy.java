@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+/**
+ * What a {@link GrpcBroadcaster} does when a subscriber cannot keep up, i.e. its write queue is full when a message
+ * is broadcast.
+ */
+public enum SlowConsumerPolicy {
+
+  /**
+   * The message is not sent to the subscriber.
+   */
+  DROP,
+
+  /**
+   * Only the latest message is kept and sent to the subscriber when its write queue drains.
+   */
+  CONFLATE,
+
+  /**
+   * The subscriber response is cancelled.
+   */
+  DISCONNECT
+
+}
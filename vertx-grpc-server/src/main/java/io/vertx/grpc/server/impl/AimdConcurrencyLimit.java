@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.grpc.server.ConcurrencyLimit;
+
+/**
+ * Additive increase / multiplicative decrease limit.
+ */
+public class AimdConcurrencyLimit implements ConcurrencyLimit {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private volatile int limit;
+
+  public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+    checkBounds(initialLimit, minLimit, maxLimit);
+    if (backoffRatio <= 0D || backoffRatio >= 1D) {
+      throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.limit = initialLimit;
+  }
+
+  static void checkBounds(int initialLimit, int minLimit, int maxLimit) {
+    if (minLimit <= 0) {
+      throw new IllegalArgumentException("Min limit must be > 0");
+    }
+    if (maxLimit < minLimit) {
+      throw new IllegalArgumentException("Max limit must be >= min limit");
+    }
+    if (initialLimit < minLimit || initialLimit > maxLimit) {
+      throw new IllegalArgumentException("Initial limit must be between min limit and max limit");
+    }
+  }
+
+  @Override
+  public int limit() {
+    return limit;
+  }
+
+  @Override
+  public synchronized void onSample(long latency, int inFlight, boolean dropped) {
+    int current = limit;
+    if (dropped) {
+      current = Math.max(minLimit, Math.min(current - 1, (int) (current * backoffRatio)));
+    } else if (inFlight * 2 >= current) {
+      // Only grow when the limit is actually used
+      current = Math.min(maxLimit, current + 1);
+    }
+    limit = current;
+  }
+}
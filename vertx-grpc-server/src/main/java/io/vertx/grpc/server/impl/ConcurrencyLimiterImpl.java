@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.grpc.server.ConcurrencyLimit;
+import io.vertx.grpc.server.ConcurrencyLimiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the calls in flight against a {@link ConcurrencyLimit}, shared by the event-loops of a server.
+ */
+class ConcurrencyLimiterImpl implements ConcurrencyLimiter {
+
+  private final ConcurrencyLimit limit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder rejected = new LongAdder();
+  private volatile long averageLatency;
+
+  ConcurrencyLimiterImpl(ConcurrencyLimit limit) {
+    this.limit = limit;
+  }
+
+  /**
+   * @return whether a call is admitted, an admitted call must be released
+   */
+  boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit.limit()) {
+        rejected.increment();
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Release an admitted call without sampling it, e.g. when it is rejected by another limiter.
+   */
+  void release() {
+    inFlight.decrementAndGet();
+  }
+
+  /**
+   * Release a completed call and update the limit.
+   *
+   * @param latency the call latency in nanoseconds
+   * @param dropped whether the call was dropped
+   */
+  void release(long latency, boolean dropped) {
+    int current = inFlight.getAndDecrement();
+    // Racy update, an approximation is fine
+    long avg = averageLatency;
+    averageLatency = avg == 0L ? latency : avg + ((latency - avg) >> 3);
+    limit.onSample(latency, current, dropped);
+  }
+
+  /**
+   * @return the delay in milliseconds a rejected client should wait before retrying
+   */
+  long retryPushback() {
+    return Math.max(1L, averageLatency());
+  }
+
+  @Override
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  @Override
+  public int limit() {
+    return limit.limit();
+  }
+
+  @Override
+  public long rejected() {
+    return rejected.sum();
+  }
+
+  @Override
+  public long averageLatency() {
+    return TimeUnit.NANOSECONDS.toMillis(averageLatency);
+  }
+}
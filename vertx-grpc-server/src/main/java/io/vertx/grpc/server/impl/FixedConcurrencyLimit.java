@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.grpc.server.ConcurrencyLimit;
+
+/**
+ * A limit that never changes.
+ */
+public class FixedConcurrencyLimit implements ConcurrencyLimit {
+
+  private final int limit;
+
+  public FixedConcurrencyLimit(int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("Limit must be > 0");
+    }
+    this.limit = limit;
+  }
+
+  @Override
+  public int limit() {
+    return limit;
+  }
+
+  @Override
+  public void onSample(long latency, int inFlight, boolean dropped) {
+  }
+}
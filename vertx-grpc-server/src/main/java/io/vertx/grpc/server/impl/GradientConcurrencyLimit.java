@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.grpc.server.ConcurrencyLimit;
+
+/**
+ * Latency based limit, the limit is adjusted with the gradient between the long term average latency and the
+ * latency of the completed calls.
+ */
+public class GradientConcurrencyLimit implements ConcurrencyLimit {
+
+  /**
+   * Number of samples of the long term latency average.
+   */
+  private static final int LONG_WINDOW = 600;
+
+  /**
+   * Latency increase tolerated before the limit decreases.
+   */
+  private static final double TOLERANCE = 1.5D;
+
+  /**
+   * Weight of a new limit estimate.
+   */
+  private static final double SMOOTHING = 0.2D;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private double estimatedLimit;
+  private double longLatency;
+  private volatile int limit;
+
+  public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+    AimdConcurrencyLimit.checkBounds(initialLimit, minLimit, maxLimit);
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.estimatedLimit = initialLimit;
+    this.limit = initialLimit;
+  }
+
+  @Override
+  public int limit() {
+    return limit;
+  }
+
+  @Override
+  public synchronized void onSample(long latency, int inFlight, boolean dropped) {
+    if (latency <= 0L) {
+      return;
+    }
+    double shortLatency = latency;
+    if (longLatency == 0D) {
+      longLatency = shortLatency;
+    } else {
+      longLatency += (shortLatency - longLatency) / LONG_WINDOW;
+      if (longLatency > 2 * shortLatency) {
+        // Recover faster after a latency spike
+        longLatency *= 0.95D;
+      }
+    }
+    if (!dropped && inFlight < estimatedLimit / 2) {
+      // The limit is not used, the latency does not reflect it
+      return;
+    }
+    double gradient = Math.max(0.5D, Math.min(1D, TOLERANCE * longLatency / shortLatency));
+    double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    if (dropped) {
+      newLimit = Math.min(newLimit, estimatedLimit * 0.9D);
+    }
+    newLimit = estimatedLimit * (1D - SMOOTHING) + newLimit * SMOOTHING;
+    estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    limit = (int) estimatedLimit;
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.impl.SharedMessage;
+import io.vertx.grpc.server.GrpcBroadcaster;
+import io.vertx.grpc.server.GrpcServerResponse;
+import io.vertx.grpc.server.SlowConsumerPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The subscribers are grouped by context, i.e. event-loop, a broadcast runs a single task per group that writes the
+ * shared message to each subscriber of the group. A group is only accessed from its context and is removed when its
+ * last subscriber leaves.
+ */
+public class GrpcBroadcasterImpl<T> implements GrpcBroadcaster<T> {
+
+  private final SlowConsumerPolicy defaultPolicy;
+  private final ConcurrentMap<ContextInternal, Group> groups = new ConcurrentHashMap<>();
+  private final AtomicInteger subscribers = new AtomicInteger();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder disconnected = new LongAdder();
+
+  public GrpcBroadcasterImpl(SlowConsumerPolicy defaultPolicy) {
+    this.defaultPolicy = Objects.requireNonNull(defaultPolicy);
+  }
+
+  @Override
+  public <Req> GrpcBroadcaster<T> subscribe(GrpcServerResponse<Req, T> response) {
+    return subscribe(response, defaultPolicy);
+  }
+
+  @Override
+  public <Req> GrpcBroadcaster<T> subscribe(GrpcServerResponse<Req, T> response, SlowConsumerPolicy policy) {
+    Objects.requireNonNull(policy);
+    GrpcServerResponseImpl<Req, T> impl = (GrpcServerResponseImpl<Req, T>) response;
+    Group group = groups.compute(impl.context().unwrap(), (context, current) -> {
+      if (current == null) {
+        current = new Group(context);
+      }
+      // Retain the group until the subscriber is added
+      current.pending.incrementAndGet();
+      return current;
+    });
+    group.context.runOnContext(v -> {
+      group.pending.decrementAndGet();
+      group.add(impl, policy);
+      group.removeIfEmpty();
+    });
+    return this;
+  }
+
+  @Override
+  public <Req> GrpcBroadcaster<T> unsubscribe(GrpcServerResponse<Req, T> response) {
+    GrpcServerResponseImpl<Req, T> impl = (GrpcServerResponseImpl<Req, T>) response;
+    Group group = groups.get(impl.context().unwrap());
+    if (group != null) {
+      group.context.runOnContext(v -> group.remove(impl));
+    }
+    return this;
+  }
+
+  @Override
+  public void broadcast(T message) {
+    broadcast(SharedMessage.message(message));
+  }
+
+  @Override
+  public void broadcastMessage(GrpcMessage message) {
+    broadcast(SharedMessage.encoded(message));
+  }
+
+  private void broadcast(SharedMessage<T> message) {
+    for (Group group : groups.values()) {
+      group.context.runOnContext(v -> group.broadcast(message));
+    }
+  }
+
+  @Override
+  public int subscribers() {
+    return subscribers.get();
+  }
+
+  @Override
+  public long dropped() {
+    return dropped.sum();
+  }
+
+  @Override
+  public long disconnected() {
+    return disconnected.sum();
+  }
+
+  /**
+   * @return the number of groups, i.e. the number of contexts with subscribers
+   */
+  public int groups() {
+    return groups.size();
+  }
+
+  private class Group {
+
+    private final ContextInternal context;
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private boolean broadcasting;
+    private boolean removals;
+
+    Group(ContextInternal context) {
+      this.context = context;
+    }
+
+    void add(GrpcServerResponseImpl<?, T> response, SlowConsumerPolicy policy) {
+      if (response.isTrailersSent() || response.isCancelled() || find(response) != null) {
+        return;
+      }
+      Subscriber subscriber = new Subscriber(this, response, policy);
+      subscribers.add(subscriber);
+      GrpcBroadcasterImpl.this.subscribers.incrementAndGet();
+      response.request().disposeHandler(v -> context.runOnContext(v2 -> remove(subscriber)));
+    }
+
+    void remove(GrpcServerResponseImpl<?, T> response) {
+      Subscriber subscriber = find(response);
+      if (subscriber != null) {
+        remove(subscriber);
+      }
+    }
+
+    void remove(Subscriber subscriber) {
+      if (subscriber.removed) {
+        return;
+      }
+      subscriber.removed = true;
+      subscriber.pending = null;
+      GrpcBroadcasterImpl.this.subscribers.decrementAndGet();
+      if (broadcasting) {
+        // Removed after the broadcast
+        removals = true;
+      } else {
+        subscribers.remove(subscriber);
+        removeIfEmpty();
+      }
+    }
+
+    void removeIfEmpty() {
+      if (subscribers.isEmpty()) {
+        // Atomic with respect to subscribe, which retains the group before scheduling the addition
+        groups.computeIfPresent(context, (key, group) -> group == this && pending.get() == 0 && subscribers.isEmpty() ? null : group);
+      }
+    }
+
+    private Subscriber find(GrpcServerResponseImpl<?, T> response) {
+      for (Subscriber subscriber : subscribers) {
+        if (subscriber.response == response && !subscriber.removed) {
+          return subscriber;
+        }
+      }
+      return null;
+    }
+
+    void broadcast(SharedMessage<T> message) {
+      broadcasting = true;
+      try {
+        for (int i = 0;i < subscribers.size();i++) {
+          subscribers.get(i).write(message);
+        }
+      } finally {
+        broadcasting = false;
+      }
+      if (removals) {
+        removals = false;
+        subscribers.removeIf(subscriber -> subscriber.removed);
+        removeIfEmpty();
+      }
+    }
+  }
+
+  private class Subscriber {
+
+    private final Group group;
+    private final GrpcServerResponseImpl<?, T> response;
+    private final SlowConsumerPolicy policy;
+    private SharedMessage<T> pending;
+    private boolean draining;
+    private boolean removed;
+
+    Subscriber(Group group, GrpcServerResponseImpl<?, T> response, SlowConsumerPolicy policy) {
+      this.group = group;
+      this.response = response;
+      this.policy = policy;
+    }
+
+    void write(SharedMessage<T> message) {
+      if (removed) {
+        return;
+      }
+      if (response.isTrailersSent() || response.isCancelled()) {
+        group.remove(this);
+        return;
+      }
+      if (response.writeQueueFull()) {
+        switch (policy) {
+          case DROP:
+            dropped.increment();
+            break;
+          case CONFLATE:
+            if (pending != null) {
+              dropped.increment();
+            }
+            pending = message;
+            if (!draining) {
+              draining = true;
+              response.drainHandler(v -> drain());
+            }
+            break;
+          case DISCONNECT:
+            disconnected.increment();
+            group.remove(this);
+            response.cancel();
+            break;
+        }
+      } else {
+        if (pending != null) {
+          // The queue drained but the drain handler was not called yet, the latest message supersedes the pending one
+          dropped.increment();
+          pending = null;
+        }
+        send(message);
+      }
+    }
+
+    private void drain() {
+      draining = false;
+      response.drainHandler(null);
+      SharedMessage<T> message = pending;
+      pending = null;
+      if (message != null && !removed && !response.isTrailersSent() && !response.isCancelled()) {
+        send(message);
+      }
+    }
+
+    private void send(SharedMessage<T> message) {
+      try {
+        response.writeShared(message);
+      } catch (IllegalStateException e) {
+        // The stream failed
+        group.remove(this);
+      }
+    }
+  }
+}
@@ -13,6 +13,9 @@ package io.vertx.grpc.server.impl;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.grpc.common.ServiceMethod;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * An interface that defines the behavior for invoking gRPC services based on an incoming HTTP request. This is designed to bridge HTTP requests to corresponding gRPC service
  * methods by creating a {@link GrpcInvocation} instance that facilitates the interaction.
@@ -31,4 +34,16 @@ public interface GrpcHttpInvoker {
    */
   <Req, Resp> GrpcInvocation<Req, Resp> accept(HttpServerRequest request, ServiceMethod<Req, Resp> serviceMethod);
 
+  /**
+   * Compile the HTTP routes of the service methods registered on a server in a router resolving a request in a single
+   * lookup. The router is compiled again when the registered methods change, so this method must not have side effects.
+   *
+   * @param methods the service methods and their handlers, in registration order
+   * @param <H> the handler type
+   * @return the router or {@code null} when requests are resolved with {@link #accept}
+   */
+  default <H> GrpcHttpRouter<H> compile(List<Map.Entry<ServiceMethod<?, ?>, H>> methods) {
+    return null;
+  }
+
 }
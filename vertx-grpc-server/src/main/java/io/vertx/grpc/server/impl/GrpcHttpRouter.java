@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Resolve HTTP requests to the handlers of a server in a single lookup, see {@link GrpcHttpInvoker#compile}.
+ *
+ * @param <H> the handler type
+ */
+public interface GrpcHttpRouter<H> {
+
+  /**
+   * Resolve a request.
+   *
+   * @param request the HTTP server request
+   * @return the route of the request or {@code null} when no handler matches the request
+   */
+  Route<H> route(HttpServerRequest request);
+
+  /**
+   * A resolved request.
+   */
+  final class Route<H> {
+
+    public final H handler;
+    public final GrpcInvocation<?, ?> invocation;
+
+    public Route(H handler, GrpcInvocation<?, ?> invocation) {
+      this.handler = handler;
+      this.invocation = invocation;
+    }
+  }
+}
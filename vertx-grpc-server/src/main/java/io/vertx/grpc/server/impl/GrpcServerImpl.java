@@ -14,19 +14,26 @@ import io.vertx.core.Closeable;
 import io.vertx.core.Completable;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.internal.http.HttpServerRequestInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.spi.context.storage.AccessMode;
 import io.vertx.grpc.common.*;
+import io.vertx.grpc.common.impl.CompressorRegistry;
 import io.vertx.grpc.common.impl.GrpcMethodCall;
+import io.vertx.grpc.common.impl.InboundMemoryBudget;
 import io.vertx.grpc.server.*;
 
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -34,35 +41,42 @@ import java.util.stream.Collectors;
  */
 public class GrpcServerImpl implements GrpcServer, Closeable {
 
-  private static final Pattern CONTENT_TYPE_PATTERN = Pattern.compile("application/grpc(-web(-text)?)?(\\+(json|proto))?");
-
   private static final Logger log = LoggerFactory.getLogger(GrpcServer.class);
 
+  private final VertxInternal vertx;
   private final GrpcServerOptions options;
-  private Handler<GrpcServerRequest<Buffer, Buffer>> requestHandler;
+  private static final AtomicReferenceFieldUpdater<GrpcServerImpl, Registry> REGISTRY_UPDATER = AtomicReferenceFieldUpdater.newUpdater(GrpcServerImpl.class, Registry.class, "registry");
+
+  // Read once per request, updates publish a new snapshot
+  private volatile Registry registry;
 
-  private final List<Service> services = new ArrayList<>();
-  private final Map<String, List<MethodCallHandler<?, ?>>> methodCallHandlers = new HashMap<>();
+  // The handlers bound by the service binding on the current thread
+  private final ThreadLocal<List<Binding>> staged = new ThreadLocal<>();
 
   private final List<GrpcHttpInvoker> invokers;
 
-  private boolean closing;
+  private volatile ConcurrencyLimiterImpl limiter;
+  private final Map<String, ConcurrencyLimiterImpl> methodLimiters = new ConcurrentHashMap<>();
+  private final WorkerCallQueue workerCalls;
+  private final InboundMemoryBudget inboundMemory;
 
   public GrpcServerImpl(Vertx vertx, GrpcServerOptions options) {
     ServiceLoader<GrpcHttpInvoker> loader = ServiceLoader.load(GrpcHttpInvoker.class);
     this.invokers = loader.stream().map(ServiceLoader.Provider::get).collect(Collectors.toList());
+    this.vertx = (VertxInternal) vertx;
     this.options = new GrpcServerOptions(Objects.requireNonNull(options, "options is null"));
+    this.workerCalls = this.options.getMaxWorkerCalls() > 0 ? new WorkerCallQueue(this.options.getMaxWorkerCalls()) : null;
+    this.inboundMemory = this.options.getMaxInboundMemory() > 0L ? new InboundMemoryBudget(this.options.getMaxInboundMemory()) : null;
+    this.registry = Registry.create(invokers);
   }
 
   @Override
   public void close(Completable<Void> completion) {
-    List<Service> toClose;
-    synchronized (this) {
-      closing = true;
-      toClose = new ArrayList<>(services);
-      services.clear();
-    }
-    List<Future<Void>> futures = toClose
+    Registry prev;
+    do {
+      prev = registry;
+    } while (!prev.closed && !REGISTRY_UPDATER.compareAndSet(this, prev, prev.close()));
+    List<Future<Void>> futures = prev.closed ? Collections.emptyList() : prev.serviceList
       .stream()
       .map(Service::close)
       .collect(Collectors.toList());
@@ -86,33 +100,62 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       return;
     }
 
-    GrpcMethodCall methodCall = new GrpcMethodCall(httpRequest.path());
+    Registry registry = this.registry;
+    List<GrpcHttpRouter<MethodCallHandler<?, ?>>> routers = registry.routers();
+    if (details.protocol == GrpcProtocol.TRANSCODING && !routers.isEmpty()) {
+      for (GrpcHttpRouter<MethodCallHandler<?, ?>> router : routers) {
+        GrpcHttpRouter.Route<MethodCallHandler<?, ?>> route = router.route(httpRequest);
+        if (route != null) {
+          handle(httpRequest, route, details.format);
+          return;
+        }
+      }
+      if (registry.acceptors().isEmpty()) {
+        handleUnmatched(registry, httpRequest, new GrpcMethodCall(httpRequest.path()), details);
+        return;
+      }
+    }
+
     String path = httpRequest.path();
+    RouteTable<MethodCallHandler<?, ?>> table = registry.routes;
+    RouteTable.Route<MethodCallHandler<?, ?>> route = table.get(path, path.length());
+    GrpcMethodCall methodCall = route != null && route.methodCall != null ? route.methodCall : new GrpcMethodCall(path);
+    int len = path.length();
     while (true) {
-      List<MethodCallHandler<?, ?>> mchList = methodCallHandlers.get(path);
-      if (mchList != null) {
-        for (MethodCallHandler<?, ?> mch : mchList) {
-          if (handle(mch, httpRequest, methodCall, details.protocol, details.format)) {
+      if (route != null) {
+        List<MethodCallHandler<?, ?>> mchList = route.handlers;
+        for (int i = 0; i < mchList.size(); i++) {
+          if (handle(mchList.get(i), httpRequest, methodCall, registry.acceptors(), details.protocol, details.format)) {
             return;
           }
         }
       }
-      int idx = path.lastIndexOf('/');
-      if (idx <= 0) {
+      // Fallback to the mount points of the path prefixes
+      len = path.lastIndexOf('/', len - 1);
+      if (len <= 0) {
         break;
       }
-      path = path.substring(0, idx);
+      route = table.get(path, len);
     }
 
+    handleUnmatched(registry, httpRequest, methodCall, details);
+  }
+
+  private void handleUnmatched(Registry registry, HttpServerRequest httpRequest, GrpcMethodCall methodCall, GrpcServerRequestInspector.RequestInspectionDetails details) {
     // Generic handling
-    Handler<GrpcServerRequest<Buffer, Buffer>> handler = requestHandler;
-    if (handler != null) {
-      handle(new MethodCallHandler<>(null, GrpcMessageDecoder.IDENTITY, GrpcMessageEncoder.IDENTITY, handler), httpRequest, methodCall, details.protocol, details.format);
-    } else {
+    MethodCallHandler<Buffer, Buffer> handler = registry.requestHandler;
+    if (handler == null || !handle(handler, httpRequest, methodCall, registry.acceptors(), details.protocol, details.format)) {
       httpRequest.response().setStatusCode(500).end();
     }
   }
 
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void handle(HttpServerRequest httpRequest, GrpcHttpRouter.Route<MethodCallHandler<?, ?>> route, WireFormat format) {
+    GrpcServerResponseImpl grpcResponse = route.invocation.grpcResponse;
+    grpcResponse.format(format);
+    handle(httpRequest, route.invocation.grpcRequest, grpcResponse, (MethodCallHandler) route.handler);
+  }
+
   private int validate(GrpcServerRequestInspector.RequestInspectionDetails details) {
     // Check HTTP version compatibility
     if (!details.protocol.accepts(details.version)) {
@@ -129,23 +172,33 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
     return -1;
   }
 
-  private <Req, Resp> boolean handle(MethodCallHandler<Req, Resp> method, HttpServerRequest httpRequest, GrpcMethodCall methodCall, GrpcProtocol protocol, WireFormat format) {
-    io.vertx.core.internal.ContextInternal context = ((HttpServerRequestInternal) httpRequest).context();
+  private <Req, Resp> boolean handle(MethodCallHandler<Req, Resp> method, HttpServerRequest httpRequest, GrpcMethodCall methodCall, List<GrpcHttpInvoker> invokers, GrpcProtocol protocol, WireFormat format) {
+    ContextInternal context = ((HttpServerRequestInternal) httpRequest).context();
 
     GrpcServerRequestImpl<Req, Resp> grpcRequest;
     GrpcServerResponseImpl<Req, Resp> grpcResponse;
     switch (protocol) {
       case HTTP_2:
-        if (method.method != null && !httpRequest.path().equals("/" + method.method.fullMethodName())) {
+        if (method.path != null && !httpRequest.path().equals(method.path)) {
           return false;
         }
-        grpcRequest = new Http2GrpcServerRequest<>(
-          context,
-          protocol,
-          format,
-          httpRequest,
-          method.messageDecoder,
-          methodCall);
+        if (method.unary) {
+          grpcRequest = new UnaryGrpcServerRequest<>(
+            context,
+            protocol,
+            format,
+            httpRequest,
+            method.messageDecoder,
+            methodCall);
+        } else {
+          grpcRequest = new Http2GrpcServerRequest<>(
+            context,
+            protocol,
+            format,
+            httpRequest,
+            method.messageDecoder,
+            methodCall);
+        }
         grpcResponse = new Http2GrpcServerResponse<>(
           context,
           grpcRequest,
@@ -155,7 +208,7 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
         break;
       case WEB:
       case WEB_TEXT:
-        if (method.method != null && !httpRequest.path().equals("/" + method.method.fullMethodName())) {
+        if (method.path != null && !httpRequest.path().equals(method.path)) {
           return false;
         }
         grpcRequest = new WebGrpcServerRequest<>(
@@ -176,6 +229,10 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       case TRANSCODING:
         grpcRequest = null;
         grpcResponse = null;
+        if (method.method == null) {
+          // The generic handler is not transcoded
+          break;
+        }
         for (GrpcHttpInvoker invoker : invokers) {
           GrpcInvocation<Req, Resp> invocation = invoker.accept(httpRequest, method.method);
           if (invocation != null) {
@@ -192,18 +249,49 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       return false;
     }
     grpcResponse.format(format);
-    handle(grpcRequest, grpcResponse, method);
+    handle(httpRequest, grpcRequest, grpcResponse, method);
     return true;
   }
 
-  private <Req, Resp> void handle(GrpcServerRequestImpl<Req, Resp> grpcRequest,
+  private <Req, Resp> void handle(HttpServerRequest httpRequest,
+                                  GrpcServerRequestImpl<Req, Resp> grpcRequest,
                                   GrpcServerResponseImpl<Req, Resp> grpcResponse,
-                                  Handler<GrpcServerRequest<Req, Resp>> handler) {
-    if (options.getDeadlinePropagation() && grpcRequest.timeout() > 0L) {
-      long deadline = System.currentTimeMillis() + grpcRequest.timeout;
-      grpcRequest.context().putLocal(GrpcLocal.CONTEXT_LOCAL_KEY, AccessMode.CONCURRENT, new GrpcLocal(deadline));
+                                  MethodCallHandler<Req, Resp> handler) {
+    ThreadingModel threadingModel = handler.threadingModel != null ? handler.threadingModel : options.getThreadingModel();
+    if (threadingModel != ThreadingModel.EVENT_LOOP) {
+      grpcRequest.handlerContext(createHandlerContext(threadingModel));
     }
+    if (grpcRequest.timeout() > 0L) {
+      grpcRequest.context().putLocal(GrpcLocal.CONTEXT_LOCAL_KEY, AccessMode.CONCURRENT, new GrpcLocal(grpcRequest.deadlineMillis, options.getDeadlinePropagation()));
+    }
+    grpcResponse.compressionThreshold(options.getCompressionThreshold());
+    grpcResponse.compressionRatioThreshold(options.getCompressionRatioThreshold());
     grpcResponse.init();
+    grpcRequest.readQueue(options.getReadQueueLowWaterMark(), options.getReadQueueHighWaterMark(), options.getAdaptiveReadQueue() ? options.getReadQueueMaxBytes() : 0L);
+    if (inboundMemory != null) {
+      grpcRequest.memoryBudget(inboundMemory);
+      // Queued messages are released when the call is disposed before the request is fully consumed
+      grpcRequest.disposeHandler(v -> grpcRequest.releaseMemory());
+    }
+    WorkerCallQueue queue = threadingModel == ThreadingModel.WORKER ? workerCalls : null;
+    if (queue == null) {
+      start(grpcRequest, grpcResponse, handler);
+      return;
+    }
+    // The transport buffers the request until the call is started
+    httpRequest.pause();
+    WorkerCallQueue.PendingCall call = queue.create(grpcRequest.deadlineMillis, grpcRequest.transportContext(), () -> {
+      start(grpcRequest, grpcResponse, handler);
+      httpRequest.resume();
+    });
+    // Set before submitting, the call can be ended when it starts, e.g. when it is rejected
+    grpcRequest.disposeHandler(v -> queue.dispose(call));
+    queue.submit(call);
+  }
+
+  private <Req, Resp> void start(GrpcServerRequestImpl<Req, Resp> grpcRequest,
+                                 GrpcServerResponseImpl<Req, Resp> grpcResponse,
+                                 MethodCallHandler<Req, Resp> handler) {
     grpcRequest.init(grpcResponse, options.getScheduleDeadlineAutomatically(), options.getMaxMessageSize());
     grpcRequest.invalidMessageHandler(invalidMsg -> {
       if (invalidMsg instanceof MessageSizeOverflowException) {
@@ -212,93 +300,458 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
         grpcResponse.cancel();
       }
     });
-    grpcRequest.context().dispatch(grpcRequest, handler);
+    boolean rejectExpired = options.getRejectExpiredCalls() && grpcRequest.timeout() > 0L;
+    if (rejectExpired && grpcRequest.isExpired()) {
+      grpcResponse.handleTimeout();
+      return;
+    }
+    if (!admit(grpcRequest, grpcResponse)) {
+      return;
+    }
+    String encoding = grpcRequest.encoding();
+    if (encoding != null && !CompressorRegistry.DEFAULT.supports(encoding)) {
+      // The response advertises the supported encodings in grpc-accept-encoding
+      grpcResponse
+        .status(GrpcStatus.UNIMPLEMENTED)
+        .statusMessage("Encoding " + encoding + " is not supported")
+        .end();
+      return;
+    }
+    if (rejectExpired && grpcRequest.handlerContext() != grpcRequest.transportContext()) {
+      // The call can wait for a worker, check the deadline again when the handler is about to be called
+      grpcRequest.dispatch(call -> {
+        if (grpcRequest.isExpired()) {
+          grpcResponse.handleTimeout();
+        } else {
+          handler.handle(call);
+        }
+      });
+    } else {
+      grpcRequest.dispatch(handler);
+    }
+  }
+
+  /**
+   * Acquire the call from the method and server limiters, a rejected call is ended with the {@code RESOURCE_EXHAUSTED}
+   * status. An admitted call is released when the HTTP response is disposed.
+   *
+   * @return whether the call is admitted
+   */
+  private boolean admit(GrpcServerRequestImpl<?, ?> grpcRequest, GrpcServerResponseImpl<?, ?> grpcResponse) {
+    ConcurrencyLimiterImpl serverLimiter = limiter;
+    ConcurrencyLimiterImpl methodLimiter = methodLimiters.isEmpty() ? null : methodLimiters.get(grpcRequest.fullMethodName());
+    if (serverLimiter == null && methodLimiter == null) {
+      return true;
+    }
+    if (methodLimiter != null && !methodLimiter.tryAcquire()) {
+      reject(grpcResponse, methodLimiter);
+      return false;
+    }
+    if (serverLimiter != null && !serverLimiter.tryAcquire()) {
+      if (methodLimiter != null) {
+        methodLimiter.release();
+      }
+      reject(grpcResponse, serverLimiter);
+      return false;
+    }
+    long start = System.nanoTime();
+    grpcRequest.disposeHandler(v -> {
+      long latency = System.nanoTime() - start;
+      GrpcStatus status = grpcResponse.status();
+      boolean dropped = grpcResponse.isCancelled()
+        || status == GrpcStatus.DEADLINE_EXCEEDED
+        || status == GrpcStatus.RESOURCE_EXHAUSTED
+        || status == GrpcStatus.UNAVAILABLE;
+      if (methodLimiter != null) {
+        methodLimiter.release(latency, dropped);
+      }
+      if (serverLimiter != null) {
+        serverLimiter.release(latency, dropped);
+      }
+    });
+    return true;
   }
 
-  public synchronized GrpcServer callHandler(Handler<GrpcServerRequest<Buffer, Buffer>> handler) {
-    if (closing) {
-      throw new IllegalStateException("Server closed");
+  private static void reject(GrpcServerResponseImpl<?, ?> grpcResponse, ConcurrencyLimiterImpl limiter) {
+    grpcResponse.trailers().set(GrpcHeaderNames.GRPC_RETRY_PUSHBACK_MS, Long.toString(limiter.retryPushback()));
+    grpcResponse
+      .status(GrpcStatus.RESOURCE_EXHAUSTED)
+      .statusMessage("Concurrency limit exceeded")
+      .end();
+  }
+
+  /**
+   * Create the context of a call handled with a blocking threading model, each call gets its own context so blocking
+   * calls do not delay each other.
+   */
+  private ContextInternal createHandlerContext(ThreadingModel threadingModel) {
+    switch (threadingModel) {
+      case WORKER:
+        return vertx.createWorkerContext().duplicate();
+      case VIRTUAL_THREAD:
+        return vertx.createVirtualThreadContext().duplicate();
+      default:
+        throw new IllegalArgumentException("Unsupported threading model " + threadingModel);
     }
-    this.requestHandler = handler;
+  }
+
+  public GrpcServer callHandler(Handler<GrpcServerRequest<Buffer, Buffer>> handler) {
+    MethodCallHandler<Buffer, Buffer> requestHandler = handler != null ? new MethodCallHandler<>(null, null, GrpcMessageDecoder.IDENTITY, GrpcMessageEncoder.IDENTITY, handler) : null;
+    update(registry -> registry.requestHandler(requestHandler));
     return this;
   }
 
-  private <Req, Resp> void registerMethodCallHandler(String path, MethodCallHandler<Req, Resp> mch) {
-    methodCallHandlers.computeIfAbsent(path, k -> new ArrayList<>()).add(mch);
+  /**
+   * Apply {@code fn} to the current registry and publish the result, {@code fn} must not have side effects since it is
+   * applied again when a concurrent update wins.
+   *
+   * @return the previous registry
+   */
+  private Registry update(UnaryOperator<Registry> fn) {
+    while (true) {
+      Registry prev = registry;
+      if (prev.closed) {
+        throw new IllegalStateException("Server closed");
+      }
+      Registry next = fn.apply(prev);
+      if (prev == next || REGISTRY_UPDATER.compareAndSet(this, prev, next)) {
+        return prev;
+      }
+    }
   }
 
-  private <Req, Resp> void unregisterMethodCallHandler(String path, ServiceMethod<Req, Resp> serviceMethod) {
-    methodCallHandlers.computeIfPresent(path, (p, registrations) -> {
-      registrations.removeIf(mch -> mch.method.equals(serviceMethod));
-      return registrations.isEmpty() ? null : registrations;
-    });
+  @Override
+  public <Req, Resp> GrpcServer callHandler(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler) {
+    return callHandler(serviceMethod, null, handler);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
-  public synchronized <Req, Resp> GrpcServer callHandler(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler) {
-    if (closing) {
-      throw new IllegalStateException("Server closed");
+  public <Req, Resp> GrpcServer callHandler(ServiceMethod<Req, Resp> serviceMethod, ThreadingModel threadingModel, Handler<GrpcServerRequest<Req, Resp>> handler) {
+    if (threadingModel == ThreadingModel.OTHER) {
+      throw new IllegalArgumentException("Unsupported threading model " + threadingModel);
     }
-    if (handler != null) {
-      MethodCallHandler<Req, Resp> p = new MethodCallHandler<>(serviceMethod, serviceMethod.decoder(), serviceMethod.encoder(), handler);
-      if (serviceMethod instanceof MountPoint) {
-        MountPoint<Req, Resp> mountPoint = (MountPoint<Req, Resp>) serviceMethod;
-        List<String> paths = mountPoint.paths();
-        for (String path : paths) {
-          registerMethodCallHandler(path, p);
-        }
+    List<Binding> staged = this.staged.get();
+    if (staged != null) {
+      // A service is binding to this server
+      if (handler != null) {
+        bind(staged, serviceMethod, threadingModel, handler);
+      } else {
+        staged.removeIf(binding -> binding.handler.method.equals(serviceMethod));
       }
-      registerMethodCallHandler("/" + serviceMethod.fullMethodName(), p);
+      return this;
+    }
+    if (handler != null) {
+      List<Binding> bindings = new ArrayList<>(1);
+      bind(bindings, serviceMethod, threadingModel, handler);
+      update(registry -> registry.routes(add(registry.routes, bindings)));
     } else {
-      if (serviceMethod instanceof MountPoint) {
-        MountPoint<Req, Resp> mountPoint = (MountPoint<Req, Resp>) serviceMethod;
-        List<String> paths = mountPoint.paths();
-        for (String path : paths) {
-          unregisterMethodCallHandler(path, serviceMethod);
-        }
+      update(registry -> registry.routes(unbind(registry.routes, serviceMethod)));
+    }
+    return this;
+  }
+
+  private static <Req, Resp> void bind(List<Binding> bindings, ServiceMethod<Req, Resp> serviceMethod, ThreadingModel threadingModel, Handler<GrpcServerRequest<Req, Resp>> handler) {
+    if (threadingModel == ThreadingModel.OTHER) {
+      throw new IllegalArgumentException("Unsupported threading model " + threadingModel);
+    }
+    MethodCallHandler<Req, Resp> p = new MethodCallHandler<>(serviceMethod, threadingModel, serviceMethod.decoder(), serviceMethod.encoder(), handler);
+    if (serviceMethod instanceof MountPoint) {
+      MountPoint<Req, Resp> mountPoint = (MountPoint<Req, Resp>) serviceMethod;
+      List<String> paths = mountPoint.paths();
+      for (String path : paths) {
+        bindings.add(new Binding(path, p, null));
       }
-      unregisterMethodCallHandler("/" + serviceMethod.fullMethodName(), serviceMethod);
     }
+    bindings.add(new Binding(p.path, p, new GrpcMethodCall(serviceMethod)));
+  }
+
+  private static RouteTable<MethodCallHandler<?, ?>> add(RouteTable<MethodCallHandler<?, ?>> routes, List<Binding> bindings) {
+    for (Binding binding : bindings) {
+      routes = routes.add(binding.path, binding.handler, binding.methodCall);
+    }
+    return routes;
+  }
+
+  private static RouteTable<MethodCallHandler<?, ?>> remove(RouteTable<MethodCallHandler<?, ?>> routes, List<Binding> bindings) {
+    for (Binding binding : bindings) {
+      routes = routes.remove(binding.path, mch -> mch == binding.handler);
+    }
+    return routes;
+  }
+
+  private static RouteTable<MethodCallHandler<?, ?>> unbind(RouteTable<MethodCallHandler<?, ?>> routes, ServiceMethod<?, ?> serviceMethod) {
+    if (serviceMethod instanceof MountPoint) {
+      MountPoint<?, ?> mountPoint = (MountPoint<?, ?>) serviceMethod;
+      List<String> paths = mountPoint.paths();
+      for (String path : paths) {
+        routes = routes.remove(path, mch -> mch.method.equals(serviceMethod));
+      }
+    }
+    return routes.remove("/" + serviceMethod.fullMethodName(), mch -> mch.method.equals(serviceMethod));
+  }
+
+  @Override
+  public GrpcServer concurrencyLimit(ConcurrencyLimit limit) {
+    this.limiter = limit != null ? new ConcurrencyLimiterImpl(limit) : null;
     return this;
   }
 
+  @Override
+  public <Req, Resp> GrpcServer concurrencyLimit(ServiceMethod<Req, Resp> serviceMethod, ConcurrencyLimit limit) {
+    if (limit != null) {
+      methodLimiters.put(serviceMethod.fullMethodName(), new ConcurrencyLimiterImpl(limit));
+    } else {
+      methodLimiters.remove(serviceMethod.fullMethodName());
+    }
+    return this;
+  }
+
+  @Override
+  public MemoryBudget inboundMemory() {
+    return inboundMemory;
+  }
+
+  @Override
+  public ConcurrencyLimiter concurrencyLimiter() {
+    return limiter;
+  }
+
+  @Override
+  public <Req, Resp> ConcurrencyLimiter concurrencyLimiter(ServiceMethod<Req, Resp> serviceMethod) {
+    return methodLimiters.get(serviceMethod.fullMethodName());
+  }
+
   @Override
   public GrpcServer addService(Service service) {
-    synchronized (this) {
-      if (closing) {
-        throw new IllegalStateException("Server closed");
+    checkUnique(registry.serviceList, service);
+    BoundService bound = bind(service);
+    update(registry -> {
+      checkUnique(registry.serviceList, service);
+      List<BoundService> services = new ArrayList<>(registry.services);
+      services.add(bound);
+      return registry.services(services, add(registry.routes, bound.bindings));
+    });
+    return this;
+  }
+
+  @Override
+  public GrpcServer replaceServices(List<Service> services) {
+    List<Service> list = new ArrayList<>(services.size());
+    for (Service service : services) {
+      checkUnique(list, service);
+      list.add(service);
+    }
+    List<BoundService> bound = new ArrayList<>(list.size());
+    for (Service service : list) {
+      bound.add(bind(service));
+    }
+    update(registry -> {
+      RouteTable<MethodCallHandler<?, ?>> routes = registry.routes;
+      for (BoundService prev : registry.services) {
+        routes = remove(routes, prev.bindings);
       }
-      for (Service s : this.services) {
-        if (s.name().equals(service.name())) {
-          throw new IllegalStateException("Duplicated name: " + service.name().name());
+      for (BoundService next : bound) {
+        routes = add(routes, next.bindings);
+      }
+      return registry.services(bound, routes);
+    });
+    return this;
+  }
+
+  @Override
+  public boolean removeService(Service service) {
+    Registry prev = update(registry -> {
+      for (int i = 0;i < registry.services.size();i++) {
+        BoundService bound = registry.services.get(i);
+        if (bound.service == service) {
+          List<BoundService> services = new ArrayList<>(registry.services);
+          services.remove(i);
+          return registry.services(services, remove(registry.routes, bound.bindings));
         }
       }
+      return registry;
+    });
+    return prev.serviceList.contains(service);
+  }
 
-      this.services.add(service);
+  private static void checkUnique(List<Service> services, Service service) {
+    for (Service s : services) {
+      if (s.name().equals(service.name())) {
+        throw new IllegalStateException("Duplicated name: " + service.name().name());
+      }
     }
-    service.bind(this);
+  }
 
-    return this;
+  /**
+   * Bind a service without publishing its handlers, so they can be published atomically.
+   */
+  private BoundService bind(Service service) {
+    List<Binding> bindings = new ArrayList<>();
+    List<Binding> prev = staged.get();
+    staged.set(bindings);
+    try {
+      service.bind(this);
+    } finally {
+      if (prev != null) {
+        staged.set(prev);
+      } else {
+        staged.remove();
+      }
+    }
+    return new BoundService(service, bindings);
   }
 
   @Override
   public List<Service> services() {
-    return Collections.unmodifiableList(services);
+    return registry.serviceList;
+  }
+
+  /**
+   * Immutable snapshot of the handlers and services of the server.
+   */
+  private static final class Registry {
+
+    static Registry create(List<GrpcHttpInvoker> invokers) {
+      return new Registry(invokers, RouteTable.empty(), null, Collections.emptyList(), false);
+    }
+
+    final List<GrpcHttpInvoker> invokers;
+    final RouteTable<MethodCallHandler<?, ?>> routes;
+    final MethodCallHandler<Buffer, Buffer> requestHandler;
+    final List<BoundService> services;
+    final List<Service> serviceList;
+    final boolean closed;
+    // Compiled on first use, so only the published snapshots are compiled
+    private volatile CompiledRoutes compiled;
+
+    private Registry(List<GrpcHttpInvoker> invokers, RouteTable<MethodCallHandler<?, ?>> routes, MethodCallHandler<Buffer, Buffer> requestHandler, List<BoundService> services, boolean closed) {
+      this.invokers = invokers;
+      this.routes = routes;
+      this.requestHandler = requestHandler;
+      this.services = services;
+      this.serviceList = services.stream().map(bound -> bound.service).collect(Collectors.toUnmodifiableList());
+      this.closed = closed;
+    }
+
+    private Registry(Registry that, MethodCallHandler<Buffer, Buffer> requestHandler, List<BoundService> services, boolean closed) {
+      this.invokers = that.invokers;
+      this.routes = that.routes;
+      this.compiled = that.compiled;
+      this.requestHandler = requestHandler;
+      this.services = services;
+      this.serviceList = services.stream().map(bound -> bound.service).collect(Collectors.toUnmodifiableList());
+      this.closed = closed;
+    }
+
+    /**
+     * @return the routes compiled by the invokers
+     */
+    List<GrpcHttpRouter<MethodCallHandler<?, ?>>> routers() {
+      return compiled().routers;
+    }
+
+    /**
+     * @return the invokers resolving requests per service method
+     */
+    List<GrpcHttpInvoker> acceptors() {
+      return compiled().acceptors;
+    }
+
+    private CompiledRoutes compiled() {
+      CompiledRoutes c = compiled;
+      if (c == null) {
+        // Concurrent requests may compile the same immutable routes, the last one wins
+        c = new CompiledRoutes(invokers, routes);
+        compiled = c;
+      }
+      return c;
+    }
+
+    Registry routes(RouteTable<MethodCallHandler<?, ?>> routes) {
+      return routes == this.routes ? this : new Registry(invokers, routes, requestHandler, services, closed);
+    }
+
+    Registry requestHandler(MethodCallHandler<Buffer, Buffer> requestHandler) {
+      return new Registry(this, requestHandler, services, closed);
+    }
+
+    Registry services(List<BoundService> services, RouteTable<MethodCallHandler<?, ?>> routes) {
+      return new Registry(invokers, routes, requestHandler, Collections.unmodifiableList(services), closed);
+    }
+
+    Registry close() {
+      // Keep dispatching to the handlers of the calls in flight
+      return new Registry(this, requestHandler, Collections.emptyList(), true);
+    }
+  }
+
+  private static final class CompiledRoutes {
+
+    final List<GrpcHttpRouter<MethodCallHandler<?, ?>>> routers;
+    final List<GrpcHttpInvoker> acceptors;
+
+    CompiledRoutes(List<GrpcHttpInvoker> invokers, RouteTable<MethodCallHandler<?, ?>> routes) {
+      List<Map.Entry<ServiceMethod<?, ?>, MethodCallHandler<?, ?>>> methods = new ArrayList<>();
+      for (MethodCallHandler<?, ?> handler : routes.handlers()) {
+        methods.add(new AbstractMap.SimpleImmutableEntry<>(handler.method, handler));
+      }
+      List<GrpcHttpRouter<MethodCallHandler<?, ?>>> routers = new ArrayList<>(1);
+      List<GrpcHttpInvoker> acceptors = new ArrayList<>(1);
+      for (GrpcHttpInvoker invoker : invokers) {
+        GrpcHttpRouter<MethodCallHandler<?, ?>> router = invoker.compile(methods);
+        if (router != null) {
+          routers.add(router);
+        } else {
+          acceptors.add(invoker);
+        }
+      }
+      this.routers = routers;
+      this.acceptors = acceptors;
+    }
+  }
+
+  private static final class Binding {
+
+    final String path;
+    final MethodCallHandler<?, ?> handler;
+    final GrpcMethodCall methodCall;
+
+    Binding(String path, MethodCallHandler<?, ?> handler, GrpcMethodCall methodCall) {
+      this.path = path;
+      this.handler = handler;
+      this.methodCall = methodCall;
+    }
+  }
+
+  private static final class BoundService {
+
+    final Service service;
+    final List<Binding> bindings;
+
+    BoundService(Service service, List<Binding> bindings) {
+      this.service = service;
+      this.bindings = bindings;
+    }
   }
 
   private static class MethodCallHandler<Req, Resp> implements Handler<GrpcServerRequest<Req, Resp>> {
 
     final ServiceMethod<Req, Resp> method;
+    final ThreadingModel threadingModel;
+    final String path;
     final GrpcMessageDecoder<Req> messageDecoder;
     final GrpcMessageEncoder<Resp> messageEncoder;
     final Handler<GrpcServerRequest<Req, Resp>> handler;
+    final boolean unary;
 
-    MethodCallHandler(ServiceMethod<Req, Resp> method, GrpcMessageDecoder<Req> messageDecoder, GrpcMessageEncoder<Resp> messageEncoder, Handler<GrpcServerRequest<Req, Resp>> handler) {
+    MethodCallHandler(ServiceMethod<Req, Resp> method, ThreadingModel threadingModel, GrpcMessageDecoder<Req> messageDecoder, GrpcMessageEncoder<Resp> messageEncoder, Handler<GrpcServerRequest<Req, Resp>> handler) {
       this.method = method;
+      this.threadingModel = threadingModel;
+      this.path = method != null ? "/" + method.fullMethodName() : null;
       this.messageDecoder = messageDecoder;
       this.messageEncoder = messageEncoder;
       this.handler = handler;
+      this.unary = method != null && method.unaryRequest();
     }
 
     @Override
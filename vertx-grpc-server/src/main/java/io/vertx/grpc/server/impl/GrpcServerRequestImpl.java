@@ -15,8 +15,10 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.Timer;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.grpc.common.*;
+import io.vertx.grpc.common.impl.DeadlineWheel;
 import io.vertx.grpc.common.impl.GrpcMessageDeframer;
 import io.vertx.grpc.common.impl.GrpcMethodCall;
 import io.vertx.grpc.common.impl.GrpcReadStreamBase;
@@ -25,49 +27,25 @@ import io.vertx.grpc.server.GrpcProtocol;
 import io.vertx.grpc.server.GrpcServerRequest;
 import io.vertx.grpc.server.StatusException;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public abstract class GrpcServerRequestImpl<Req, Resp> extends GrpcReadStreamBase<GrpcServerRequestImpl<Req, Resp>, Req> implements GrpcServerRequest<Req, Resp> {
 
-  private static final Pattern TIMEOUT_PATTERN = Pattern.compile("([0-9]{1,8})([HMSmun])");
-
-  private static final Map<String, TimeUnit> TIMEOUT_MAPPING;
-
-  static {
-    Map<String, TimeUnit> timeoutMapping = new HashMap<>();
-    timeoutMapping.put("H", TimeUnit.HOURS);
-    timeoutMapping.put("M", TimeUnit.MINUTES);
-    timeoutMapping.put("S", TimeUnit.SECONDS);
-    timeoutMapping.put("m", TimeUnit.MILLISECONDS);
-    timeoutMapping.put("u", TimeUnit.MICROSECONDS);
-    timeoutMapping.put("n", TimeUnit.NANOSECONDS);
-    TIMEOUT_MAPPING = timeoutMapping;
-  }
-
-  private static long parseTimeout(String timeout) {
-    Matcher matcher = TIMEOUT_PATTERN.matcher(timeout);
-    if (matcher.matches()) {
-      long value = Long.parseLong(matcher.group(1));
-      TimeUnit unit = TIMEOUT_MAPPING.get(matcher.group(2));
-      return unit.toMillis(value);
-    } else {
-      return 0L;
-    }
-  }
-
   final HttpServerRequest httpRequest;
   final long timeout;
+  final long deadlineMillis;
   final GrpcProtocol protocol;
   private GrpcServerResponseImpl<Req, Resp> response;
   private final GrpcMethodCall methodCall;
+  private DeadlineWheel.Deadline deadlineTimeout;
   private Timer deadline;
+  private List<Handler<Void>> disposeHandlers;
+  private boolean disposed;
 
   public GrpcServerRequestImpl(ContextInternal context,
                                GrpcProtocol protocol,
@@ -78,33 +56,95 @@ public abstract class GrpcServerRequestImpl<Req, Resp> extends GrpcReadStreamBas
                                GrpcMethodCall methodCall) {
     super(context, httpRequest, httpRequest.headers().get(GrpcHeaderNames.GRPC_ENCODING), format, messageDeframer, messageDecoder);
     String timeoutHeader = httpRequest.getHeader(GrpcHeaderNames.GRPC_TIMEOUT);
-    long timeout = timeoutHeader != null ? parseTimeout(timeoutHeader) : 0L;
+    long timeout = timeoutHeader != null ? GrpcServerRequestInspector.parseTimeout(timeoutHeader) : 0L;
 
     this.protocol = protocol;
     this.timeout = timeout;
+    // The deadline is computed on arrival so the time spent waiting before the handler is called counts
+    this.deadlineMillis = timeout > 0L ? System.currentTimeMillis() + timeout : 0L;
     this.httpRequest = httpRequest;
     this.methodCall = methodCall;
   }
 
   ContextInternal context() {
+    return handlerContext();
+  }
+
+  ContextInternal transportContext() {
     return context;
   }
 
+  void dispatch(Handler<GrpcServerRequest<Req, Resp>> handler) {
+    emit(this, handler);
+  }
+
+  /**
+   * @return whether the call has a deadline that has expired
+   */
+  boolean isExpired() {
+    return deadlineMillis > 0L && System.currentTimeMillis() >= deadlineMillis;
+  }
+
+  /**
+   * Add a handler called when the HTTP response is disposed, i.e. ended or reset. The handler is called immediately
+   * when the response is already disposed.
+   */
+  void disposeHandler(Handler<Void> handler) {
+    List<Handler<Void>> handlers = disposeHandlers;
+    if (handlers == null) {
+      HttpServerResponse httpResponse = httpRequest.response();
+      if (httpResponse.ended() || httpResponse.closed()) {
+        handler.handle(null);
+        return;
+      }
+      handlers = new ArrayList<>(2);
+      disposeHandlers = handlers;
+      List<Handler<Void>> list = handlers;
+      httpResponse.endHandler(v -> {
+        disposed = true;
+        for (Handler<Void> h : list) {
+          h.handle(null);
+        }
+      });
+    } else if (disposed) {
+      handler.handle(null);
+      return;
+    }
+    handlers.add(handler);
+  }
+
   public void init(GrpcWriteStreamBase ws, boolean scheduleDeadline, long maxMessageSize) {
     this.response = (GrpcServerResponseImpl<Req, Resp>) ws;
     super.init(ws, maxMessageSize);
     if (timeout > 0L) {
       if (scheduleDeadline) {
-        Timer timer = context.timer(timeout, TimeUnit.MILLISECONDS);
-        deadline = timer;
-        timer.onSuccess(v -> {
-          response.handleTimeout();
-        });
+        // Scheduled on the transport context, the response is then ended on the handler context
+        // Only the remaining time is scheduled when the call waited before being initialized
+        long remaining = Math.max(1L, deadlineMillis - System.currentTimeMillis());
+        deadlineTimeout = DeadlineWheel.schedule(context, remaining, TimeUnit.MILLISECONDS, this::handleDeadline);
       }
     }
   }
 
+  /**
+   * The response state is not thread safe, a worker or virtual thread handler can be writing it, so the timeout is
+   * handled by the handler context.
+   */
+  private void handleDeadline(Void v) {
+    ContextInternal ctx = handlerContext();
+    if (ctx == context) {
+      response.handleTimeout();
+    } else {
+      ctx.runOnContext(v2 -> response.handleTimeout());
+    }
+  }
+
   void cancelTimeout() {
+    DeadlineWheel.Deadline timeout = deadlineTimeout;
+    if (timeout != null) {
+      deadlineTimeout = null;
+      timeout.cancel();
+    }
     Timer timer = deadline;
     if (timer != null) {
       deadline = null;
@@ -169,6 +209,12 @@ public abstract class GrpcServerRequestImpl<Req, Resp> extends GrpcReadStreamBas
 
   @Override
   public Timer deadline() {
+    DeadlineWheel.Deadline timeout = deadlineTimeout;
+    if (timeout != null) {
+      // The deadline is tracked by the wheel until it is requested as a timer
+      deadlineTimeout = null;
+      deadline = timeout.toTimer();
+    }
     return deadline;
   }
 }
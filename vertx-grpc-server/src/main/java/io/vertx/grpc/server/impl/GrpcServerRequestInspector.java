@@ -1,64 +1,135 @@
 package io.vertx.grpc.server.impl;
 
+import io.netty.util.AsciiString;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpVersion;
+import io.vertx.grpc.common.GrpcMediaType;
 import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.server.GrpcProtocol;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Inspects the headers of a request, without regular expressions and without allocating: the inspection details of
+ * every version/protocol/format combination are created once.
+ */
 final class GrpcServerRequestInspector {
 
-  private static final Pattern CONTENT_TYPE_PATTERN = Pattern.compile("application/grpc(-web(-text)?)?(\\+(json|proto))?");
+  private static final CharSequence PROTO_SUFFIX = AsciiString.cached("+proto");
+  private static final CharSequence JSON_SUFFIX = AsciiString.cached("+json");
+  private static final CharSequence TRANSCODING_MEDIA_TYPE = AsciiString.cached(GrpcProtocol.TRANSCODING.mediaType());
+
+  private static final int MAX_TIMEOUT_DIGITS = 8;
+
+  private static final RequestInspectionDetails[][][] DETAILS;
+
+  static {
+    HttpVersion[] versions = HttpVersion.values();
+    GrpcProtocol[] protocols = GrpcProtocol.values();
+    WireFormat[] formats = WireFormat.values();
+    DETAILS = new RequestInspectionDetails[versions.length][protocols.length][formats.length];
+    for (HttpVersion version : versions) {
+      for (GrpcProtocol protocol : protocols) {
+        for (WireFormat format : formats) {
+          DETAILS[version.ordinal()][protocol.ordinal()][format.ordinal()] = new RequestInspectionDetails(version, protocol, format);
+        }
+      }
+    }
+  }
 
   private GrpcServerRequestInspector() {
   }
 
   public static RequestInspectionDetails inspect(HttpServerRequest request) {
-    RequestInspectionDetailsBuilder builder = new RequestInspectionDetailsBuilder().version(request.version());
-    if (!determineContentType(request.getHeader(HttpHeaders.CONTENT_TYPE), builder)) {
+    String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+    if (contentType == null) {
+      return null;
+    }
+    GrpcProtocol protocol;
+    int idx;
+    if (regionMatches(contentType, 0, GrpcMediaType.GRPC_WEB_TEXT)) {
+      protocol = GrpcProtocol.WEB_TEXT;
+      idx = GrpcMediaType.GRPC_WEB_TEXT.length();
+    } else if (regionMatches(contentType, 0, GrpcMediaType.GRPC_WEB)) {
+      protocol = GrpcProtocol.WEB;
+      idx = GrpcMediaType.GRPC_WEB.length();
+    } else if (regionMatches(contentType, 0, GrpcMediaType.GRPC)) {
+      protocol = GrpcProtocol.HTTP_2;
+      idx = GrpcMediaType.GRPC.length();
+    } else if (AsciiString.contentEquals(TRANSCODING_MEDIA_TYPE, contentType)) {
+      return details(request.version(), GrpcProtocol.TRANSCODING, WireFormat.JSON);
+    } else {
       return null;
     }
+    int remaining = contentType.length() - idx;
+    WireFormat format;
+    if (remaining == 0) {
+      format = WireFormat.PROTOBUF;
+    } else if (remaining == PROTO_SUFFIX.length() && regionMatches(contentType, idx, PROTO_SUFFIX)) {
+      format = WireFormat.PROTOBUF;
+    } else if (remaining == JSON_SUFFIX.length() && regionMatches(contentType, idx, JSON_SUFFIX)) {
+      format = WireFormat.JSON;
+    } else {
+      return null;
+    }
+    return details(request.version(), protocol, format);
+  }
 
-    return builder.build();
+  private static RequestInspectionDetails details(HttpVersion version, GrpcProtocol protocol, WireFormat format) {
+    if (version == null) {
+      return new RequestInspectionDetails(null, protocol, format);
+    }
+    return DETAILS[version.ordinal()][protocol.ordinal()][format.ordinal()];
   }
 
-  private static boolean determineContentType(String contentType, RequestInspectionDetailsBuilder builder) {
-    if (contentType != null) {
-      Matcher matcher = CONTENT_TYPE_PATTERN.matcher(contentType);
-      if (matcher.matches()) {
-        if (matcher.group(1) != null) {
-          builder.protocol(matcher.group(2) == null ? GrpcProtocol.WEB : GrpcProtocol.WEB_TEXT);
-        } else {
-          builder.protocol(GrpcProtocol.HTTP_2);
-        }
-        if (matcher.group(3) != null) {
-          switch (matcher.group(4)) {
-            case "proto":
-              builder.format(WireFormat.PROTOBUF);
-              break;
-            case "json":
-              builder.format(WireFormat.JSON);
-              break;
-            default:
-              throw new UnsupportedOperationException("Not possible");
-          }
-        } else {
-          builder.format(WireFormat.PROTOBUF);
-        }
-        return true;
-      } else {
-        if (GrpcProtocol.TRANSCODING.mediaType().equals(contentType)) {
-          builder.protocol(GrpcProtocol.TRANSCODING);
-          builder.format(WireFormat.JSON);
-          return true;
-        }
+  private static boolean regionMatches(String s, int start, CharSequence expected) {
+    return AsciiString.regionMatches(s, false, start, expected, 0, expected.length());
+  }
+
+  /**
+   * Parse a {@code grpc-timeout} header value, i.e. {@code 1 to 8 digits} followed by a unit {@code H}, {@code M},
+   * {@code S}, {@code m}, {@code u} or {@code n}.
+   *
+   * @param timeout the header value
+   * @return the timeout in milliseconds or {@code 0} when the value is not valid
+   */
+  static long parseTimeout(CharSequence timeout) {
+    int len = timeout.length();
+    if (len < 2 || len > MAX_TIMEOUT_DIGITS + 1) {
+      return 0L;
+    }
+    long value = 0L;
+    for (int i = 0; i < len - 1; i++) {
+      char c = timeout.charAt(i);
+      if (c < '0' || c > '9') {
+        return 0L;
       }
+      value = value * 10 + (c - '0');
     }
-
-    return false;
+    TimeUnit unit;
+    switch (timeout.charAt(len - 1)) {
+      case 'H':
+        unit = TimeUnit.HOURS;
+        break;
+      case 'M':
+        unit = TimeUnit.MINUTES;
+        break;
+      case 'S':
+        unit = TimeUnit.SECONDS;
+        break;
+      case 'm':
+        unit = TimeUnit.MILLISECONDS;
+        break;
+      case 'u':
+        // Rounded up so a sub-millisecond budget is not mistaken for no timeout
+        return (value + 999L) / 1000L;
+      case 'n':
+        return (value + 999_999L) / 1_000_000L;
+      default:
+        return 0L;
+    }
+    return unit.toMillis(value);
   }
 
   static final class RequestInspectionDetails {
@@ -72,32 +143,4 @@ final class GrpcServerRequestInspector {
       this.format = format;
     }
   }
-
-  static final class RequestInspectionDetailsBuilder {
-    private HttpVersion version;
-    private GrpcProtocol protocol;
-    private WireFormat format;
-
-    RequestInspectionDetailsBuilder() {
-    }
-
-    RequestInspectionDetailsBuilder version(HttpVersion version) {
-      this.version = version;
-      return this;
-    }
-
-    RequestInspectionDetailsBuilder protocol(GrpcProtocol protocol) {
-      this.protocol = protocol;
-      return this;
-    }
-
-    RequestInspectionDetailsBuilder format(WireFormat format) {
-      this.format = format;
-      return this;
-    }
-
-    RequestInspectionDetails build() {
-      return new RequestInspectionDetails(version, protocol, format);
-    }
-  }
 }
@@ -19,12 +19,15 @@ import io.vertx.grpc.common.GrpcHeaderNames;
 import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcMessageEncoder;
 import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.impl.CompressorRegistry;
 import io.vertx.grpc.common.impl.GrpcMessageImpl;
 import io.vertx.grpc.common.impl.GrpcWriteStreamBase;
 import io.vertx.grpc.common.impl.Utils;
 import io.vertx.grpc.server.GrpcErrorInfoProvider;
 import io.vertx.grpc.server.GrpcProtocol;
 import io.vertx.grpc.server.GrpcServerResponse;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -49,6 +52,10 @@ public abstract class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamB
     this.httpResponse = httpResponse;
   }
 
+  GrpcServerRequestImpl<Req, Resp> request() {
+    return request;
+  }
+
   public GrpcServerResponse<Req, Resp> status(GrpcStatus status) {
     if (isTrailersSent()) {
       throw new IllegalStateException("Trailers have already been sent");
@@ -104,6 +111,10 @@ public abstract class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamB
     return status;
   }
 
+  public String statusMessage() {
+    return statusMessage;
+  }
+
   protected boolean sendCancel() {
     if (!isTrailersSent()) {
       status(GrpcStatus.CANCELLED);
@@ -115,6 +126,16 @@ public abstract class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamB
     }
   }
 
+  @Override
+  protected String selectEncoding(String encoding) {
+    String acceptEncoding = request.headers().get(GrpcHeaderNames.GRPC_ACCEPT_ENCODING);
+    if (acceptEncoding != null && !CompressorRegistry.IDENTITY.equals(encoding) && !CompressorRegistry.accepts(acceptEncoding, encoding)) {
+      // The client cannot decompress messages using this encoding
+      return CompressorRegistry.IDENTITY;
+    }
+    return encoding;
+  }
+
   protected void setHeaders(String contentType, MultiMap grpcHeaders) {
     MultiMap httpHeaders = httpResponse.headers();
     httpHeaders.set("content-type", contentType);
@@ -171,14 +192,36 @@ public abstract class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamB
   }
 
   @Override
-  protected Future<Void> sendMessage(Buffer message, boolean compressed) {
-    return httpResponse.write(encodeMessage(message, compressed, false));
+  protected Future<Void> sendMessage(GrpcMessage message) {
+    return httpResponse.write(encodeMessage(message));
+  }
+
+  @Override
+  protected Future<Void> sendMessages(List<GrpcMessage> messages) {
+    List<Buffer> frames = new ArrayList<>(messages.size());
+    for (GrpcMessage message : messages) {
+      frames.add(encodeMessage(message));
+    }
+    return httpResponse.write(aggregate(frames));
   }
 
   protected Future<Void> sendEnd() {
+    handleEnd();
+    return httpResponse.end();
+  }
+
+  @Override
+  protected Future<Void> sendEnd(GrpcMessage message) {
+    handleEnd();
+    return httpResponse.end(encodeMessage(message));
+  }
+
+  /**
+   * Report the status of the call and cancel its deadline, implementations call it before ending the HTTP response.
+   */
+  protected final void handleEnd() {
     handleStatus(status);
     request.cancelTimeout();
-    return httpResponse.end();
   }
 
   @Override
@@ -186,6 +229,10 @@ public abstract class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamB
     return httpResponse.writeHead();
   }
 
+  protected Buffer encodeMessage(GrpcMessage message) {
+    return GrpcMessageImpl.encode(message, false);
+  }
+
   protected Buffer encodeMessage(Buffer message, boolean compressed, boolean trailer) {
     return GrpcMessageImpl.encode(message, compressed, trailer);
   }
@@ -15,6 +15,7 @@ import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.grpc.common.GrpcHeaderNames;
 import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.impl.CompressorRegistry;
 import io.vertx.grpc.server.GrpcProtocol;
 
 public class Http2GrpcServerResponse<Req, Resp> extends GrpcServerResponseImpl<Req,Resp> {
@@ -27,6 +28,6 @@ public class Http2GrpcServerResponse<Req, Resp> extends GrpcServerResponseImpl<R
   protected void encodeGrpcHeaders(MultiMap grpcHeaders, MultiMap httpHeaders) {
     super.encodeGrpcHeaders(grpcHeaders, httpHeaders);
     httpHeaders.set(GrpcHeaderNames.GRPC_ENCODING, encoding);
-    httpHeaders.set(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, "gzip");
+    httpHeaders.set(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, CompressorRegistry.DEFAULT.acceptEncoding());
   }
 }
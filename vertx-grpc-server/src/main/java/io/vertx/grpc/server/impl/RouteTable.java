@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.grpc.common.impl.GrpcMethodCall;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Immutable table of the handlers registered by request path, updates return a new table.
+ *
+ * <p>The table uses open addressing with keys hashed like {@link String#hashCode()}, so a path prefix can be looked up
+ * without creating a substring.</p>
+ *
+ * @param <H> the handler type
+ */
+final class RouteTable<H> {
+
+  static final class Route<H> {
+
+    final String path;
+    final List<H> handlers;
+    final GrpcMethodCall methodCall;
+
+    private Route(String path, List<H> handlers, GrpcMethodCall methodCall) {
+      this.path = path;
+      this.handlers = handlers;
+      this.methodCall = methodCall;
+    }
+  }
+
+  private static final RouteTable<?> EMPTY = new RouteTable<>(Collections.emptyMap(), Collections.emptyList());
+
+  @SuppressWarnings("unchecked")
+  static <H> RouteTable<H> empty() {
+    return (RouteTable<H>) EMPTY;
+  }
+
+  private final Map<String, Route<H>> routes;
+  private final List<H> handlers;
+  private final Route<H>[] table;
+  private final int mask;
+
+  @SuppressWarnings("unchecked")
+  private RouteTable(Map<String, Route<H>> routes, List<H> handlers) {
+    int capacity = 8;
+    while (capacity < routes.size() * 2) {
+      capacity <<= 1;
+    }
+    Route<H>[] table = new Route[capacity];
+    int mask = capacity - 1;
+    for (Route<H> route : routes.values()) {
+      int idx = index(route.path.hashCode(), mask);
+      while (table[idx] != null) {
+        idx = (idx + 1) & mask;
+      }
+      table[idx] = route;
+    }
+    this.routes = routes;
+    this.handlers = handlers;
+    this.table = table;
+    this.mask = mask;
+  }
+
+  private static int index(int hash, int mask) {
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  /**
+   * Lookup the route of a request path prefix.
+   *
+   * @param path the request path
+   * @param len the length of the prefix
+   * @return the route or {@code null}
+   */
+  Route<H> get(String path, int len) {
+    int hash = 0;
+    for (int i = 0; i < len; i++) {
+      hash = 31 * hash + path.charAt(i);
+    }
+    int idx = index(hash, mask);
+    Route<H> route;
+    while ((route = table[idx]) != null) {
+      String key = route.path;
+      if (key.length() == len && path.startsWith(key)) {
+        return route;
+      }
+      idx = (idx + 1) & mask;
+    }
+    return null;
+  }
+
+  /**
+   * @return the distinct handlers of the table, in registration order
+   */
+  List<H> handlers() {
+    return handlers;
+  }
+
+  /**
+   * @param path the path
+   * @param handler the handler to add
+   * @param methodCall the method call of the path, when the path is a gRPC method path
+   * @return a table with the {@code handler} added to the {@code path} route
+   */
+  RouteTable<H> add(String path, H handler, GrpcMethodCall methodCall) {
+    Route<H> prev = routes.get(path);
+    List<H> handlers = new ArrayList<>();
+    if (prev != null) {
+      handlers.addAll(prev.handlers);
+      if (methodCall == null) {
+        methodCall = prev.methodCall;
+      }
+    }
+    handlers.add(handler);
+    Map<String, Route<H>> copy = new HashMap<>(routes);
+    copy.put(path, new Route<>(path, Collections.unmodifiableList(handlers), methodCall));
+    List<H> registered = this.handlers;
+    if (!containsIdentity(registered, handler)) {
+      registered = new ArrayList<>(registered);
+      registered.add(handler);
+      registered = Collections.unmodifiableList(registered);
+    }
+    return new RouteTable<>(copy, registered);
+  }
+
+  /**
+   * @param path the path
+   * @param filter the handlers to remove
+   * @return a table with the handlers matching {@code filter} removed from the {@code path} route
+   */
+  RouteTable<H> remove(String path, Predicate<H> filter) {
+    Route<H> prev = routes.get(path);
+    if (prev == null) {
+      return this;
+    }
+    List<H> handlers = new ArrayList<>(prev.handlers);
+    handlers.removeIf(filter);
+    Map<String, Route<H>> copy = new HashMap<>(routes);
+    if (handlers.isEmpty()) {
+      copy.remove(path);
+    } else {
+      copy.put(path, new Route<>(path, Collections.unmodifiableList(handlers), prev.methodCall));
+    }
+    // Keep the handlers still routed by another path
+    Set<H> routed = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Route<H> route : copy.values()) {
+      routed.addAll(route.handlers);
+    }
+    List<H> registered = new ArrayList<>(this.handlers);
+    registered.removeIf(handler -> !routed.contains(handler));
+    return new RouteTable<>(copy, Collections.unmodifiableList(registered));
+  }
+
+  private static <H> boolean containsIdentity(List<H> list, H handler) {
+    for (H h : list) {
+      if (h == handler) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -2,6 +2,7 @@ package io.vertx.grpc.server.impl;
 
 import com.google.protobuf.Descriptors;
 import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
 import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.common.ServiceName;
 import io.vertx.grpc.server.GrpcServer;
@@ -18,6 +19,7 @@ public class ServiceBuilderImpl implements ServiceBuilder {
 
   private final Descriptors.ServiceDescriptor descriptor;
   private final List<ServiceMethodBinding<?, ?>> handlers = new LinkedList<>(); // Maybe use MAP instead
+  private ThreadingModel threadingModel;
 
   public ServiceBuilderImpl(ServiceName serviceName, Descriptors.ServiceDescriptor descriptor) {
     this.serviceName = serviceName;
@@ -26,12 +28,25 @@ public class ServiceBuilderImpl implements ServiceBuilder {
 
   @Override
   public <Req, Resp> ServiceBuilder bind(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler) {
-    handlers.add(new ServiceMethodBinding<>(serviceMethod, handler));
+    handlers.add(new ServiceMethodBinding<>(serviceMethod, null, handler));
+    return this;
+  }
+
+  @Override
+  public <Req, Resp> ServiceBuilder bind(ServiceMethod<Req, Resp> serviceMethod, ThreadingModel threadingModel, Handler<GrpcServerRequest<Req, Resp>> handler) {
+    handlers.add(new ServiceMethodBinding<>(serviceMethod, threadingModel, handler));
+    return this;
+  }
+
+  @Override
+  public ServiceBuilder threadingModel(ThreadingModel threadingModel) {
+    this.threadingModel = threadingModel;
     return this;
   }
 
   @Override
   public Service build() {
+    ThreadingModel defaultThreadingModel = threadingModel;
     return new Service() {
       @Override
       public ServiceName name() {
@@ -44,7 +59,7 @@ public class ServiceBuilderImpl implements ServiceBuilder {
       }
       @Override
       public void bind(GrpcServer server) {
-        handlers.forEach(h -> h.bind(server));
+        handlers.forEach(h -> h.bind(server, defaultThreadingModel));
       }
     };
   }
@@ -59,10 +74,12 @@ public class ServiceBuilderImpl implements ServiceBuilder {
    */
   public static final class ServiceMethodBinding<Req, Resp> {
     private final ServiceMethod<Req, Resp> serviceMethod;
+    private final ThreadingModel threadingModel;
     private final Handler<GrpcServerRequest<Req, Resp>> handler;
 
-    public ServiceMethodBinding(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler) {
+    public ServiceMethodBinding(ServiceMethod<Req, Resp> serviceMethod, ThreadingModel threadingModel, Handler<GrpcServerRequest<Req, Resp>> handler) {
       this.serviceMethod = serviceMethod;
+      this.threadingModel = threadingModel;
       this.handler = handler;
     }
 
@@ -90,9 +107,15 @@ public class ServiceBuilderImpl implements ServiceBuilder {
      * for the service method.
      *
      * @param server the gRPC server to bind to
+     * @param defaultThreadingModel the threading model used when this binding does not specify one, or {@code null}
      */
-    public void bind(GrpcServer server) {
-      server.callHandler(serviceMethod, handler);
+    public void bind(GrpcServer server, ThreadingModel defaultThreadingModel) {
+      ThreadingModel model = threadingModel != null ? threadingModel : defaultThreadingModel;
+      if (model != null) {
+        server.callHandler(serviceMethod, model, handler);
+      } else {
+        server.callHandler(serviceMethod, handler);
+      }
     }
   }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.GrpcMethodCall;
+import io.vertx.grpc.server.GrpcProtocol;
+
+/**
+ * HTTP/2 request of a method carrying a single request message, the message is collected and delivered to the
+ * handler with the end of the request, bypassing the inbound message queue.
+ */
+public class UnaryGrpcServerRequest<Req, Resp> extends Http2GrpcServerRequest<Req, Resp> {
+
+  public UnaryGrpcServerRequest(ContextInternal context, GrpcProtocol protocol, WireFormat format, HttpServerRequest httpRequest, GrpcMessageDecoder<Req> messageDecoder, GrpcMethodCall methodCall) {
+    super(context, protocol, format, httpRequest, messageDecoder, methodCall);
+  }
+
+  @Override
+  protected boolean isUnary() {
+    return true;
+  }
+
+  @Override
+  protected void handleTooManyMessages() {
+    GrpcServerResponseImpl<Req, Resp> response = response();
+    if (!response.isTrailersSent()) {
+      response
+        .status(GrpcStatus.INTERNAL)
+        .statusMessage("Too many request messages for a unary method")
+        .end();
+    }
+    super.handleTooManyMessages();
+  }
+}
@@ -18,6 +18,7 @@ import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcMessageEncoder;
 import io.vertx.grpc.server.GrpcProtocol;
 
@@ -50,9 +51,17 @@ public class WebGrpcServerResponse<Req, Resp> extends GrpcServerResponseImpl<Req
     }
   }
 
+  @Override
+  protected Buffer encodeMessage(GrpcMessage message) {
+    return toText(super.encodeMessage(message));
+  }
+
   @Override
   protected Buffer encodeMessage(Buffer message, boolean compressed, boolean trailer) {
-    message = super.encodeMessage(message, compressed, trailer);
+    return toText(super.encodeMessage(message, compressed, trailer));
+  }
+
+  private Buffer toText(Buffer message) {
     if (protocol == WEB_TEXT) {
       message = BufferInternal.buffer(Base64.encode(((BufferInternal)message).getByteBuf(), false));
     }
@@ -83,6 +92,7 @@ public class WebGrpcServerResponse<Req, Resp> extends GrpcServerResponseImpl<Req
 
   @Override
   protected Future<Void> sendEnd() {
+    handleEnd();
     if (trailers != null) {
       Future<Void> ret = httpResponse.end(encodeMessage(trailers, false, true));
       trailers = null;
@@ -91,4 +101,17 @@ public class WebGrpcServerResponse<Req, Resp> extends GrpcServerResponseImpl<Req
       return httpResponse.end();
     }
   }
+
+  @Override
+  protected Future<Void> sendEnd(GrpcMessage message) {
+    handleEnd();
+    Buffer buffer = encodeMessage(message);
+    if (trailers != null) {
+      buffer = Buffer.buffer()
+        .appendBuffer(buffer)
+        .appendBuffer(encodeMessage(trailers, false, true));
+      trailers = null;
+    }
+    return httpResponse.end(buffer);
+  }
 }
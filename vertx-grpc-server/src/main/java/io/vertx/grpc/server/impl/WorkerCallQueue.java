@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.internal.ContextInternal;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Bounds the number of calls concurrently handled on worker contexts, pending calls are started in the earliest
+ * deadline first order. Calls without a deadline are started after calls with a deadline, in arrival order.
+ */
+final class WorkerCallQueue {
+
+  private static final Comparator<PendingCall> ORDER = Comparator
+    .comparingLong((PendingCall call) -> call.deadline == 0L ? Long.MAX_VALUE : call.deadline)
+    .thenComparingLong(call -> call.sequence);
+
+  private final int maxCalls;
+  private final PriorityQueue<PendingCall> pending = new PriorityQueue<>(ORDER);
+  private long sequence;
+  private int running;
+
+  WorkerCallQueue(int maxCalls) {
+    this.maxCalls = maxCalls;
+  }
+
+  /**
+   * Create a call, the call must be disposed when its response is disposed, so the dispose handler can be set before
+   * the call is submitted.
+   *
+   * @param deadline the call deadline in milliseconds since the epoch, {@code 0} when the call has no deadline
+   * @param context the context executing the task
+   * @param task the task starting the call
+   * @return the call
+   */
+  synchronized PendingCall create(long deadline, ContextInternal context, Runnable task) {
+    return new PendingCall(deadline, sequence++, context, task);
+  }
+
+  /**
+   * Submit a call, its task is executed immediately when fewer than the maximum number of calls are running, otherwise
+   * it is executed on the call context when the call is the earliest deadline pending call and a running call is
+   * disposed. A call disposed before being submitted is ignored.
+   *
+   * @param call the call
+   */
+  void submit(PendingCall call) {
+    synchronized (this) {
+      if (call.disposed) {
+        return;
+      }
+      if (running >= maxCalls) {
+        pending.add(call);
+        return;
+      }
+      running++;
+      call.started = true;
+    }
+    call.task.run();
+  }
+
+  /**
+   * Dispose a call, a started call releases its slot to the next pending call, a pending call is removed.
+   */
+  void dispose(PendingCall call) {
+    PendingCall next;
+    synchronized (this) {
+      if (call.disposed) {
+        return;
+      }
+      call.disposed = true;
+      if (!call.started) {
+        pending.remove(call);
+        return;
+      }
+      next = pending.poll();
+      if (next == null) {
+        running--;
+        return;
+      }
+      next.started = true;
+    }
+    next.context.runOnContext(v -> next.task.run());
+  }
+
+  synchronized int running() {
+    return running;
+  }
+
+  synchronized int pending() {
+    return pending.size();
+  }
+
+  static final class PendingCall {
+
+    final long deadline;
+    final long sequence;
+    final ContextInternal context;
+    final Runnable task;
+    boolean started;
+    boolean disposed;
+
+    private PendingCall(long deadline, long sequence, ContextInternal context, Runnable task) {
+      this.deadline = deadline;
+      this.sequence = sequence;
+      this.context = context;
+      this.task = task;
+    }
+  }
+}
@@ -7,6 +7,7 @@ module io.vertx.grpc.server {
   requires io.vertx.core;
   requires io.vertx.grpc.common;
   requires io.vertx.codegen.api;
+  requires io.netty.common;
   requires io.netty.codec;
   requires io.netty.buffer;
   requires com.google.protobuf;
@@ -14,5 +15,5 @@ module io.vertx.grpc.server {
   uses io.vertx.grpc.server.impl.GrpcHttpInvoker;
 
   exports io.vertx.grpc.server;
-  exports io.vertx.grpc.server.impl to io.vertx.grpc.transcoding;
+  exports io.vertx.grpc.server.impl to io.vertx.grpc.transcoding, io.vertx.tests.server;
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.server.GrpcBroadcaster;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.SlowConsumerPolicy;
+import io.vertx.grpc.server.impl.GrpcBroadcasterImpl;
+import io.vertx.tests.common.grpc.Empty;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class BroadcastTest extends ServerTestBase {
+
+  private static final int SUBSCRIBERS = 4;
+  private static final int MESSAGES = 10;
+
+  @Test
+  public void testBroadcast(TestContext should) throws Exception {
+    GrpcBroadcaster<Reply> broadcaster = GrpcBroadcaster.create();
+    AtomicInteger calls = new AtomicInteger();
+    startServer(GrpcServer.server(vertx).callHandler(SOURCE, call -> {
+      call.handler(empty -> {
+        // Half of the subscribers share the compressed frames
+        if (calls.getAndIncrement() % 2 == 0) {
+          call.response().encoding("gzip");
+        }
+        broadcaster.subscribe(call.response());
+      });
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    List<List<String>> received = new ArrayList<>();
+    for (int i = 0; i < SUBSCRIBERS; i++) {
+      List<String> messages = new CopyOnWriteArrayList<>();
+      received.add(messages);
+      TestServiceGrpc.newStub(channel).source(Empty.getDefaultInstance(), new StreamObserver<>() {
+        @Override
+        public void onNext(Reply value) {
+          messages.add(value.getMessage());
+        }
+        @Override
+        public void onError(Throwable t) {
+        }
+        @Override
+        public void onCompleted() {
+        }
+      });
+    }
+    waitUntil(() -> broadcaster.subscribers() == SUBSCRIBERS);
+
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < MESSAGES; i++) {
+      String message = "msg-" + i + "-" + "x".repeat(1024);
+      expected.add(message);
+      broadcaster.broadcast(Reply.newBuilder().setMessage(message).build());
+    }
+    for (List<String> messages : received) {
+      waitUntil(() -> messages.size() == MESSAGES);
+      should.assertEquals(expected, messages);
+    }
+    should.assertEquals(0L, broadcaster.dropped());
+
+    // Cancelled calls are unsubscribed and their groups are removed
+    channel.shutdownNow();
+    waitUntil(() -> broadcaster.subscribers() == 0);
+    waitUntil(() -> ((GrpcBroadcasterImpl<Reply>) broadcaster).groups() == 0);
+  }
+
+  @Test
+  public void testDisconnectSlowConsumer(TestContext should) throws Exception {
+    GrpcBroadcaster<Reply> broadcaster = GrpcBroadcaster.create(SlowConsumerPolicy.DISCONNECT);
+    startServer(GrpcServer.server(vertx).callHandler(SOURCE, call -> {
+      call.handler(empty -> broadcaster.subscribe(call.response()));
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    // The client never requests messages, so the server write queue eventually fills up
+    AtomicReference<Status> status = new AtomicReference<>();
+    ClientCall<Empty, Reply> call = channel.newCall(TestServiceGrpc.getSourceMethod(), CallOptions.DEFAULT);
+    call.start(new ClientCall.Listener<>() {
+      @Override
+      public void onClose(Status s, Metadata trailers) {
+        status.set(s);
+      }
+    }, new Metadata());
+    call.sendMessage(Empty.getDefaultInstance());
+    call.halfClose();
+    waitUntil(() -> broadcaster.subscribers() == 1);
+
+    Reply reply = Reply.newBuilder().setMessage("x".repeat(64 * 1024)).build();
+    long timerId = vertx.setPeriodic(1, id -> broadcaster.broadcast(reply));
+    try {
+      waitUntil(() -> broadcaster.disconnected() == 1);
+    } finally {
+      vertx.cancelTimer(timerId);
+    }
+    waitUntil(() -> status.get() != null);
+    should.assertEquals(Status.Code.CANCELLED, status.get().getCode());
+    waitUntil(() -> broadcaster.subscribers() == 0);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.vertx.core.Promise;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.server.ConcurrencyLimit;
+import io.vertx.grpc.server.ConcurrencyLimiter;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class ConcurrencyLimitTest extends ServerTestBase {
+
+  @Test
+  public void testServerLimit(TestContext should) throws Exception {
+    GrpcServer server = GrpcServer.server(vertx).concurrencyLimit(ConcurrencyLimit.fixed(1));
+    testLimit(should, server, server::concurrencyLimiter);
+  }
+
+  @Test
+  public void testMethodLimit(TestContext should) throws Exception {
+    GrpcServer server = GrpcServer.server(vertx).concurrencyLimit(UNARY, ConcurrencyLimit.fixed(1));
+    testLimit(should, server, () -> server.concurrencyLimiter(UNARY));
+  }
+
+  private void testLimit(TestContext should, GrpcServer server, Supplier<ConcurrencyLimiter> limiter) throws Exception {
+    Promise<Void> release = Promise.promise();
+    startServer(server.callHandler(UNARY, call -> {
+      call.handler(helloRequest -> {
+        release.future().onComplete(v -> {
+          call.response().end(Reply.newBuilder().setMessage("Hello " + helloRequest.getName()).build());
+        });
+      });
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    Request request = Request.newBuilder().setName("Julien").build();
+    ListenableFuture<Reply> pending = TestServiceGrpc.newFutureStub(channel).unary(request);
+    waitUntil(() -> limiter.get().inFlight() == 1);
+
+    try {
+      TestServiceGrpc.newBlockingStub(channel).unary(request);
+      should.fail();
+    } catch (StatusRuntimeException e) {
+      should.assertEquals(Status.Code.RESOURCE_EXHAUSTED, e.getStatus().getCode());
+      String pushback = e.getTrailers().get(Metadata.Key.of("grpc-retry-pushback-ms", Metadata.ASCII_STRING_MARSHALLER));
+      should.assertNotNull(pushback);
+      should.assertTrue(Long.parseLong(pushback) > 0L);
+    }
+    should.assertEquals(1L, limiter.get().rejected());
+
+    release.complete();
+    should.assertEquals("Hello Julien", pending.get(10, TimeUnit.SECONDS).getMessage());
+    waitUntil(() -> limiter.get().inFlight() == 0);
+
+    Reply reply = TestServiceGrpc.newBlockingStub(channel).unary(request);
+    should.assertEquals("Hello Julien", reply.getMessage());
+  }
+
+  @Test
+  public void testAimdLimit(TestContext should) {
+    ConcurrencyLimit limit = ConcurrencyLimit.aimd(10, 2, 20, 0.5D);
+    limit.onSample(1_000_000L, 10, false);
+    should.assertEquals(11, limit.limit());
+    // Not used enough to grow
+    limit.onSample(1_000_000L, 2, false);
+    should.assertEquals(11, limit.limit());
+    limit.onSample(1_000_000L, 11, true);
+    should.assertEquals(5, limit.limit());
+    limit.onSample(1_000_000L, 5, true);
+    limit.onSample(1_000_000L, 5, true);
+    should.assertEquals(2, limit.limit());
+  }
+
+  @Test
+  public void testGradientLimit(TestContext should) {
+    ConcurrencyLimit limit = ConcurrencyLimit.gradient(20, 1, 100);
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(1_000_000L, limit.limit(), false);
+    }
+    int steady = limit.limit();
+    should.assertTrue(steady > 20);
+    // Latency rises when calls queue up
+    for (int i = 0; i < 20; i++) {
+      limit.onSample(10_000_000L, limit.limit(), false);
+    }
+    should.assertTrue(limit.limit() < steady);
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.ManagedChannelBuilder;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcLocal;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class DeadlineTest extends ServerTestBase {
+
+  @Test
+  public void testRemainingBudget(TestContext should) throws Exception {
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().setThreadingModel(ThreadingModel.WORKER)).callHandler(UNARY, call -> {
+      GrpcLocal local = ((ContextInternal) Vertx.currentContext()).getLocal(GrpcLocal.CONTEXT_LOCAL_KEY);
+      should.assertNotNull(local);
+      should.assertFalse(local.propagate());
+      should.assertFalse(local.isExpired());
+      should.assertTrue(local.remaining() > 0L && local.remaining() <= 10_000L);
+      call.handler(helloRequest -> {
+        call.response().end(Reply.newBuilder().setMessage("Hello " + helloRequest.getName()).build());
+      });
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    Reply reply = TestServiceGrpc.newBlockingStub(channel)
+      .withDeadlineAfter(10, TimeUnit.SECONDS)
+      .unary(Request.newBuilder().setName("Julien").build());
+    should.assertEquals("Hello Julien", reply.getMessage());
+  }
+
+  @Test
+  public void testEarliestDeadlineFirst(TestContext should) throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> started = new CopyOnWriteArrayList<>();
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().setThreadingModel(ThreadingModel.WORKER).setMaxWorkerCalls(1)).callHandler(UNARY, call -> {
+      call.handler(helloRequest -> {
+        started.add(helloRequest.getName());
+        if (helloRequest.getName().equals("first")) {
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            should.fail(e);
+          }
+        }
+        call.response().end(Reply.newBuilder().setMessage("Hello " + helloRequest.getName()).build());
+      });
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    TestServiceGrpc.TestServiceFutureStub stub = TestServiceGrpc.newFutureStub(channel);
+    List<ListenableFuture<Reply>> replies = new ArrayList<>();
+    replies.add(stub.unary(Request.newBuilder().setName("first").build()));
+    waitUntil(() -> started.size() == 1);
+    replies.add(stub.withDeadlineAfter(30, TimeUnit.SECONDS).unary(Request.newBuilder().setName("c").build()));
+    replies.add(stub.withDeadlineAfter(10, TimeUnit.SECONDS).unary(Request.newBuilder().setName("a").build()));
+    replies.add(stub.unary(Request.newBuilder().setName("d").build()));
+    replies.add(stub.withDeadlineAfter(20, TimeUnit.SECONDS).unary(Request.newBuilder().setName("b").build()));
+    // Let the calls reach the server queue
+    Thread.sleep(500);
+    release.countDown();
+
+    for (ListenableFuture<Reply> reply : replies) {
+      reply.get(10, TimeUnit.SECONDS);
+    }
+    should.assertEquals(Arrays.asList("first", "a", "b", "c", "d"), started);
+  }
+
+  @Test
+  public void testRejectExpiredCall(TestContext should) throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> started = new CopyOnWriteArrayList<>();
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().setThreadingModel(ThreadingModel.WORKER).setMaxWorkerCalls(1)).callHandler(UNARY, call -> {
+      call.handler(helloRequest -> {
+        started.add(helloRequest.getName());
+        try {
+          release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          should.fail(e);
+        }
+        call.response().end(Reply.newBuilder().setMessage("Hello " + helloRequest.getName()).build());
+      });
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    ListenableFuture<Reply> first = TestServiceGrpc.newFutureStub(channel).unary(Request.newBuilder().setName("first").build());
+    waitUntil(() -> started.size() == 1);
+
+    // A client that does not cancel the call when its deadline expires
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+      .setHttp2ClearTextUpgrade(false)
+      .setProtocolVersion(HttpVersion.HTTP_2));
+    Async async = should.async();
+    client.request(HttpMethod.POST, port, "localhost", "/" + TestServiceGrpc.SERVICE_NAME + "/Unary")
+      .onComplete(should.asyncAssertSuccess(req -> {
+        req.putHeader(GrpcHeaderNames.GRPC_TIMEOUT, "200m");
+        req.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+        req.response().onComplete(should.asyncAssertSuccess(resp -> {
+          resp.endHandler(v -> {
+            String status = resp.getHeader("grpc-status");
+            if (status == null) {
+              status = resp.getTrailer("grpc-status");
+            }
+            should.assertEquals(String.valueOf(GrpcStatus.DEADLINE_EXCEEDED.code), status);
+            async.complete();
+          });
+        }));
+        req.sendHead();
+      }));
+
+    Thread.sleep(500);
+    release.countDown();
+    first.get(10, TimeUnit.SECONDS);
+    async.awaitSuccess();
+    should.assertEquals(Arrays.asList("first"), started);
+  }
+
+  @Test
+  public void testDeadlineOnWorker(TestContext should) throws Exception {
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions()
+      .setThreadingModel(ThreadingModel.WORKER)
+      .setScheduleDeadlineAutomatically(true)).callHandler(UNARY, call -> {
+      // The response is never ended by the handler
+      call.handler(helloRequest -> {
+      });
+    }));
+
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+      .setHttp2ClearTextUpgrade(false)
+      .setProtocolVersion(HttpVersion.HTTP_2));
+    Async async = should.async();
+    client.request(HttpMethod.POST, port, "localhost", "/" + TestServiceGrpc.SERVICE_NAME + "/Unary")
+      .onComplete(should.asyncAssertSuccess(req -> {
+        req.putHeader(GrpcHeaderNames.GRPC_TIMEOUT, "200m");
+        req.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+        req.response().onComplete(should.asyncAssertSuccess(resp -> {
+          resp.endHandler(v -> {
+            String status = resp.getHeader("grpc-status");
+            if (status == null) {
+              status = resp.getTrailer("grpc-status");
+            }
+            should.assertEquals(String.valueOf(GrpcStatus.DEADLINE_EXCEEDED.code), status);
+            async.complete();
+          });
+        }));
+        req.sendHead();
+      }));
+    async.awaitSuccess(10_000);
+    client.close().await();
+  }
+
+  @Test
+  public void testRejectedCallReleasesWorker(TestContext should) throws Exception {
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().setThreadingModel(ThreadingModel.WORKER).setMaxWorkerCalls(1)).callHandler(UNARY, call -> {
+      call.handler(helloRequest -> {
+        call.response().end(Reply.newBuilder().setMessage("Hello " + helloRequest.getName()).build());
+      });
+    }));
+
+    // Calls ended when they start must release their worker slot
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+      .setHttp2ClearTextUpgrade(false)
+      .setProtocolVersion(HttpVersion.HTTP_2));
+    for (int i = 0; i < 3; i++) {
+      Async async = should.async();
+      client.request(HttpMethod.POST, port, "localhost", "/" + TestServiceGrpc.SERVICE_NAME + "/Unary")
+        .onComplete(should.asyncAssertSuccess(req -> {
+          req.putHeader(GrpcHeaderNames.GRPC_ENCODING, "unsupported");
+          req.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+          req.response().onComplete(should.asyncAssertSuccess(resp -> {
+            resp.endHandler(v -> {
+              String status = resp.getHeader("grpc-status");
+              if (status == null) {
+                status = resp.getTrailer("grpc-status");
+              }
+              should.assertEquals(String.valueOf(GrpcStatus.UNIMPLEMENTED.code), status);
+              async.complete();
+            });
+          }));
+          req.end();
+        }));
+      async.awaitSuccess(10_000);
+    }
+    client.close().await();
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    Reply reply = TestServiceGrpc.newBlockingStub(channel)
+      .withDeadlineAfter(10, TimeUnit.SECONDS)
+      .unary(Request.newBuilder().setName("Julien").build());
+    should.assertEquals("Hello Julien", reply.getMessage());
+  }
+}
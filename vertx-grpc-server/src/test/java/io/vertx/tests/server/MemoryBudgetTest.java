@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.MemoryBudget;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.grpc.server.GrpcServerRequest;
+import io.vertx.tests.common.grpc.Empty;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MemoryBudgetTest extends ServerTestBase {
+
+  private static final int STREAMS = 4;
+  private static final int MESSAGES = 40;
+  private static final int MESSAGE_SIZE = 16 * 1024;
+  private static final long LIMIT = 64 * 1024;
+
+  @Test
+  public void testBudget(TestContext should) throws Exception {
+    List<Context> contexts = new CopyOnWriteArrayList<>();
+    List<GrpcServerRequest<Request, Empty>> calls = new CopyOnWriteArrayList<>();
+    AtomicInteger received = new AtomicInteger();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions().setMaxInboundMemory(LIMIT));
+    startServer(server.callHandler(SINK, call -> {
+      // Do not consume the messages until the test resumes the calls
+      call.pause();
+      call.handler(msg -> received.incrementAndGet());
+      call.endHandler(v -> call.response().end(Empty.getDefaultInstance()));
+      contexts.add(Vertx.currentContext());
+      calls.add(call);
+    }));
+    MemoryBudget budget = server.inboundMemory();
+    should.assertNotNull(budget);
+    should.assertEquals(LIMIT, budget.limit());
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    String name = "x".repeat(MESSAGE_SIZE);
+    CountDownLatch done = new CountDownLatch(STREAMS);
+    for (int i = 0; i < STREAMS; i++) {
+      StreamObserver<Request> sink = TestServiceGrpc.newStub(channel).sink(new StreamObserver<>() {
+        @Override
+        public void onNext(Empty value) {
+        }
+        @Override
+        public void onError(Throwable t) {
+          should.fail(t);
+        }
+        @Override
+        public void onCompleted() {
+          done.countDown();
+        }
+      });
+      for (int j = 0; j < MESSAGES; j++) {
+        sink.onNext(Request.newBuilder().setName(name).build());
+      }
+      sink.onCompleted();
+    }
+
+    // Nothing is consumed, so the budget stays exceeded until every stream is paused and no more bytes are received
+    waitUntil(() -> calls.size() == STREAMS && budget.pausedStreams() == STREAMS);
+    long used = budget.used();
+    should.assertTrue(used > LIMIT, "Used " + used);
+    should.assertTrue(used <= LIMIT + STREAMS * 128 * 1024, "Used " + used);
+    should.assertEquals(0, received.get());
+
+    for (int i = 0; i < STREAMS; i++) {
+      GrpcServerRequest<Request, Empty> call = calls.get(i);
+      contexts.get(i).runOnContext(v -> call.resume());
+    }
+    should.assertTrue(done.await(20, TimeUnit.SECONDS));
+    should.assertEquals(STREAMS * MESSAGES, received.get());
+    waitUntil(() -> budget.used() == 0L && budget.pausedStreams() == 0);
+    should.assertEquals(0L, budget.used());
+    should.assertEquals(0, budget.pausedStreams());
+  }
+
+  @Test
+  public void testPartialMessageLargerThanBudget(TestContext should) throws Exception {
+    // The partial message cannot be released while the stream is paused, the stream must not be paused
+    AtomicInteger received = new AtomicInteger();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions().setMaxInboundMemory(16 * 1024));
+    startServer(server.callHandler(SINK, call -> {
+      call.handler(msg -> received.incrementAndGet());
+      call.endHandler(v -> call.response().end(Empty.getDefaultInstance()));
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    CountDownLatch done = new CountDownLatch(1);
+    StreamObserver<Request> sink = TestServiceGrpc.newStub(channel).sink(new StreamObserver<>() {
+      @Override
+      public void onNext(Empty value) {
+      }
+      @Override
+      public void onError(Throwable t) {
+        should.fail(t);
+      }
+      @Override
+      public void onCompleted() {
+        done.countDown();
+      }
+    });
+    sink.onNext(Request.newBuilder().setName("x".repeat(128 * 1024)).build());
+    sink.onCompleted();
+    should.assertTrue(done.await(20, TimeUnit.SECONDS));
+    should.assertEquals(1, received.get());
+  }
+}
@@ -32,6 +32,30 @@ public class ProtocolSupportTest extends ServerTestBase {
     testDisableProtocol(should, "application/grpc-web", GrpcProtocol.WEB);
   }
 
+  @Test
+  public void testUnsupportedContentType(TestContext should) {
+
+    startServer(GrpcServer.server(vertx));
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+
+    for (String contentType : new String[] { "application/grpc+xml", "application/grpcx", "application/grpc-webx", "application/grpc-web-text+", "application/grp", "text/plain" }) {
+      client
+        .request(HttpMethod.POST, 8080, "localhost", "/")
+        .compose(request -> {
+          request.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+          request.send();
+          return request.response()
+            .map(resp -> resp.statusCode());
+        }).onComplete(should.asyncAssertSuccess(status -> {
+          should.assertEquals(415, status, contentType);
+        }));
+    }
+  }
+
   private void testDisableProtocol(TestContext should, String contentType, GrpcProtocol protocol) {
 
     startServer(GrpcServer.server(vertx, new GrpcServerOptions().removeEnabledProtocol(protocol)));
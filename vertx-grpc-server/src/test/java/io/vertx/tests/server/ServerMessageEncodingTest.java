@@ -31,6 +31,7 @@ import io.vertx.grpc.common.GrpcHeaderNames;
 import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
 import io.vertx.grpc.server.GrpcServerRequest;
 import io.vertx.grpc.server.GrpcServerResponse;
 import io.vertx.tests.common.GrpcTestBase;
@@ -40,6 +41,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -113,6 +115,73 @@ public class ServerMessageEncodingTest extends ServerTestBase {
     }));
   }
 
+  @Test
+  public void testCompressionThreshold(TestContext should) {
+    Buffer small = Buffer.buffer("Hello World");
+    Buffer large = Buffer.buffer();
+    for (int i = 0; i < 64; i++) {
+      large.appendString("Hello World");
+    }
+    testCompressionPolicy(should, new GrpcServerOptions().setCompressionThreshold(64), Arrays.asList(small, large, small), Arrays.asList(false, true, false));
+  }
+
+  @Test
+  public void testCompressionRatioThreshold(TestContext should) {
+    byte[] bytes = new byte[1024];
+    new Random(0).nextBytes(bytes);
+    Buffer random = Buffer.buffer(bytes);
+    Buffer large = Buffer.buffer();
+    for (int i = 0; i < 64; i++) {
+      large.appendString("Hello World");
+    }
+    // Once a message does not compress well enough, the following messages are not compressed
+    testCompressionPolicy(should, new GrpcServerOptions().setCompressionRatioThreshold(0.5), Arrays.asList(large, random, large), Arrays.asList(true, false, false));
+  }
+
+  private void testCompressionPolicy(TestContext should, GrpcServerOptions options, List<Buffer> messages, List<Boolean> compressed) {
+
+    startServer(GrpcServer.server(vertx, options).callHandler(call -> {
+      call.handler(request -> {
+        GrpcServerResponse<Buffer, Buffer> response = call.response();
+        response.encoding("gzip");
+        for (Buffer message : messages) {
+          response.write(message);
+        }
+        response.end();
+      });
+    }));
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+
+    Async done = should.async();
+
+    client.request(HttpMethod.POST, 8080, "localhost", "/").onComplete(should.asyncAssertSuccess(request -> {
+      request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+      request.send(Buffer
+        .buffer()
+        .appendByte((byte)0)
+        .appendInt(0)).onComplete(should.asyncAssertSuccess(resp -> {
+          should.assertEquals("gzip", resp.getHeader(GrpcHeaderNames.GRPC_ENCODING));
+          resp.body().onComplete(should.asyncAssertSuccess(body -> {
+            int idx = 0;
+            for (int i = 0; i < messages.size(); i++) {
+              boolean c = body.getByte(idx) == 1;
+              int len = body.getInt(idx + 1);
+              Buffer received = body.slice(idx + 5, idx + 5 + len);
+              idx += 5 + len;
+              should.assertEquals(compressed.get(i), c);
+              should.assertEquals(messages.get(i), c ? GrpcTestBase.unzip(received) : received);
+            }
+            should.assertEquals(body.length(), idx);
+            done.complete();
+          }));
+      }));
+    }));
+  }
+
   @Test
   public void testEncodeError(TestContext should) {
 
@@ -213,6 +282,75 @@ public class ServerMessageEncodingTest extends ServerTestBase {
     }));
   }
 
+  @Test
+  public void testUnsupportedRequestEncoding(TestContext should) {
+
+    startServer(GrpcServer.server(vertx).callHandler(call -> {
+      should.fail();
+    }));
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+
+    Async done = should.async();
+
+    client.request(HttpMethod.POST, 8080, "localhost", "/").onComplete(should.asyncAssertSuccess(request -> {
+      request.putHeader(GrpcHeaderNames.GRPC_ENCODING, "unknown");
+      request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+      request.send(Buffer
+        .buffer()
+        .appendByte((byte)1)
+        .appendInt(5)
+        .appendString("Hello")).onComplete(should.asyncAssertSuccess(resp -> {
+          should.assertEquals("" + GrpcStatus.UNIMPLEMENTED.code, resp.getHeader(GrpcHeaderNames.GRPC_STATUS));
+          String acceptEncoding = resp.getHeader(GrpcHeaderNames.GRPC_ACCEPT_ENCODING);
+          should.assertNotNull(acceptEncoding);
+          should.assertTrue(Arrays.asList(acceptEncoding.split(",")).containsAll(Arrays.asList("gzip", "deflate")));
+          done.complete();
+      }));
+    }));
+  }
+
+  @Test
+  public void testResponseEncodingNotAccepted(TestContext should) {
+
+    Buffer expected = Buffer.buffer("Hello World");
+
+    startServer(GrpcServer.server(vertx).callHandler(call -> {
+      call.handler(request -> {
+        call.response()
+          .encoding("gzip")
+          .endMessage(GrpcMessage.message("identity", expected));
+      });
+    }));
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+
+    Async done = should.async();
+
+    client.request(HttpMethod.POST, 8080, "localhost", "/").onComplete(should.asyncAssertSuccess(request -> {
+      request.putHeader(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, "deflate");
+      request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+      request.send(Buffer
+        .buffer()
+        .appendByte((byte)0)
+        .appendInt(expected.length())
+        .appendBuffer(expected)).onComplete(should.asyncAssertSuccess(resp -> {
+          should.assertEquals("identity", resp.getHeader(GrpcHeaderNames.GRPC_ENCODING));
+          resp.body().onComplete(should.asyncAssertSuccess(body -> {
+            should.assertEquals(0, (int) body.getByte(0));
+            should.assertEquals(expected, body.slice(5, 5 + body.getInt(1)));
+            done.complete();
+          }));
+      }));
+    }));
+  }
+
   // A test to check, gRPC implementation behavior
   @Test
   public void testClientDecodingError(TestContext should) throws Exception {
@@ -14,6 +14,7 @@ import io.grpc.*;
 import io.grpc.stub.ClientCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Timer;
 import io.vertx.core.buffer.Buffer;
@@ -39,7 +40,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -94,6 +98,132 @@ public class ServerRequestTest extends ServerTest {
     should.assertEquals("Hello Julien", res.getMessage());
   }
 
+  @Test
+  public void testUnregisterCallHandler(TestContext should) {
+    GrpcServer server = GrpcServer.server(vertx);
+    server.callHandler(UNARY, call -> {
+      should.assertEquals(UNARY.serviceName().fullyQualifiedName(), call.serviceName().fullyQualifiedName());
+      should.assertEquals("Unary", call.methodName());
+      call.handler(helloRequest -> {
+        call.response().end(Reply.newBuilder().setMessage("Hello " + helloRequest.getName()).build());
+      });
+    });
+    server.callHandler(call -> {
+      String methodName = call.methodName();
+      call.handler(buffer -> {
+        call.response().end(Buffer.buffer(Reply.newBuilder().setMessage("Generic " + methodName).build().toByteArray()));
+      });
+    });
+    startServer(server);
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    Request request = Request.newBuilder().setName("Julien").build();
+    should.assertEquals("Hello Julien", stub.unary(request).getMessage());
+
+    server.callHandler(UNARY, null);
+    should.assertEquals("Generic Unary", stub.unary(request).getMessage());
+  }
+
+  @Test
+  public void testUnaryRequest(TestContext should) {
+    startServer(GrpcServer.server(vertx).callHandler(UNARY_REQUEST, call -> {
+      AtomicReference<Request> received = new AtomicReference<>();
+      call.pause();
+      call.handler(received::set);
+      call.endHandler(v -> {
+        should.assertNotNull(received.get());
+        should.assertEquals(0L, call.inboundPauseCount());
+        call.response().end(Reply.newBuilder().setMessage("Hello " + received.get().getName()).build());
+      });
+      vertx.setTimer(10, id -> call.fetch(1));
+      vertx.setTimer(20, id -> call.fetch(1));
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    should.assertEquals("Hello Julien", stub.unary(Request.newBuilder().setName("Julien").build()).getMessage());
+  }
+
+  @Test
+  public void testUnaryRequestHandlerFetch(TestContext should) {
+    List<String> events = new CopyOnWriteArrayList<>();
+    Async failure = should.async();
+    // Reported to the context exception handler
+    vertx.exceptionHandler(err -> {
+      should.assertEquals("expected", err.getMessage());
+      failure.complete();
+    });
+    startServer(GrpcServer.server(vertx).callHandler(UNARY_REQUEST, call -> {
+      call.pause();
+      call.messageHandler(msg -> {
+        events.add("begin");
+        // Re-entrant fetch, the end is delivered after the handler returns
+        call.fetch(1);
+        events.add("end");
+        throw new RuntimeException("expected");
+      });
+      call.endHandler(v -> {
+        events.add("ended");
+        call.response().end(Reply.newBuilder().setMessage("Hello").build());
+      });
+      call.fetch(1);
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    should.assertEquals("Hello", stub.unary(Request.newBuilder().setName("Julien").build()).getMessage());
+    failure.awaitSuccess(10_000);
+    should.assertEquals(Arrays.asList("begin", "end", "ended"), events);
+  }
+
+  @Test
+  public void testUnaryRequestTooManyMessages(TestContext should) {
+    startServer(GrpcServer.server(vertx).callHandler(UNARY_REQUEST, call -> {
+      call.handler(msg -> should.fail());
+    }));
+
+    Async test = should.async();
+
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+
+    client.request(HttpMethod.POST, 8080, "localhost", "/" + TestServiceGrpc.SERVICE_NAME + "/Unary")
+      .onComplete(should.asyncAssertSuccess(request -> {
+        request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+        request.setChunked(true);
+        for (int i = 0; i < 2; i++) {
+          Buffer msg = Buffer.buffer(Request.newBuilder().setName("msg-" + i).build().toByteArray());
+          Buffer buffer = Buffer.buffer();
+          buffer.appendByte((byte) 0); // Uncompressed
+          buffer.appendInt(msg.length());
+          buffer.appendBuffer(msg);
+          request.write(buffer);
+        }
+        request.end();
+        request.response().onComplete(should.asyncAssertSuccess(response -> {
+          response.end().onComplete(should.asyncAssertSuccess(v -> {
+            String status = response.getTrailer(GrpcHeaderNames.GRPC_STATUS.toString());
+            if (status == null) {
+              status = response.getHeader(GrpcHeaderNames.GRPC_STATUS);
+            }
+            should.assertEquals(String.valueOf(GrpcStatus.INTERNAL.code), status);
+            test.complete();
+          }));
+        }));
+      }));
+
+    test.awaitSuccess(20_000);
+  }
+
   @Test
   public void testStatusUnary1(TestContext should) {
     startServer(GrpcServer.server(vertx).callHandler(UNARY, call -> {
@@ -510,6 +640,47 @@ public class ServerRequestTest extends ServerTest {
     async.awaitSuccess();
   }
 
+  @Test
+  public void testParseTimeout(TestContext should) {
+    Map<String, Long> timeouts = new LinkedHashMap<>();
+    timeouts.put("1H", TimeUnit.HOURS.toMillis(1));
+    timeouts.put("2M", TimeUnit.MINUTES.toMillis(2));
+    timeouts.put("3S", TimeUnit.SECONDS.toMillis(3));
+    timeouts.put("99999999m", 99999999L);
+    timeouts.put("5000u", 5L);
+    timeouts.put("6000000n", 6L);
+    timeouts.put("1500500u", 1501L);
+    timeouts.put("99999999n", 100L);
+    timeouts.put("123456789m", 0L);
+    timeouts.put("10x", 0L);
+    timeouts.put("m", 0L);
+    timeouts.put("-1S", 0L);
+
+    startServer(GrpcServer.server(vertx).callHandler(call -> {
+      call.response().headers().set("timeout", String.valueOf(call.timeout()));
+      call.response().end();
+    }));
+
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+      .setHttp2ClearTextUpgrade(false)
+      .setProtocolVersion(HttpVersion.HTTP_2));
+    Async async = should.async(timeouts.size());
+    timeouts.forEach((header, expected) -> {
+      client.request(HttpMethod.POST, port, "localhost", "/" + TestServiceGrpc.SERVICE_NAME + "/Unary")
+        .onComplete(should.asyncAssertSuccess(req -> {
+          req.putHeader(GrpcHeaderNames.GRPC_TIMEOUT, header);
+          req.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+          req.response().onComplete(should.asyncAssertSuccess(resp -> {
+            should.assertEquals(String.valueOf(expected), resp.getHeader("timeout"), header);
+            async.countDown();
+          }));
+          req.end();
+        }));
+    });
+    async.awaitSuccess();
+    client.close().await();
+  }
+
   @Test
   public void testTimeoutPropagationOnServer(TestContext should) throws Exception {
     startServer(GrpcServer.server(vertx, new GrpcServerOptions().setDeadlinePropagation(true)).callHandler(UNARY, call -> {
@@ -608,6 +779,64 @@ public class ServerRequestTest extends ServerTest {
     should.assertEquals("Hola", resp.getMessage());
   }
 
+  @Test
+  public void testReadQueueWaterMarks(TestContext should) {
+    testReadQueue(should, new GrpcServerOptions().setReadQueueLowWaterMark(1).setReadQueueHighWaterMark(2));
+  }
+
+  @Test
+  public void testAdaptiveReadQueue(TestContext should) {
+    testReadQueue(should, new GrpcServerOptions()
+      .setReadQueueHighWaterMark(1000)
+      .setAdaptiveReadQueue(true)
+      .setReadQueueMaxBytes(256));
+  }
+
+  private void testReadQueue(TestContext should, GrpcServerOptions options) {
+
+    int numMessages = 64;
+
+    startServer(GrpcServer.server(vertx, options).callHandler(SINK, call -> {
+      AtomicInteger received = new AtomicInteger();
+      call.pause();
+      call.handler(msg -> received.incrementAndGet());
+      call.endHandler(v -> {
+        should.assertEquals(numMessages, received.get());
+        should.assertTrue(call.inboundPauseCount() > 0);
+        call.response().end(Empty.getDefaultInstance());
+      });
+      vertx.setTimer(100, id -> call.resume());
+    }));
+
+    Async test = should.async();
+
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+
+    client.request(HttpMethod.POST, 8080, "localhost", "/" + TestServiceGrpc.SERVICE_NAME + "/Sink")
+      .onComplete(should.asyncAssertSuccess(request -> {
+        request.setChunked(true);
+        for (int i = 0; i < numMessages; i++) {
+          Buffer msg = Buffer.buffer(Request.newBuilder().setName("msg-" + i).build().toByteArray());
+          Buffer buffer = Buffer.buffer();
+          buffer.appendByte((byte) 0); // Uncompressed
+          buffer.appendInt(msg.length());
+          buffer.appendBuffer(msg);
+          request.write(buffer);
+        }
+        request.end();
+        request.response().onComplete(should.asyncAssertSuccess(response -> {
+          response.end().onComplete(should.asyncAssertSuccess(v -> {
+            test.complete();
+          }));
+        }));
+      }));
+
+    test.awaitSuccess(20_000);
+  }
+
   @Test
   public void testInvalidMessageHandlerStream(TestContext should) {
 
@@ -664,4 +893,87 @@ public class ServerRequestTest extends ServerTest {
 
     test.awaitSuccess(20_000);
   }
+
+  @Test
+  public void testWriteAll(TestContext should) {
+    // Small messages are copied to a contiguous buffer, large messages are composed
+    String large = "x".repeat(8 * 1024);
+    startServer(GrpcServer.server(vertx).callHandler(SOURCE, call -> {
+      GrpcServerResponse<Empty, Reply> response = call.response();
+      List<Reply> small = new ArrayList<>();
+      List<Reply> big = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        small.add(Reply.newBuilder().setMessage("small-" + i).build());
+        big.add(Reply.newBuilder().setMessage(large + i).build());
+      }
+      response.writeAll(small).onComplete(should.asyncAssertSuccess());
+      response.writeAll(big).onComplete(should.asyncAssertSuccess());
+      response.writeAll(List.of()).onComplete(should.asyncAssertSuccess());
+      response.end();
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    List<String> items = new ArrayList<>();
+    stub.source(Empty.getDefaultInstance()).forEachRemaining(item -> items.add(item.getMessage()));
+    should.assertEquals(20, items.size());
+    for (int i = 0; i < 10; i++) {
+      should.assertEquals("small-" + i, items.get(i));
+      should.assertEquals(large + i, items.get(10 + i));
+    }
+  }
+
+  @Test
+  public void testCoalesceWrites(TestContext should) {
+    int num = 100;
+    startServer(GrpcServer.server(vertx).callHandler(SOURCE, call -> {
+      GrpcServerResponse<Empty, Reply> response = call.response().coalesceWrites(true);
+      AtomicInteger completed = new AtomicInteger();
+      for (int i = 0; i < num; i++) {
+        response.write(Reply.newBuilder().setMessage("msg-" + i).build()).onComplete(should.asyncAssertSuccess(v -> {
+          completed.incrementAndGet();
+        }));
+      }
+      // Coalesced messages are written when the current task ends
+      should.assertEquals(0, completed.get());
+      response.end();
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    List<String> items = new ArrayList<>();
+    stub.source(Empty.getDefaultInstance()).forEachRemaining(item -> items.add(item.getMessage()));
+    should.assertEquals(num, items.size());
+    for (int i = 0; i < num; i++) {
+      should.assertEquals("msg-" + i, items.get(i));
+    }
+  }
+
+  @Test
+  public void testCoalesceWritesOnWorker(TestContext should) {
+    int num = 100;
+    startServer(GrpcServer.server(vertx).callHandler(SOURCE, ThreadingModel.WORKER, call -> {
+      // Messages written by the worker thread are not coalesced
+      GrpcServerResponse<Empty, Reply> response = call.response().coalesceWrites(true);
+      for (int i = 0; i < num; i++) {
+        response.write(Reply.newBuilder().setMessage("msg-" + i).build()).onComplete(should.asyncAssertSuccess());
+      }
+      response.end();
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    List<String> items = new ArrayList<>();
+    stub.source(Empty.getDefaultInstance()).forEachRemaining(item -> items.add(item.getMessage()));
+    should.assertEquals(num, items.size());
+    for (int i = 0; i < num; i++) {
+      should.assertEquals("msg-" + i, items.get(i));
+    }
+  }
 }
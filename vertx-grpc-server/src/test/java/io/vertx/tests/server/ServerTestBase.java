@@ -28,6 +28,7 @@ import org.junit.runner.RunWith;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -36,6 +37,7 @@ import java.util.concurrent.TimeoutException;
 public abstract class ServerTestBase extends GrpcTestBase {
 
   public static final ServiceMethod<Request, Reply> UNARY = ServiceMethod.server(TestConstants.TEST_SERVICE, "Unary", TestConstants.REPLY_ENC, TestConstants.REQUEST_DEC);
+  public static final ServiceMethod<Request, Reply> UNARY_REQUEST = ServiceMethod.server(TestConstants.TEST_SERVICE, "Unary", TestConstants.REPLY_ENC, TestConstants.REQUEST_DEC, true);
   public static final ServiceMethod<JsonObject, JsonObject> UNARY_JSON = ServiceMethod.server(TestConstants.TEST_SERVICE, "Unary", GrpcMessageEncoder.JSON_OBJECT, GrpcMessageDecoder.JSON_OBJECT);
   public static final ServiceMethod<Empty, Reply> SOURCE = ServiceMethod.server(TestConstants.TEST_SERVICE, "Source", TestConstants.REPLY_ENC, TestConstants.EMPTY_DEC);
   public static final ServiceMethod<Request, Empty> SINK = ServiceMethod.server(TestConstants.TEST_SERVICE, "Sink", TestConstants.EMPTY_ENC, TestConstants.REQUEST_DEC);
@@ -77,4 +79,17 @@ public abstract class ServerTestBase extends GrpcTestBase {
       throw afe;
     }
   }
+
+  /**
+   * Poll the {@code condition} until it holds, failing after 10 seconds.
+   */
+  protected static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!condition.getAsBoolean()) {
+      if (System.currentTimeMillis() > deadline) {
+        throw new AssertionError("Timed out");
+      }
+      Thread.sleep(10);
+    }
+  }
 }
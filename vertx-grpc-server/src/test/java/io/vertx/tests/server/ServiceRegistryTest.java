@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import com.google.protobuf.Descriptors;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.StatusRuntimeException;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.Service;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.vertx.tests.common.grpc.TestConstants.TEST_SERVICE;
+
+public class ServiceRegistryTest extends ServerTestBase {
+
+  private static Service service(String version) {
+    return new Service() {
+      @Override
+      public ServiceName name() {
+        return TEST_SERVICE;
+      }
+      @Override
+      public Descriptors.ServiceDescriptor descriptor() {
+        return null;
+      }
+      @Override
+      public void bind(GrpcServer server) {
+        server.callHandler(UNARY, call -> {
+          call.handler(request -> call.response().end(Reply.newBuilder().setMessage(version).build()));
+        });
+      }
+    };
+  }
+
+  @Test
+  public void testReplaceServices(TestContext should) {
+    GrpcServer server = GrpcServer.server(vertx);
+    Service v1 = service("v1");
+    Service v2 = service("v2");
+    startServer(server.addService(v1));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    Request request = Request.newBuilder().setName("Julien").build();
+    should.assertEquals("v1", stub.unary(request).getMessage());
+
+    server.replaceServices(List.of(v2));
+    should.assertEquals(List.of(v2), server.services());
+    should.assertEquals("v2", stub.unary(request).getMessage());
+
+    should.assertFalse(server.removeService(v1));
+    should.assertTrue(server.removeService(v2));
+    should.assertEquals(List.of(), server.services());
+    try {
+      stub.unary(request);
+      should.fail();
+    } catch (StatusRuntimeException expected) {
+    }
+  }
+
+  @Test
+  public void testReplaceServicesKeepsCallHandlers(TestContext should) {
+    GrpcServer server = GrpcServer.server(vertx);
+    server.callHandler(UNARY, call -> {
+      call.handler(request -> call.response().end(Reply.newBuilder().setMessage("direct").build()));
+    });
+    startServer(server.addService(service("v1")));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    Request request = Request.newBuilder().setName("Julien").build();
+    // The handler registered first is tried first
+    should.assertEquals("direct", stub.unary(request).getMessage());
+
+    server.replaceServices(List.of());
+    should.assertEquals("direct", stub.unary(request).getMessage());
+  }
+
+  @Test
+  public void testDuplicatedServiceName(TestContext should) {
+    GrpcServer server = GrpcServer.server(vertx);
+    try {
+      server.replaceServices(List.of(service("v1"), service("v2")));
+      should.fail();
+    } catch (IllegalStateException expected) {
+    }
+    should.assertEquals(List.of(), server.services());
+  }
+
+  @Test
+  public void testSwapUnderLoad(TestContext should) throws Exception {
+    GrpcServer server = GrpcServer.server(vertx);
+    Service v1 = service("v1");
+    Service v2 = service("v2");
+    startServer(server.addService(v1));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    Request request = Request.newBuilder().setName("Julien").build();
+
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    Thread swapper = new Thread(() -> {
+      try {
+        for (int i = 0; !done.get(); i++) {
+          server.replaceServices(List.of(i % 2 == 0 ? v2 : v1));
+        }
+      } catch (Throwable t) {
+        failure.set(t);
+      }
+    });
+    swapper.start();
+    try {
+      // Every call is dispatched to one of the versions
+      for (int i = 0; i < 500; i++) {
+        String version = stub.unary(request).getMessage();
+        should.assertTrue(version.equals("v1") || version.equals("v2"));
+      }
+    } finally {
+      done.set(true);
+      swapper.join();
+    }
+    should.assertNull(failure.get());
+  }
+}
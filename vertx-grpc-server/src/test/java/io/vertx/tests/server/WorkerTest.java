@@ -11,16 +11,21 @@
 package io.vertx.tests.server;
 
 import io.grpc.*;
+import io.vertx.core.Context;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
 import io.vertx.grpc.server.GrpcServerResponse;
 import io.vertx.tests.common.grpc.Reply;
 import io.vertx.tests.common.grpc.Request;
 import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Assume;
 import org.junit.Test;
 
 public class WorkerTest extends ServerTestBase {
@@ -53,4 +58,52 @@ public class WorkerTest extends ServerTestBase {
     Reply res = stub.unary(request);
     should.assertEquals("Hello Julien", res.getMessage());
   }
+
+  @Test
+  public void testWorkerThreadingModel(TestContext should) throws Exception {
+    startServer(GrpcServer
+      .server(vertx, new GrpcServerOptions().setThreadingModel(ThreadingModel.WORKER))
+      .callHandler(UNARY, call -> {
+        should.assertEquals(ThreadingModel.WORKER, Vertx.currentContext().threadingModel());
+        should.assertTrue(Context.isOnWorkerThread());
+        call.handler(helloRequest -> {
+          should.assertTrue(Context.isOnWorkerThread());
+          Reply helloReply = Reply.newBuilder().setMessage("Hello " + helloRequest.getName()).build();
+          call.response().end(helloReply);
+        });
+      }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+
+    Request request = Request.newBuilder().setName("Julien").build();
+    Reply res = stub.unary(request);
+    should.assertEquals("Hello Julien", res.getMessage());
+  }
+
+  @Test
+  public void testVirtualThreadThreadingModel(TestContext should) throws Exception {
+    Assume.assumeTrue(Runtime.version().feature() >= 21);
+    startServer(GrpcServer
+      .server(vertx)
+      .callHandler(UNARY, ThreadingModel.VIRTUAL_THREAD, call -> {
+        should.assertEquals(ThreadingModel.VIRTUAL_THREAD, Vertx.currentContext().threadingModel());
+        Request helloRequest = call.last().await();
+        Reply helloReply = Reply.newBuilder().setMessage("Hello " + helloRequest.getName()).build();
+        call.response().end(helloReply);
+      }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+
+    Request request = Request.newBuilder().setName("Julien").build();
+    Reply res = stub.unary(request);
+    should.assertEquals("Hello Julien", res.getMessage());
+  }
 }
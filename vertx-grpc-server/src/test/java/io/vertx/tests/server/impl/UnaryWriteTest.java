@@ -0,0 +1,169 @@
+package io.vertx.tests.server.impl;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.GrpcMethodCall;
+import io.vertx.grpc.server.GrpcProtocol;
+import io.vertx.grpc.server.impl.GrpcServerRequestImpl;
+import io.vertx.grpc.server.impl.GrpcServerResponseImpl;
+import io.vertx.grpc.server.impl.Http2GrpcServerRequest;
+import io.vertx.grpc.server.impl.Http2GrpcServerResponse;
+import io.vertx.grpc.server.impl.WebGrpcServerRequest;
+import io.vertx.grpc.server.impl.WebGrpcServerResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Counts the writes performed on the HTTP response for unary and streaming responses.
+ */
+public class UnaryWriteTest {
+
+  private Vertx vertx;
+  private List<String> writes;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    writes = new ArrayList<>();
+  }
+
+  @After
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  private GrpcServerResponseImpl<Buffer, Buffer> response(GrpcProtocol protocol) {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    MultiMap headers = HttpHeaders.headers();
+    MultiMap trailers = HttpHeaders.headers();
+    HttpServerResponse httpResponse = (HttpServerResponse) Proxy.newProxyInstance(HttpServerResponse.class.getClassLoader(), new Class[]{HttpServerResponse.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "headers":
+          return headers;
+        case "trailers":
+          return trailers;
+        case "write":
+        case "end":
+        case "writeHead":
+          writes.add(method.getName() + (args == null ? "()" : "(Buffer)"));
+          return context.succeededFuture();
+        default:
+          if (method.getReturnType() == HttpServerResponse.class) {
+            return proxy;
+          } else if (method.getReturnType() == boolean.class) {
+            return false;
+          }
+          return null;
+      }
+    });
+    MultiMap requestHeaders = HttpHeaders.headers();
+    HttpServerRequest httpRequest = (HttpServerRequest) Proxy.newProxyInstance(HttpServerRequest.class.getClassLoader(), new Class[]{HttpServerRequest.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "headers":
+          return requestHeaders;
+        case "response":
+          return httpResponse;
+        case "version":
+          return HttpVersion.HTTP_2;
+        default:
+          if (method.getReturnType() == HttpServerRequest.class) {
+            return proxy;
+          } else if (method.getReturnType() == boolean.class) {
+            return false;
+          }
+          return null;
+      }
+    });
+    GrpcMethodCall methodCall = new GrpcMethodCall("/io.vertx.tests.TestService/Unary");
+    GrpcServerRequestImpl<Buffer, Buffer> request;
+    GrpcServerResponseImpl<Buffer, Buffer> response;
+    if (protocol == GrpcProtocol.HTTP_2) {
+      request = new Http2GrpcServerRequest<>(context, protocol, WireFormat.PROTOBUF, httpRequest, GrpcMessageDecoder.IDENTITY, methodCall);
+      response = new Http2GrpcServerResponse<>(context, request, protocol, httpResponse, GrpcMessageEncoder.IDENTITY);
+    } else {
+      request = new WebGrpcServerRequest<>(context, protocol, WireFormat.PROTOBUF, 1024, httpRequest, GrpcMessageDecoder.IDENTITY, methodCall);
+      response = new WebGrpcServerResponse<>(context, request, protocol, httpResponse, GrpcMessageEncoder.IDENTITY);
+    }
+    response.format(WireFormat.PROTOBUF);
+    response.init();
+    return response;
+  }
+
+  @Test
+  public void testUnary() {
+    response(GrpcProtocol.HTTP_2).end(Buffer.buffer("hello"));
+    assertEquals(Arrays.asList("end(Buffer)"), writes);
+  }
+
+  @Test
+  public void testWebUnary() {
+    response(GrpcProtocol.WEB).end(Buffer.buffer("hello"));
+    assertEquals(Arrays.asList("end(Buffer)"), writes);
+  }
+
+  @Test
+  public void testWebUnaryStatus() {
+    GrpcServerResponseImpl<Buffer, Buffer> response = response(GrpcProtocol.WEB);
+    response.status(GrpcStatus.CANCELLED);
+    response.end(Buffer.buffer("hello"));
+    assertEquals(Arrays.asList("end(Buffer)"), writes);
+    assertTrue(response.isCancelled());
+  }
+
+  @Test
+  public void testStreaming() {
+    GrpcServerResponseImpl<Buffer, Buffer> response = response(GrpcProtocol.HTTP_2);
+    response.write(Buffer.buffer("hello"));
+    response.write(Buffer.buffer("world"));
+    response.end();
+    assertEquals(Arrays.asList("write(Buffer)", "write(Buffer)", "end()"), writes);
+  }
+
+  @Test
+  public void testCoalescedWriteQueueFull() throws Exception {
+    GrpcServerResponseImpl<Buffer, Buffer> response = response(GrpcProtocol.HTTP_2);
+    CompletableFuture<List<String>> coalesced = new CompletableFuture<>();
+    response.context().runOnContext(v -> {
+      response.coalesceWrites(true);
+      response.write(Buffer.buffer("hello"));
+      response.write(Buffer.buffer("world"));
+      List<String> before = new ArrayList<>(writes);
+      // The coalesced messages are sent to the transport to be accounted by its write queue
+      response.writeQueueFull();
+      before.add("|");
+      before.addAll(writes);
+      coalesced.complete(before);
+    });
+    assertEquals(Arrays.asList("|", "write(Buffer)"), coalesced.get(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testCoalesceOutsideContext() {
+    GrpcServerResponseImpl<Buffer, Buffer> response = response(GrpcProtocol.HTTP_2);
+    response.coalesceWrites(true);
+    response.write(Buffer.buffer("hello"));
+    response.write(Buffer.buffer("world"));
+    assertEquals(Arrays.asList("write(Buffer)", "write(Buffer)"), writes);
+  }
+}
@@ -28,6 +28,7 @@ public class MethodTranscodingOptions {
   private String path;
   private String body;
   private String responseBody;
+  private TranscodingStreamFormat streamFormat;
   private List<MethodTranscodingOptions> additionalBindings = new LinkedList<>();
 
   public MethodTranscodingOptions() {
@@ -40,6 +41,7 @@ public class MethodTranscodingOptions {
     this.path = that.path;
     this.body = that.body;
     this.responseBody = that.responseBody;
+    this.streamFormat = that.streamFormat;
     this.additionalBindings = new ArrayList<>(that.additionalBindings);
   }
 
@@ -143,6 +145,27 @@ public class MethodTranscodingOptions {
     return this;
   }
 
+  /**
+   * Gets the format of the HTTP response when the gRPC method streams several messages.
+   *
+   * @return The stream format or null when the response is a single message
+   */
+  public TranscodingStreamFormat getStreamFormat() {
+    return streamFormat;
+  }
+
+  /**
+   * Sets the format of the HTTP response when the gRPC method streams several messages. A client can also select
+   * {@link TranscodingStreamFormat#NDJSON} or {@link TranscodingStreamFormat#SSE} with the {@code Accept} header.
+   *
+   * @param streamFormat the stream format
+   * @return this instance
+   */
+  public MethodTranscodingOptions setStreamFormat(TranscodingStreamFormat streamFormat) {
+    this.streamFormat = streamFormat;
+    return this;
+  }
+
   /**
    * Gets additional HTTP bindings for the same gRPC method. This allows a single gRPC method to be exposed through multiple HTTP endpoints.
    *
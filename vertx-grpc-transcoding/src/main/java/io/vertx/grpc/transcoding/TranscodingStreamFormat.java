@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.transcoding;
+
+import io.vertx.codegen.annotations.Unstable;
+
+/**
+ * The format of a transcoded response streaming several messages, e.g. the response of a server streaming method.
+ *
+ * Each message is written to the HTTP response as soon as it is sent, instead of being written as the whole response
+ * body.
+ */
+@Unstable("Transcoding is in tech preview")
+public enum TranscodingStreamFormat {
+
+  /**
+   * Newline delimited JSON, each message is written on its own line.
+   */
+  NDJSON("application/x-ndjson"),
+
+  /**
+   * A JSON array incrementally written, each message is an element of the array.
+   */
+  JSON_ARRAY("application/json"),
+
+  /**
+   * Server-Sent Events, each message is written as the data of an event.
+   */
+  SSE("text/event-stream");
+
+  private final String mediaType;
+
+  TranscodingStreamFormat(String mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  /**
+   * @return the media type of the response
+   */
+  public String mediaType() {
+    return mediaType;
+  }
+}
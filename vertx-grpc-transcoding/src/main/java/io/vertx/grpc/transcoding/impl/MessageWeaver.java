@@ -1,23 +1,294 @@
 package io.vertx.grpc.transcoding.impl;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+import com.google.protobuf.util.JsonFormat;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.impl.ProtobufJsonCodec;
 import io.vertx.grpc.transcoding.impl.config.HttpVariableBinding;
 
+import java.util.Base64;
 import java.util.List;
 
 public class MessageWeaver {
 
+  private static final JsonFormat.Parser PARSER = JsonFormat.parser();
+
+  /**
+   * Weave the request {@code message} body and the {@code bindings} in a protobuf {@code builder}: the body is parsed
+   * once in the builder and the bindings are set with the builder field descriptors, without an intermediate JSON
+   * document.
+   *
+   * <p>As with {@link #weaveRequestMessage(Buffer, List, String)}, the body takes precedence over the bindings.</p>
+   *
+   * @param message the request body
+   * @param bindings the path and query bindings
+   * @param transcodingRequestBody the request body field path
+   * @param builder the message builder
+   * @return the {@code builder} argument
+   * @throws CodecException when the body or a binding is not valid
+   */
+  public static <B extends Message.Builder> B weaveRequestMessage(Buffer message, List<HttpVariableBinding> bindings, String transcodingRequestBody, B builder) throws CodecException {
+    for (HttpVariableBinding binding : bindings) {
+      setField(builder, binding.getFieldPath(), 0, binding.getValue());
+    }
+    if (isBlank(message)) {
+      return builder;
+    }
+    if (transcodingRequestBody == null || transcodingRequestBody.isEmpty() || transcodingRequestBody.equals("*")) {
+      ProtobufJsonCodec.decode(message, builder);
+    } else {
+      mergeField(builder, transcodingRequestBody.split("\\."), 0, message);
+    }
+    return builder;
+  }
+
+  /**
+   * Extract the response body of {@code message} with its field descriptors and print it in JSON format, only the
+   * selected field is printed.
+   *
+   * @param message the response message
+   * @param transcodingResponseBody the response body field path
+   * @return the JSON response body
+   * @throws IllegalStateException when the path does not designate a field of {@code message}
+   */
+  public static Buffer weaveResponseMessage(MessageOrBuilder message, String transcodingResponseBody) throws CodecException {
+    if (transcodingResponseBody == null || transcodingResponseBody.isEmpty() || transcodingResponseBody.equals("*")) {
+      return ProtobufJsonCodec.encode(message);
+    }
+    String[] path = transcodingResponseBody.split("\\.");
+    MessageOrBuilder current = message;
+    for (int i = 0; i < path.length - 1; i++) {
+      Descriptors.FieldDescriptor field = findField(current.getDescriptorForType(), path[i]);
+      if (field == null || field.isRepeated() || field.getJavaType() != Descriptors.FieldDescriptor.JavaType.MESSAGE || !current.hasField(field)) {
+        throw new IllegalStateException("Invalid transcodingResponseBody path: " + transcodingResponseBody);
+      }
+      current = (MessageOrBuilder) current.getField(field);
+    }
+    Descriptors.FieldDescriptor field = findField(current.getDescriptorForType(), path[path.length - 1]);
+    if (field == null) {
+      throw new IllegalStateException("Invalid transcodingResponseBody path: " + transcodingResponseBody);
+    }
+    if (!field.isRepeated() && field.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+      if (!current.hasField(field)) {
+        throw new IllegalStateException("Invalid transcodingResponseBody path: " + transcodingResponseBody);
+      }
+      return ProtobufJsonCodec.encode((MessageOrBuilder) current.getField(field));
+    }
+    ByteBuf buf = Unpooled.buffer();
+    if (field.isMapField()) {
+      Descriptors.FieldDescriptor keyField = field.getMessageType().findFieldByNumber(1);
+      Descriptors.FieldDescriptor valueField = field.getMessageType().findFieldByNumber(2);
+      buf.writeByte('{');
+      List<?> entries = (List<?>) current.getField(field);
+      for (int i = 0; i < entries.size(); i++) {
+        Message entry = (Message) entries.get(i);
+        if (i > 0) {
+          buf.writeByte(',');
+        }
+        String key = printScalar(keyField, entry.getField(keyField));
+        if (keyField.getType() != Descriptors.FieldDescriptor.Type.STRING && key.charAt(0) != '"') {
+          key = '"' + key + '"';
+        }
+        ByteBufUtil.writeUtf8(buf, key);
+        buf.writeByte(':');
+        printValue(valueField, entry.getField(valueField), buf);
+      }
+      buf.writeByte('}');
+    } else if (field.isRepeated()) {
+      buf.writeByte('[');
+      List<?> values = (List<?>) current.getField(field);
+      for (int i = 0; i < values.size(); i++) {
+        if (i > 0) {
+          buf.writeByte(',');
+        }
+        printValue(field, values.get(i), buf);
+      }
+      buf.writeByte(']');
+    } else {
+      printValue(field, current.getField(field), buf);
+    }
+    return BufferInternal.buffer(buf);
+  }
+
+  private static void printValue(Descriptors.FieldDescriptor field, Object value, ByteBuf buf) throws CodecException {
+    if (field.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+      ProtobufJsonCodec.encode((MessageOrBuilder) value, buf);
+    } else {
+      ByteBufUtil.writeUtf8(buf, printScalar(field, value));
+    }
+  }
+
+  /**
+   * Print a scalar value with the protobuf JSON mapping.
+   */
+  private static String printScalar(Descriptors.FieldDescriptor field, Object value) {
+    switch (field.getType()) {
+      case STRING:
+        return Json.encode(value);
+      case UINT32:
+      case FIXED32:
+        return Integer.toUnsignedString((Integer) value);
+      case INT64:
+      case SINT64:
+      case SFIXED64:
+        return "\"" + value + "\"";
+      case UINT64:
+      case FIXED64:
+        return "\"" + Long.toUnsignedString((Long) value) + "\"";
+      case FLOAT:
+      case DOUBLE:
+        double d = ((Number) value).doubleValue();
+        return Double.isNaN(d) || Double.isInfinite(d) ? "\"" + value + "\"" : value.toString();
+      case BYTES:
+        return "\"" + Base64.getEncoder().encodeToString(((ByteString) value).toByteArray()) + "\"";
+      case ENUM:
+        Descriptors.EnumValueDescriptor enumValue = (Descriptors.EnumValueDescriptor) value;
+        return enumValue.getIndex() == -1 ? String.valueOf(enumValue.getNumber()) : "\"" + enumValue.getName() + "\"";
+      default:
+        return value.toString();
+    }
+  }
+
+  private static boolean isBlank(Buffer buffer) {
+    for (int i = 0; i < buffer.length(); i++) {
+      if (!Character.isWhitespace(buffer.getByte(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void setField(Message.Builder builder, List<String> fieldPath, int idx, String value) throws CodecException {
+    Descriptors.FieldDescriptor field = field(builder, fieldPath.get(idx));
+    if (idx < fieldPath.size() - 1) {
+      if (field.isRepeated() || field.getJavaType() != Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+        throw new CodecException("Field " + field.getFullName() + " is not a message");
+      }
+      Message.Builder nested = ((Message) builder.getField(field)).toBuilder();
+      setField(nested, fieldPath, idx + 1, value);
+      builder.setField(field, nested.build());
+    } else if (value != null) {
+      Object converted = convert(builder, field, value);
+      if (field.isRepeated()) {
+        builder.addRepeatedField(field, converted);
+      } else {
+        builder.setField(field, converted);
+      }
+    }
+  }
+
+  private static void mergeField(Message.Builder builder, String[] fieldPath, int idx, Buffer message) throws CodecException {
+    Descriptors.FieldDescriptor field = field(builder, fieldPath[idx]);
+    if (field.isRepeated() || field.getJavaType() != Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+      throw new CodecException("Field " + field.getFullName() + " is not a message");
+    }
+    Message.Builder nested = ((Message) builder.getField(field)).toBuilder();
+    if (idx < fieldPath.length - 1) {
+      mergeField(nested, fieldPath, idx + 1, message);
+    } else {
+      ProtobufJsonCodec.decode(message, nested);
+    }
+    builder.setField(field, nested.build());
+  }
+
+  private static Descriptors.FieldDescriptor field(Message.Builder builder, String name) throws CodecException {
+    Descriptors.FieldDescriptor field = findField(builder.getDescriptorForType(), name);
+    if (field == null) {
+      throw new CodecException("Cannot find field: " + name + " in message " + builder.getDescriptorForType().getFullName());
+    }
+    return field;
+  }
+
+  /**
+   * Find a field by its name or by its JSON name.
+   */
+  private static Descriptors.FieldDescriptor findField(Descriptors.Descriptor descriptor, String name) {
+    Descriptors.FieldDescriptor field = descriptor.findFieldByName(name);
+    if (field == null) {
+      for (Descriptors.FieldDescriptor candidate : descriptor.getFields()) {
+        if (candidate.getJsonName().equals(name)) {
+          return candidate;
+        }
+      }
+    }
+    return field;
+  }
+
+  /**
+   * Convert a binding value to the type of {@code field}, with the protobuf JSON mapping of the value string.
+   */
+  private static Object convert(Message.Builder builder, Descriptors.FieldDescriptor field, String value) throws CodecException {
+    try {
+      switch (field.getType()) {
+        case STRING:
+          return value;
+        case BOOL:
+          if (value.equals("true")) {
+            return Boolean.TRUE;
+          } else if (value.equals("false")) {
+            return Boolean.FALSE;
+          }
+          throw new CodecException("Invalid bool value: " + value);
+        case INT32:
+        case SINT32:
+        case SFIXED32:
+          return Integer.parseInt(value);
+        case UINT32:
+        case FIXED32:
+          return Integer.parseUnsignedInt(value);
+        case INT64:
+        case SINT64:
+        case SFIXED64:
+          return Long.parseLong(value);
+        case UINT64:
+        case FIXED64:
+          return Long.parseUnsignedLong(value);
+        case FLOAT:
+          return Float.parseFloat(value);
+        case DOUBLE:
+          return Double.parseDouble(value);
+        case BYTES:
+          return ByteString.copyFrom(value.indexOf('-') != -1 || value.indexOf('_') != -1 ? Base64.getUrlDecoder().decode(value) : Base64.getDecoder().decode(value));
+        case ENUM:
+          Descriptors.EnumValueDescriptor enumValue = field.getEnumType().findValueByName(value);
+          if (enumValue == null) {
+            enumValue = field.getEnumType().findValueByNumber(Integer.parseInt(value));
+          }
+          if (enumValue == null) {
+            throw new CodecException("Invalid enum value: " + value + " for enum type: " + field.getEnumType().getFullName());
+          }
+          return enumValue;
+        case MESSAGE:
+        case GROUP:
+          // Well known types with a string JSON representation, e.g. google.protobuf.Timestamp
+          Message.Builder nested = builder.newBuilderForField(field);
+          PARSER.merge(Json.encode(value), nested);
+          return nested.build();
+        default:
+          throw new CodecException("Unsupported field type: " + field.getType());
+      }
+    } catch (IllegalArgumentException | InvalidProtocolBufferException e) {
+      throw new CodecException(e);
+    }
+  }
+
   public static Buffer weaveRequestMessage(Buffer message, List<HttpVariableBinding> bindings, String transcodingRequestBody) throws DecodeException {
     if (bindings.isEmpty() && transcodingRequestBody == null) {
       return message;
     }
-    JsonObject result = weaveRequestMessage2(message, bindings, transcodingRequestBody);
-    BufferInternal buffer = BufferInternal.buffer();
-    buffer.appendString(result.encode());
-    return buffer;
+    return weaveRequestMessage2(message, bindings, transcodingRequestBody).toBuffer();
   }
 
   public static JsonObject weaveRequestMessage2(Buffer message, List<HttpVariableBinding> bindings, String transcodingRequestBody) throws DecodeException {
@@ -49,7 +320,8 @@ public class MessageWeaver {
 
     // Then handle the transcoding request body
     if (transcodingRequestBody != null && !transcodingRequestBody.isEmpty()) {
-      JsonObject messageJson = message.toString().isBlank() ? new JsonObject() : new JsonObject(message.toString());
+      String body = message.toString();
+      JsonObject messageJson = body.isBlank() ? new JsonObject() : new JsonObject(body);
       if (!messageJson.isEmpty()) {
         if (transcodingRequestBody.equals("*")) {
           result.mergeIn(messageJson);
@@ -67,7 +339,8 @@ public class MessageWeaver {
         }
       }
     } else {
-      JsonObject messageJson = message.toString().isBlank() ? new JsonObject() : message.toJsonObject();
+      String body = message.toString();
+      JsonObject messageJson = body.isBlank() ? new JsonObject() : new JsonObject(body);
       if (!messageJson.isEmpty()) {
         result.mergeIn(messageJson, true);
       }
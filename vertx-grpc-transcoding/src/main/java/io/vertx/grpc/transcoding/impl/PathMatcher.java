@@ -1,11 +1,7 @@
 package io.vertx.grpc.transcoding.impl;
 
-import io.vertx.grpc.transcoding.impl.config.HttpVariableBinding;
-
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Matches HTTP request paths against registered patterns to look up corresponding gRPC methods. This interface provides functionality to match incoming HTTP requests to their
@@ -16,15 +12,15 @@ import java.util.Set;
 public class PathMatcher {
 
   private final PathMatcherNode root;
-  private final Set<String> customVerbs = new HashSet<>();
+  private final String[] customVerbs;
   private final List<PathMatcherMethodData> methods = new ArrayList<>();
   private final PercentEncoding.UrlUnescapeSpec pathUnescapeSpec;
   private final boolean queryParamUnescapePlus;
   private final boolean matchUnregisteredCustomVerb;
 
   protected PathMatcher(PathMatcherBuilder builder) {
-    this.root = builder.root().clone();
-    this.customVerbs.addAll(builder.customVerbs());
+    this.root = builder.root().compile();
+    this.customVerbs = builder.customVerbs().toArray(new String[0]);
     this.methods.addAll(builder.methodData());
     this.pathUnescapeSpec = builder.getUrlUnescapeSpec();
     this.queryParamUnescapePlus = builder.getQueryParamUnescapePlus();
@@ -39,44 +35,79 @@ public class PathMatcher {
    * @return the corresponding gRPC method name if a match is found, null otherwise
    */
   public String lookup(String httpMethod, String path) {
-    PathMatcherLookupResult result = lookup(httpMethod, path, "");
-    if (result == null) {
+    int pathEnd = pathEnd(path);
+    int colon = verbColon(path, pathEnd);
+    int end = segmentsEnd(path, colon == -1 ? pathEnd : colon);
+    PathMatcherMethodData data = match(httpMethod, path, end, colon == -1 ? pathEnd : colon + 1, pathEnd);
+    if (data == null) {
       return null;
     }
 
-    return result.getMethod();
+    return data.getMethod();
   }
 
   /**
    * Advanced lookup method that matches an HTTP request to a gRPC method and extracts variable bindings.
    *
+   * <p>The matching does not allocate, the bindings are extracted when {@link PathMatcherLookupResult#getVariableBindings()} is called.</p>
+   *
    * @param httpMethod the HTTP method of the request (e.g., "GET", "POST")
    * @param path the request path to match
    * @param queryParams the query parameters string from the request
    * @return the corresponding gRPC method name if a match is found, null otherwise
    */
   public PathMatcherLookupResult lookup(String httpMethod, String path, String queryParams) {
-    String verb = PathMatcherUtility.extractVerb(path, customVerbs, matchUnregisteredCustomVerb);
-    List<String> parts = PathMatcherUtility.extractRequestParts(path, customVerbs, matchUnregisteredCustomVerb);
-    if (root == null) {
+    int pathEnd = pathEnd(path);
+    int colon = verbColon(path, pathEnd);
+    int end = segmentsEnd(path, colon == -1 ? pathEnd : colon);
+    PathMatcherMethodData data = match(httpMethod, path, end, colon == -1 ? pathEnd : colon + 1, pathEnd);
+    if (data == null) {
       return null;
     }
 
-    PathMatcherNode.PathMatcherNodeLookupResult result = PathMatcherUtility.lookupInPathMatcherNode(root, parts, httpMethod + verb);
+    return new PathMatcherLookupResult(data, path, end, queryParams, pathUnescapeSpec, queryParamUnescapePlus);
+  }
 
-    if (result.getData() == null || result.isMultiple()) {
+  private PathMatcherMethodData match(String httpMethod, String path, int end, int verbFrom, int verbTo) {
+    PathMatcherNode.PathMatcherNodeLookupResult result = root.lookupPath(path, 1, end, httpMethod, verbFrom, verbTo);
+    if (result == null || result.getData() == null || result.isMultiple()) {
       return null;
     }
+    return (PathMatcherMethodData) result.getData();
+  }
 
-    PathMatcherMethodData data = (PathMatcherMethodData) result.getData();
-
-    String method = data.getMethod();
-    List<HttpVariableBinding> variableBindings = new ArrayList<>();
-    String bodyFieldPath = data.getBodyFieldPath();
+  private static int pathEnd(String path) {
+    int idx = path.indexOf('?');
+    return idx == -1 ? path.length() : idx;
+  }
 
-    variableBindings.addAll(PathMatcherUtility.extractBindingsFromPath(data.getVariables(), parts, pathUnescapeSpec));
-    variableBindings.addAll(PathMatcherUtility.extractBindingsFromQueryParameters(queryParams, data.getSystemQueryParameterNames(), queryParamUnescapePlus));
+  /**
+   * @return the index of the colon preceding the custom verb of the path or {@code -1}
+   */
+  private int verbColon(String path, int pathEnd) {
+    int colon = path.lastIndexOf(':', pathEnd - 1);
+    if (colon == -1 || colon < path.lastIndexOf('/', pathEnd - 1)) {
+      return -1;
+    }
+    if (matchUnregisteredCustomVerb) {
+      return colon;
+    }
+    int len = pathEnd - colon - 1;
+    for (String verb : customVerbs) {
+      if (verb.length() == len && path.regionMatches(colon + 1, verb, 0, len)) {
+        return colon;
+      }
+    }
+    return -1;
+  }
 
-    return new PathMatcherLookupResult(method, variableBindings, bodyFieldPath);
+  /**
+   * @return the end of the last segment of the path, trailing empty segments excluded, or {@code 0} when the path has no segments
+   */
+  private static int segmentsEnd(String path, int to) {
+    while (to > 1 && path.charAt(to - 1) == '/') {
+      to--;
+    }
+    return to <= 1 ? 0 : to;
   }
 }
@@ -34,6 +34,19 @@ public class PathMatcherBuilder {
    * @return true if registration was successful, false otherwise
    */
   public boolean register(MethodTranscodingOptions transcoding, Set<String> queryParameterNames, String method) {
+    return register(transcoding, queryParameterNames, method, null);
+  }
+
+  /**
+   * Registers a service transcoding configuration with a target returned by the lookups matching it.
+   *
+   * @param transcoding the service transcoding options
+   * @param queryParameterNames set of query parameter names to handle
+   * @param method the gRPC method name to associate with this pattern
+   * @param target the target of the method
+   * @return true if registration was successful, false otherwise
+   */
+  public boolean register(MethodTranscodingOptions transcoding, Set<String> queryParameterNames, String method, Object target) {
     HttpTemplate ht = HttpTemplate.parse(transcoding.getPath());
     if (ht == null) {
       return false;
@@ -46,6 +59,7 @@ public class PathMatcherBuilder {
     data.setVariables(ht.getVariables());
     data.setBodyFieldPath(transcoding.getBody());
     data.setSystemQueryParameterNames(queryParameterNames);
+    data.setTarget(target);
 
     if (!insertPathToNode(info, data, transcoding.getHttpMethod() + ht.getVerb(), root)) {
       return false;
@@ -2,29 +2,80 @@ package io.vertx.grpc.transcoding.impl;
 
 import io.vertx.grpc.transcoding.impl.config.HttpVariableBinding;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class PathMatcherLookupResult {
 
   private final String method;
-  private final List<HttpVariableBinding> variableBindings;
   private final String bodyFieldPath;
+  private final Object target;
+  private List<HttpVariableBinding> variableBindings;
+
+  // The request matched by the lookup, the bindings are extracted from it on demand
+  private final PathMatcherMethodData data;
+  private final String path;
+  private final int end;
+  private final String queryParams;
+  private final PercentEncoding.UrlUnescapeSpec pathUnescapeSpec;
+  private final boolean queryParamUnescapePlus;
 
   public PathMatcherLookupResult(String method, List<HttpVariableBinding> variableBindings, String bodyFieldPath) {
+    this(method, variableBindings, bodyFieldPath, null);
+  }
+
+  public PathMatcherLookupResult(String method, List<HttpVariableBinding> variableBindings, String bodyFieldPath, Object target) {
     this.method = method;
     this.variableBindings = variableBindings;
     this.bodyFieldPath = bodyFieldPath;
+    this.target = target;
+    this.data = null;
+    this.path = null;
+    this.end = 0;
+    this.queryParams = null;
+    this.pathUnescapeSpec = null;
+    this.queryParamUnescapePlus = false;
+  }
+
+  PathMatcherLookupResult(PathMatcherMethodData data, String path, int end, String queryParams, PercentEncoding.UrlUnescapeSpec pathUnescapeSpec,
+                          boolean queryParamUnescapePlus) {
+    this.method = data.getMethod();
+    this.bodyFieldPath = data.getBodyFieldPath();
+    this.target = data.getTarget();
+    this.data = data;
+    this.path = path;
+    this.end = end;
+    this.queryParams = queryParams;
+    this.pathUnescapeSpec = pathUnescapeSpec;
+    this.queryParamUnescapePlus = queryParamUnescapePlus;
   }
 
   public String getMethod() {
     return method;
   }
 
+  /**
+   * @return the bindings of the path variables and query parameters, extracted on the first call
+   */
   public List<HttpVariableBinding> getVariableBindings() {
-    return variableBindings;
+    List<HttpVariableBinding> bindings = variableBindings;
+    if (bindings == null) {
+      bindings = new ArrayList<>();
+      PathMatcherUtility.extractBindingsFromPath(bindings, data.getVariables(), path, end, pathUnescapeSpec);
+      PathMatcherUtility.extractBindingsFromQueryParameters(bindings, queryParams, data.getSystemQueryParameterNames(), queryParamUnescapePlus);
+      variableBindings = bindings;
+    }
+    return bindings;
   }
 
   public String getBodyFieldPath() {
     return bodyFieldPath;
   }
+
+  /**
+   * @return the target registered with the matched method
+   */
+  public Object getTarget() {
+    return target;
+  }
 }
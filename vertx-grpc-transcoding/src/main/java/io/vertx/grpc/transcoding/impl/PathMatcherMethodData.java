@@ -11,6 +11,7 @@ public class PathMatcherMethodData {
   private List<HttpTemplateVariable> variables;
   private String bodyFieldPath;
   private Set<String> systemQueryParameterNames;
+  private Object target;
 
   public String getMethod() {
     return method;
@@ -43,4 +44,12 @@ public class PathMatcherMethodData {
   public void setSystemQueryParameterNames(Set<String> systemQueryParameterNames) {
     this.systemQueryParameterNames = systemQueryParameterNames;
   }
+
+  public Object getTarget() {
+    return target;
+  }
+
+  public void setTarget(Object target) {
+    this.target = target;
+  }
 }
@@ -18,10 +18,23 @@ public class PathMatcherNode {
   /** Wildcard string for matching any HTTP method */
   public static final String HTTP_WILD_CARD = "*";
 
+  private static final String[] NO_KEYS = { null };
+  private static final PathMatcherNode[] NO_NODES = { null };
+
   private final Map<String, PathMatcherNode> children = new HashMap<>();
   private Map<String, PathMatcherNodeLookupResult> results = new HashMap<>();
   private boolean wildcard;
 
+  // Set by compile(), children by segment in an open addressing table and results by HTTP method and verb
+  private String[] literalKeys = NO_KEYS;
+  private PathMatcherNode[] literalNodes = NO_NODES;
+  private PathMatcherNode singleParameterChild;
+  private PathMatcherNode wildcardPathPartChild;
+  private PathMatcherNode wildcardPathChild;
+  private String[] resultKeys = new String[0];
+  private PathMatcherNodeLookupResult[] resultValues = new PathMatcherNodeLookupResult[0];
+  private PathMatcherNodeLookupResult anyMethodResult;
+
   /**
    * Performs path lookup using depth-first search to find matching handlers. When matching paths, this method follows the Google HTTP Template Spec matching precedence:
    * <ol>
@@ -32,42 +45,92 @@ public class PathMatcherNode {
    *
    * For wildcard nodes, the search continues until either: - A complete match is found - No valid continuation of the path exists in the trie
    *
-   * @param path List of path segments to match
-   * @param current Current position in the path list being processed
+   * <p>The segments are the {@code /} separated ranges of {@code path} starting at {@code current} and ending at {@code end}, the lookup does not allocate. This node must
+   * have been {@link #compile() compiled}.</p>
+   *
+   * @param path the request path
+   * @param current the start of the current segment, the path is consumed when it is greater than {@code end}
+   * @param end the end of the last segment
    * @param method HTTP method to match
-   * @param result Container for the lookup result
+   * @param verbFrom the start of the custom verb in {@code path}
+   * @param verbTo the end of the custom verb in {@code path}, equal to {@code verbFrom} when the request has no custom verb
+   * @return the lookup result or {@code null}
    */
-  public void lookupPath(List<String> path, int current, String method, PathMatcherNodeLookupResult result) {
+  public PathMatcherNodeLookupResult lookupPath(String path, int current, int end, String method, int verbFrom, int verbTo) {
     while (true) {
-      if (current == path.size()) {
-        if (!getResultForHttpMethod(method, result)) {
+      if (current > end) {
+        PathMatcherNodeLookupResult found = getResultForHttpMethod(method, path, verbFrom, verbTo);
+        if (found == null && wildcardPathChild != null) {
           // Check wildcard child for root matches
-          PathMatcherNode child = children.get(HttpTemplateParser.WILD_CARD_PATH_KEY);
-          if (child != null) {
-            child.getResultForHttpMethod(method, result);
-          }
+          found = wildcardPathChild.getResultForHttpMethod(method, path, verbFrom, verbTo);
         }
-        return;
+        return found;
       }
-      if (lookupPathFromChild(path.get(current), path, current, method, result)) {
-        return;
+      int segmentEnd = segmentEnd(path, current, end);
+      PathMatcherNode child = literalChild(path, current, segmentEnd);
+      if (child != null) {
+        PathMatcherNodeLookupResult found = child.lookupPath(path, segmentEnd + 1, end, method, verbFrom, verbTo);
+        if (found != null && found.data != null) {
+          return found;
+        }
       }
       if (!wildcard) {
         break;
       }
-      current++;
+      current = segmentEnd + 1;
     }
 
     // Try matching special path parameters in order of precedence
-    for (String childKey : new String[] {
-      HttpTemplateParser.SINGLE_PARAMETER_KEY,
-      HttpTemplateParser.WILD_CARD_PATH_PART_KEY,
-      HttpTemplateParser.WILD_CARD_PATH_KEY
-    }) {
-      if (lookupPathFromChild(childKey, path, current, method, result)) {
-        return;
+    int next = segmentEnd(path, current, end) + 1;
+    PathMatcherNodeLookupResult found = lookupPathFromChild(singleParameterChild, path, next, end, method, verbFrom, verbTo);
+    if (found == null) {
+      found = lookupPathFromChild(wildcardPathPartChild, path, next, end, method, verbFrom, verbTo);
+      if (found == null) {
+        found = lookupPathFromChild(wildcardPathChild, path, next, end, method, verbFrom, verbTo);
       }
     }
+    return found;
+  }
+
+  /**
+   * @return the end of the segment of {@code path} starting at {@code from}
+   */
+  static int segmentEnd(String path, int from, int end) {
+    int idx = path.indexOf('/', from);
+    return idx == -1 || idx > end ? end : idx;
+  }
+
+  private static PathMatcherNodeLookupResult lookupPathFromChild(PathMatcherNode child, String path, int next, int end, String method, int verbFrom, int verbTo) {
+    if (child != null) {
+      PathMatcherNodeLookupResult found = child.lookupPath(path, next, end, method, verbFrom, verbTo);
+      if (found != null && found.data != null) {
+        return found;
+      }
+    }
+    return null;
+  }
+
+  private PathMatcherNode literalChild(String path, int from, int to) {
+    String[] keys = literalKeys;
+    int len = to - from;
+    int h = 0;
+    for (int i = from; i < to; i++) {
+      h = 31 * h + path.charAt(i);
+    }
+    int mask = keys.length - 1;
+    for (int idx = spread(h) & mask; ; idx = (idx + 1) & mask) {
+      String key = keys[idx];
+      if (key == null) {
+        return null;
+      }
+      if (key.length() == len && path.regionMatches(from, key, 0, len)) {
+        return literalNodes[idx];
+      }
+    }
+  }
+
+  private static int spread(int h) {
+    return h ^ (h >>> 16);
   }
 
   /**
@@ -102,25 +165,17 @@ public class PathMatcherNode {
     return child.insertTemplate(path, current + 1, method, data, markDuplicates);
   }
 
-  private boolean lookupPathFromChild(String key, List<String> path, int current, String method, PathMatcherNodeLookupResult result) {
-    PathMatcherNode child = children.get(key);
-    if (child != null) {
-      child.lookupPath(path, current + 1, method, result);
-      if (result != null && result.data != null) {
-        return true;
+  private PathMatcherNodeLookupResult getResultForHttpMethod(String method, String path, int verbFrom, int verbTo) {
+    int methodLen = method.length();
+    int verbLen = verbTo - verbFrom;
+    String[] keys = resultKeys;
+    for (int i = 0; i < keys.length; i++) {
+      String key = keys[i];
+      if (key.length() == methodLen + verbLen && key.startsWith(method) && key.regionMatches(methodLen, path, verbFrom, verbLen)) {
+        return resultValues[i];
       }
     }
-    return false;
-  }
-
-  private boolean getResultForHttpMethod(String key, PathMatcherNodeLookupResult result) {
-    PathMatcherNodeLookupResult found = results.getOrDefault(key, results.get(HTTP_WILD_CARD));
-    if (found != null) {
-      result.data = found.data;
-      result.multiple = found.multiple;
-      return true;
-    }
-    return false;
+    return anyMethodResult;
   }
 
   private void setWildcard(boolean wildcard) {
@@ -138,6 +193,41 @@ public class PathMatcherNode {
     return clone;
   }
 
+  /**
+   * Compile a copy of this trie for the lookups.
+   *
+   * @return the compiled trie
+   */
+  public PathMatcherNode compile() {
+    PathMatcherNode compiled = new PathMatcherNode();
+    compiled.results = new HashMap<>(this.results);
+    compiled.wildcard = this.wildcard;
+    int capacity = Integer.highestOneBit(Math.max(1, children.size() * 2 - 1)) << 1;
+    compiled.literalKeys = new String[capacity];
+    compiled.literalNodes = new PathMatcherNode[capacity];
+    for (Map.Entry<String, PathMatcherNode> entry : children.entrySet()) {
+      String key = entry.getKey();
+      PathMatcherNode child = entry.getValue().compile();
+      compiled.children.put(key, child);
+      int idx = spread(key.hashCode()) & (capacity - 1);
+      while (compiled.literalKeys[idx] != null) {
+        idx = (idx + 1) & (capacity - 1);
+      }
+      compiled.literalKeys[idx] = key;
+      compiled.literalNodes[idx] = child;
+    }
+    compiled.singleParameterChild = compiled.children.get(HttpTemplateParser.SINGLE_PARAMETER_KEY);
+    compiled.wildcardPathPartChild = compiled.children.get(HttpTemplateParser.WILD_CARD_PATH_PART_KEY);
+    compiled.wildcardPathChild = compiled.children.get(HttpTemplateParser.WILD_CARD_PATH_KEY);
+    compiled.resultKeys = results.keySet().toArray(new String[0]);
+    compiled.resultValues = new PathMatcherNodeLookupResult[compiled.resultKeys.length];
+    for (int i = 0; i < compiled.resultKeys.length; i++) {
+      compiled.resultValues[i] = results.get(compiled.resultKeys[i]);
+    }
+    compiled.anyMethodResult = results.get(HTTP_WILD_CARD);
+    return compiled;
+  }
+
   /**
    * Container class for path matching results.
    */
@@ -1,6 +1,5 @@
 package io.vertx.grpc.transcoding.impl;
 
-import com.google.common.base.Splitter;
 import io.vertx.grpc.transcoding.MethodTranscodingOptions;
 import io.vertx.grpc.transcoding.impl.config.HttpTemplate;
 import io.vertx.grpc.transcoding.impl.config.HttpTemplateVariable;
@@ -37,105 +36,75 @@ public class PathMatcherUtility {
     return ok;
   }
 
-  protected static List<HttpVariableBinding> extractBindingsFromPath(List<HttpTemplateVariable> vars, List<String> parts, PercentEncoding.UrlUnescapeSpec unescapeSpec) {
+  /**
+   * Extract the bindings of the path variables, the path segments are the {@code /} separated ranges of {@code path} starting at {@code 1} and ending at {@code end}.
+   */
+  protected static void extractBindingsFromPath(List<HttpVariableBinding> bindings, List<HttpTemplateVariable> vars, String path, int end,
+                                                PercentEncoding.UrlUnescapeSpec unescapeSpec) {
     if (vars == null || vars.isEmpty()) {
-      return List.of();
+      return;
     }
 
-    List<HttpVariableBinding> bindings = new ArrayList<>();
+    int count = 0;
+    for (int pos = 1; pos <= end; pos = PathMatcherNode.segmentEnd(path, pos, end) + 1) {
+      count++;
+    }
+    int[] starts = new int[count];
+    for (int i = 0, pos = 1; i < count; i++, pos = PathMatcherNode.segmentEnd(path, pos, end) + 1) {
+      starts[i] = pos;
+    }
 
     for (HttpTemplateVariable var : vars) {
-      HttpVariableBinding binding = new HttpVariableBinding(var.getFieldPath(), null);
-      int end = var.getEndSegment() >= 0 ? var.getEndSegment() : parts.size() + var.getEndSegment() + 1;
-      boolean multipart = (end - var.getStartSegment()) > 1 || var.getEndSegment() < 0;
+      int last = var.getEndSegment() >= 0 ? var.getEndSegment() : count + var.getEndSegment() + 1;
+      boolean multipart = (last - var.getStartSegment()) > 1 || var.getEndSegment() < 0;
       PercentEncoding.UrlUnescapeSpec spec = multipart ? unescapeSpec : PercentEncoding.UrlUnescapeSpec.ALL_CHARACTERS;
-
-      for (int i = var.getStartSegment(); i < end; ++i) {
-        String currentValue = binding.getValue();
-        currentValue = (currentValue == null) ? "" : currentValue;
-        binding.setValue(currentValue + PercentEncoding.urlUnescapeString(parts.get(i), spec, false));
-        if (i < end - 1) {
-          binding.setValue(binding.getValue() + "/");
-        }
+      String value = null;
+      if (var.getStartSegment() < last) {
+        // The segments of the variable are contiguous, a '/' can't be part of an escape sequence
+        int from = starts[var.getStartSegment()];
+        int to = PathMatcherNode.segmentEnd(path, starts[last - 1], end);
+        value = PercentEncoding.urlUnescapeString(path, from, to, spec, false);
       }
-      bindings.add(binding);
+      bindings.add(new HttpVariableBinding(var.getFieldPath(), value));
     }
-
-    return bindings;
   }
 
-  protected static List<HttpVariableBinding> extractBindingsFromQueryParameters(String queryParams, Set<String> systemParams, boolean queryParamUnescapePlus) {
+  protected static void extractBindingsFromQueryParameters(List<HttpVariableBinding> bindings, String queryParams, Set<String> systemParams, boolean queryParamUnescapePlus) {
     if (queryParams == null) {
-      return List.of();
+      return;
     }
 
-    List<HttpVariableBinding> bindings = new ArrayList<>();
-    List<String> params = Splitter.on('&').splitToList(queryParams);
-
-    for (String param : params) {
-      int pos = param.indexOf('=');
-      if (pos != 0 && pos != -1) {
-        String name = param.substring(0, pos);
+    int len = queryParams.length();
+    for (int from = 0; from <= len; ) {
+      int to = queryParams.indexOf('&', from);
+      if (to == -1) {
+        to = len;
+      }
+      int pos = queryParams.indexOf('=', from);
+      if (pos > from && pos < to) {
+        String name = queryParams.substring(from, pos);
         if (!systemParams.contains(name)) {
-          HttpVariableBinding binding = new HttpVariableBinding(Splitter.on('.').splitToList(name), PercentEncoding.urlUnescapeString(
-            param.substring(pos + 1),
+          bindings.add(new HttpVariableBinding(splitFieldPath(name), PercentEncoding.urlUnescapeString(
+            queryParams,
+            pos + 1,
+            to,
             PercentEncoding.UrlUnescapeSpec.ALL_CHARACTERS,
-            queryParamUnescapePlus));
-          bindings.add(binding);
+            queryParamUnescapePlus)));
         }
       }
+      from = to + 1;
     }
-
-    return bindings;
   }
 
-  protected static List<String> extractRequestParts(String path, Set<String> customVerbs, boolean matchUnregisteredCustomVerb) {
-    if (path.indexOf('?') != -1) {
-      path = path.substring(0, path.indexOf('?'));
-    }
-
-    int lastIndexOfColon = path.lastIndexOf(':');
-    int lastIndexOfSlash = path.lastIndexOf('/');
-    if (lastIndexOfColon != -1 && lastIndexOfColon > lastIndexOfSlash) {
-      String verb = path.substring(lastIndexOfColon + 1);
-      if (matchUnregisteredCustomVerb || customVerbs.contains(verb)) {
-        path = path.substring(0, lastIndexOfColon);
-      }
-    }
-
-    List<String> result = new ArrayList<>();
-    if (!path.isEmpty()) {
-      result = new ArrayList<>(Splitter.on('/').splitToList(path.substring(1)));
+  private static List<String> splitFieldPath(String name) {
+    List<String> fieldPath = new ArrayList<>(2);
+    int from = 0;
+    for (int idx = name.indexOf('.'); idx != -1; idx = name.indexOf('.', from)) {
+      fieldPath.add(name.substring(from, idx));
+      from = idx + 1;
     }
-
-    while (!result.isEmpty() && result.get(result.size() - 1).isEmpty()) {
-      result.remove(result.size() - 1);
-    }
-
-    return result;
-  }
-
-  protected static String extractVerb(String path, Set<String> customVerbs, boolean matchUnregisteredCustomVerb) {
-    if (path.indexOf('?') != -1) {
-      path = path.substring(0, path.indexOf('?'));
-    }
-
-    int lastIndexOfColon = path.lastIndexOf(':');
-    int lastIndexOfSlash = path.lastIndexOf('/');
-    if (lastIndexOfColon != -1 && lastIndexOfColon > lastIndexOfSlash) {
-      String verb = path.substring(lastIndexOfColon + 1);
-      if (matchUnregisteredCustomVerb || customVerbs.contains(verb)) {
-        return verb;
-      }
-    }
-
-    return "";
-  }
-
-  protected static PathMatcherNode.PathMatcherNodeLookupResult lookupInPathMatcherNode(PathMatcherNode root, List<String> parts, String httpMethod) {
-    PathMatcherNode.PathMatcherNodeLookupResult result = new PathMatcherNode.PathMatcherNodeLookupResult(null, false);
-    root.lookupPath(parts, 0, httpMethod, result);
-    return result;
+    fieldPath.add(from == 0 ? name : name.substring(from));
+    return fieldPath;
   }
 
   protected static PathMatcherNode.PathInfo transformHttpTemplate(HttpTemplate template) {
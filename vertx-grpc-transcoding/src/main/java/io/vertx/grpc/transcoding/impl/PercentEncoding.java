@@ -124,6 +124,53 @@ public class PercentEncoding {
     return unescaped.toString();
   }
 
+  /**
+   * Unescape the {@code [from, to)} range of {@code src}.
+   */
+  public static String urlUnescapeString(String src, int from, int to, UrlUnescapeSpec unescapeSpec, boolean unescapePlus) {
+    int idx = from;
+    while (idx < to && src.charAt(idx) != '%' && (!unescapePlus || src.charAt(idx) != '+')) {
+      idx++;
+    }
+    if (idx == to) {
+      return from == 0 && to == src.length() ? src : src.substring(from, to);
+    }
+
+    StringBuilder unescaped = new StringBuilder(to - from);
+    unescaped.append(src, from, idx);
+    while (idx < to) {
+      char c = src.charAt(idx);
+      if (unescapePlus && c == '+') {
+        unescaped.append(' ');
+        idx += 1;
+        continue;
+      }
+      if (c == '%' && idx + 2 < to && asciiIsxdigit(src.charAt(idx + 1)) && asciiIsxdigit(src.charAt(idx + 2))) {
+        char escaped = (char) ((hexDigitToInt(src.charAt(idx + 1)) << 4) | hexDigitToInt(src.charAt(idx + 2)));
+        if (isUnescaped(escaped, unescapeSpec)) {
+          unescaped.append(escaped);
+          idx += 3;
+          continue;
+        }
+      }
+      unescaped.append(c);
+      idx += 1;
+    }
+
+    return unescaped.toString();
+  }
+
+  private static boolean isUnescaped(char c, UrlUnescapeSpec unescapeSpec) {
+    switch (unescapeSpec) {
+      case ALL_CHARACTERS_EXCEPT_RESERVED:
+        return !isReservedChar(c);
+      case ALL_CHARACTERS_EXCEPT_SLASH:
+        return c != '/';
+      default:
+        return true;
+    }
+  }
+
   /** Remove this in the future, if not needed */
   private static String urlUnescapeString(String part) {
     return urlUnescapeString(part, UrlUnescapeSpec.ALL_CHARACTERS, false);
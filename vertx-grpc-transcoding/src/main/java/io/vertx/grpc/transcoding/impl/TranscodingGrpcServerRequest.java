@@ -10,6 +10,7 @@
  */
 package io.vertx.grpc.transcoding.impl;
 
+import com.google.protobuf.Message;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.internal.ContextInternal;
@@ -19,6 +20,7 @@ import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcMessageDecoder;
 import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.common.impl.GrpcMethodCall;
+import io.vertx.grpc.common.impl.ProtobufMessageDecoder;
 import io.vertx.grpc.server.GrpcProtocol;
 import io.vertx.grpc.server.impl.GrpcServerRequestImpl;
 import io.vertx.grpc.transcoding.impl.config.HttpVariableBinding;
@@ -38,6 +40,11 @@ public class TranscodingGrpcServerRequest<Req, Resp> extends GrpcServerRequestIm
     super(context, GrpcProtocol.TRANSCODING, WireFormat.JSON, httpRequest, new TranscodingMessageDeframer(), new GrpcMessageDecoder<>() {
       @Override
       public Req decode(GrpcMessage msg) throws CodecException {
+        if (messageDecoder instanceof ProtobufMessageDecoder) {
+          // Weave the body and the bindings directly in the message builder
+          Message.Builder builder = ((ProtobufMessageDecoder<Req>) messageDecoder).newBuilder();
+          return (Req) MessageWeaver.weaveRequestMessage(msg.payload(), bindings, transcodingRequestBody, builder).build();
+        }
         Buffer transcoded;
         try {
           transcoded = MessageWeaver.weaveRequestMessage(msg.payload(), bindings, transcodingRequestBody);
@@ -10,47 +10,140 @@
  */
 package io.vertx.grpc.transcoding.impl;
 
+import com.google.protobuf.MessageOrBuilder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.ByteProcessor;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcMessageEncoder;
 import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.server.GrpcProtocol;
 import io.vertx.grpc.server.impl.GrpcServerRequestImpl;
 import io.vertx.grpc.server.impl.GrpcServerResponseImpl;
+import io.vertx.grpc.transcoding.TranscodingStreamFormat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 public class TranscodingGrpcServerResponse<Req, Resp> extends GrpcServerResponseImpl<Req,Resp> {
 
+  private static final byte[] SSE_DATA = "data: ".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] SSE_ERROR = "event: error\n".getBytes(StandardCharsets.US_ASCII);
+
   private final TranscodingGrpcServerRequest<Req, Resp> request;
   private final HttpServerResponse httpResponse;
   private final String transcodingResponseBody;
+  private final TranscodingStreamFormat streamFormat;
+  private TranscodingStreamFormat streaming;
+  private int streamed;
   private Promise<Void> head;
 
-  public TranscodingGrpcServerResponse(ContextInternal context, GrpcServerRequestImpl<Req, Resp> request, GrpcProtocol protocol, HttpServerResponse httpResponse, String transcodingResponseBody, GrpcMessageEncoder<Resp> encoder) {
-    super(context, request, protocol, httpResponse, encoder);
+  public TranscodingGrpcServerResponse(ContextInternal context, GrpcServerRequestImpl<Req, Resp> request, GrpcProtocol protocol, HttpServerResponse httpResponse,
+                                       String transcodingResponseBody, TranscodingStreamFormat streamFormat, GrpcMessageEncoder<Resp> encoder) {
+    super(context, request, protocol, httpResponse, transcodingEncoder(encoder, transcodingResponseBody));
 
     this.request = (TranscodingGrpcServerRequest<Req, Resp>) request;
     this.httpResponse = httpResponse;
     this.transcodingResponseBody = transcodingResponseBody;
+    this.streamFormat = streamFormat;
+  }
+
+  /**
+   * Select the stream format of a method configured with {@code streamFormat}, the {@code SSE} or {@code NDJSON} media
+   * range of the {@code Accept} header with the highest non-zero quality takes precedence over the configured format.
+   * Methods without a configured format are never streamed.
+   */
+  static TranscodingStreamFormat streamFormat(HttpServerRequest httpRequest, TranscodingStreamFormat streamFormat) {
+    String accept = streamFormat != null ? httpRequest.getHeader(HttpHeaders.ACCEPT) : null;
+    if (accept == null) {
+      return streamFormat;
+    }
+    TranscodingStreamFormat selected = streamFormat;
+    double quality = 0D;
+    for (String range : accept.split(",")) {
+      String[] parts = range.split(";");
+      String mediaType = parts[0].trim();
+      TranscodingStreamFormat format;
+      if (mediaType.equalsIgnoreCase(TranscodingStreamFormat.SSE.mediaType())) {
+        format = TranscodingStreamFormat.SSE;
+      } else if (mediaType.equalsIgnoreCase(TranscodingStreamFormat.NDJSON.mediaType())) {
+        format = TranscodingStreamFormat.NDJSON;
+      } else {
+        continue;
+      }
+      double q = quality(parts);
+      if (q > quality) {
+        selected = format;
+        quality = q;
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * @return the quality of a media range, {@code 0} when it is not valid
+   */
+  private static double quality(String[] parts) {
+    for (int i = 1; i < parts.length; i++) {
+      String param = parts[i].trim();
+      if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+        try {
+          double q = Double.parseDouble(param.substring(2).trim());
+          return q >= 0D && q <= 1D ? q : 0D;
+        } catch (NumberFormatException e) {
+          return 0D;
+        }
+      }
+    }
+    return 1D;
+  }
+
+  @Override
+  protected void setHeaders(String contentType, MultiMap grpcHeaders) {
+    super.setHeaders(contentType, grpcHeaders);
+    if (streamFormat != null && !isTrailersOnly()) {
+      // Messages are written as they are sent, the length of the response is unknown
+      streaming = streamFormat;
+      httpResponse.putHeader(HttpHeaders.CONTENT_TYPE, streaming.mediaType());
+      httpResponse.setChunked(true);
+    }
   }
 
   @Override
   protected Future<Void> sendHead() {
+    if (streaming != null) {
+      return super.sendHead();
+    }
     head = context.promise();
     return head.future();
   }
 
   @Override
-  protected Future<Void> sendMessage(Buffer message, boolean compressed) {
+  protected Future<Void> sendMessage(GrpcMessage message) {
+    if (streaming != null) {
+      ByteBuf out = Unpooled.buffer();
+      try {
+        appendMessage(out, message);
+      } catch (Exception e) {
+        return failStream(e);
+      }
+      return httpResponse.write(BufferInternal.buffer(out));
+    }
     Future<Void> res;
     try {
-      BufferInternal transcoded = (BufferInternal) MessageWeaver.weaveResponseMessage(message, transcodingResponseBody);
+      BufferInternal transcoded = (BufferInternal) transcode(message);
       httpResponse.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(transcoded.length()));
       httpResponse.putHeader(HttpHeaders.CONTENT_TYPE, GrpcProtocol.TRANSCODING.mediaType());
       res = httpResponse.write(transcoded);
@@ -64,6 +157,136 @@ public class TranscodingGrpcServerResponse<Req, Resp> extends GrpcServerResponse
     return res;
   }
 
+  @Override
+  protected Future<Void> sendMessages(List<GrpcMessage> messages) {
+    if (streaming != null) {
+      ByteBuf out = Unpooled.buffer();
+      try {
+        for (GrpcMessage message : messages) {
+          appendMessage(out, message);
+        }
+      } catch (Exception e) {
+        return failStream(e);
+      }
+      return httpResponse.write(BufferInternal.buffer(out));
+    }
+    Future<Void> res = null;
+    for (GrpcMessage message : messages) {
+      res = sendMessage(message);
+    }
+    return res;
+  }
+
+  private Buffer transcode(GrpcMessage message) {
+    return message instanceof TranscodedMessage ? message.payload() : MessageWeaver.weaveResponseMessage(message.payload(), transcodingResponseBody);
+  }
+
+  /**
+   * Append the frame of {@code message} to {@code out}, line breaks are removed from the JSON payload so each message
+   * is written on a single line.
+   */
+  private void appendMessage(ByteBuf out, GrpcMessage message) {
+    ByteBuf json = ((BufferInternal) transcode(message)).getByteBuf();
+    appendFrame(out, json, false);
+  }
+
+  private void appendFrame(ByteBuf out, ByteBuf json, boolean error) {
+    switch (streaming) {
+      case NDJSON:
+        appendLine(out, json);
+        out.writeByte('\n');
+        break;
+      case JSON_ARRAY:
+        out.writeByte(streamed == 0 ? '[' : ',');
+        appendLine(out, json);
+        break;
+      case SSE:
+        if (error) {
+          out.writeBytes(SSE_ERROR);
+        }
+        out.writeBytes(SSE_DATA);
+        appendLine(out, json);
+        out.writeByte('\n').writeByte('\n');
+        break;
+    }
+    streamed++;
+  }
+
+  private static void appendLine(ByteBuf out, ByteBuf json) {
+    int from = json.readerIndex();
+    int to = json.writerIndex();
+    out.ensureWritable(to - from);
+    while (from < to) {
+      int idx = json.forEachByte(from, to - from, ByteProcessor.FIND_CRLF);
+      int end = idx == -1 ? to : idx;
+      out.writeBytes(json, from, end - from);
+      from = end + 1;
+    }
+  }
+
+  private Future<Void> failStream(Exception e) {
+    if (httpResponse.headWritten()) {
+      httpResponse.reset();
+    } else {
+      httpResponse.setStatusCode(500).end();
+    }
+    return context.failedFuture(e);
+  }
+
+  /**
+   * Wrap {@code encoder} to extract the response body of protobuf messages with their field descriptors, instead of
+   * printing the whole message and extracting the response body from its JSON.
+   */
+  private static <Resp> GrpcMessageEncoder<Resp> transcodingEncoder(GrpcMessageEncoder<Resp> encoder, String transcodingResponseBody) {
+    if (transcodingResponseBody == null || transcodingResponseBody.isEmpty() || transcodingResponseBody.equals("*")) {
+      return encoder;
+    }
+    return new GrpcMessageEncoder<>() {
+      @Override
+      public GrpcMessage encode(Resp msg, WireFormat format) throws CodecException {
+        if (format == WireFormat.JSON && msg instanceof MessageOrBuilder) {
+          try {
+            return new TranscodedMessage(MessageWeaver.weaveResponseMessage((MessageOrBuilder) msg, transcodingResponseBody));
+          } catch (IllegalStateException ignore) {
+            // Invalid path, the response fails when the message is sent
+          }
+        }
+        return encoder.encode(msg, format);
+      }
+      @Override
+      public boolean accepts(WireFormat format) {
+        return encoder.accepts(format);
+      }
+    };
+  }
+
+  /**
+   * A message whose payload is the transcoded response body.
+   */
+  private static final class TranscodedMessage implements GrpcMessage {
+
+    private final Buffer payload;
+
+    private TranscodedMessage(Buffer payload) {
+      this.payload = payload;
+    }
+
+    @Override
+    public String encoding() {
+      return "identity";
+    }
+
+    @Override
+    public WireFormat format() {
+      return WireFormat.JSON;
+    }
+
+    @Override
+    public Buffer payload() {
+      return payload;
+    }
+  }
+
   @Override
   protected void encodeGrpcHeaders(MultiMap grpcHeaders, MultiMap httpHeaders) {
   }
@@ -71,12 +294,50 @@ public class TranscodingGrpcServerResponse<Req, Resp> extends GrpcServerResponse
   @Override
   protected Future<Void> sendEnd() {
     GrpcStatus status = status();
-    if (status != GrpcStatus.OK) {
+    if (streaming != null) {
+      // The status is reported by the last element of the stream since the response head has been sent
+      ByteBuf out = Unpooled.buffer();
+      appendEnd(out, status);
+      httpResponse.write(BufferInternal.buffer(out));
+    } else if (status != GrpcStatus.OK) {
       httpResponse.setStatusCode(GrpcTranscodingError.fromHttp2Code(status.code).getHttpStatusCode());
     }
     return super.sendEnd();
   }
 
+  @Override
+  protected Future<Void> sendEnd(GrpcMessage message) {
+    if (streaming != null) {
+      ByteBuf out = Unpooled.buffer();
+      try {
+        appendMessage(out, message);
+      } catch (Exception e) {
+        return failStream(e);
+      }
+      appendEnd(out, status());
+      httpResponse.write(BufferInternal.buffer(out));
+      return super.sendEnd();
+    }
+    sendMessage(message);
+    return sendEnd();
+  }
+
+  private void appendEnd(ByteBuf out, GrpcStatus status) {
+    if (status != GrpcStatus.OK) {
+      String message = statusMessage();
+      JsonObject error = new JsonObject().put("error", new JsonObject()
+        .put("code", status.code)
+        .put("message", message != null ? message : GrpcTranscodingError.fromHttp2Code(status.code).getMessage()));
+      appendFrame(out, ((BufferInternal) error.toBuffer()).getByteBuf(), true);
+    }
+    if (streaming == TranscodingStreamFormat.JSON_ARRAY) {
+      if (streamed == 0) {
+        out.writeByte('[');
+      }
+      out.writeByte(']');
+    }
+  }
+
   @Override
   protected boolean sendCancel() {
     httpResponse.setStatusCode(400);
@@ -10,28 +10,35 @@
  */
 package io.vertx.grpc.transcoding.impl;
 
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.impl.GrpcMethodCall;
+import io.vertx.grpc.server.GrpcProtocol;
 import io.vertx.grpc.server.impl.GrpcHttpInvoker;
+import io.vertx.grpc.server.impl.GrpcHttpRouter;
 import io.vertx.grpc.server.impl.GrpcInvocation;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 public class TranscodingInvoker implements GrpcHttpInvoker {
 
   @Override
   public <Req, Resp> GrpcInvocation<Req, Resp> accept(HttpServerRequest request, ServiceMethod<Req, Resp> serviceMethod) {
-    TranscodingServiceMethodImpl<Req, Resp> transcodingServiceMethod;
-
     if (serviceMethod instanceof TranscodingServiceMethodImpl) {
-      transcodingServiceMethod = (TranscodingServiceMethodImpl<Req, Resp>) serviceMethod;
-    } else {
-      transcodingServiceMethod = new TranscodingServiceMethodImpl<>(
-        serviceMethod.serviceName(),
-        serviceMethod.methodName(),
-        serviceMethod.encoder(),
-        serviceMethod.decoder()
-      );
+      return ((TranscodingServiceMethodImpl<Req, Resp>) serviceMethod).accept(request);
+    }
+    if (!GrpcProtocol.TRANSCODING.mediaType().equals(request.getHeader(HttpHeaders.CONTENT_TYPE))) {
+      return null;
     }
+    return TranscodingServiceMethodImpl.invocation(request, new GrpcMethodCall("/" + serviceMethod.methodName()), null, new ArrayList<>(), null, null,
+      serviceMethod.decoder(), serviceMethod.encoder());
+  }
 
-    return transcodingServiceMethod.accept(request);
+  @Override
+  public <H> GrpcHttpRouter<H> compile(List<Map.Entry<ServiceMethod<?, ?>, H>> methods) {
+    return TranscodingRouter.compile(methods);
   }
 }
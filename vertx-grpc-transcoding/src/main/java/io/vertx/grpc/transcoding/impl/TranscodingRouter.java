@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.transcoding.impl;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.impl.GrpcMethodCall;
+import io.vertx.grpc.server.GrpcProtocol;
+import io.vertx.grpc.server.impl.GrpcHttpRouter;
+import io.vertx.grpc.transcoding.MethodTranscodingOptions;
+import io.vertx.grpc.transcoding.TranscodingStreamFormat;
+import io.vertx.grpc.transcoding.impl.config.HttpTemplate;
+import io.vertx.grpc.transcoding.impl.config.HttpVariableBinding;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Router compiling the HTTP rules of all the methods of a server in a single {@link PathMatcher}, a request is resolved
+ * to its handler, method and variable bindings in one lookup.
+ *
+ * <p>Methods without HTTP rule are resolved by their path.</p>
+ *
+ * <p>When several methods declare the same rule, the first registered method wins.</p>
+ */
+public final class TranscodingRouter<H> implements GrpcHttpRouter<H> {
+
+  /**
+   * Compile the routes of {@code methods}.
+   *
+   * @param methods the service methods and their handlers, in registration order
+   * @return the router
+   */
+  public static <H> TranscodingRouter<H> compile(List<Map.Entry<ServiceMethod<?, ?>, H>> methods) {
+    Map<String, Target<H>> exact = new HashMap<>();
+    PathMatcherBuilder builder = new PathMatcherBuilder();
+    Set<String> rules = new HashSet<>();
+    boolean empty = true;
+    for (Map.Entry<ServiceMethod<?, ?>, H> entry : methods) {
+      ServiceMethod<?, ?> method = entry.getKey();
+      MethodTranscodingOptions options = method instanceof TranscodingServiceMethodImpl ? ((TranscodingServiceMethodImpl<?, ?>) method).options() : null;
+      if (options == null) {
+        exact.putIfAbsent("/" + method.fullMethodName(), new Target<>(entry.getValue(), method, new GrpcMethodCall("/" + method.methodName()), null, null, null));
+      } else {
+        Target<H> target = new Target<>(entry.getValue(), method, new GrpcMethodCall("/" + method.fullMethodName()), options.getBody(), options.getResponseBody(), options.getStreamFormat());
+        empty &= !register(builder, rules, options, method.fullMethodName(), target);
+      }
+    }
+    return new TranscodingRouter<>(exact, empty ? null : builder.build());
+  }
+
+  /**
+   * Register {@code options} and its additional bindings, rules already registered by another method are skipped.
+   *
+   * @return whether a rule has been registered
+   */
+  private static boolean register(PathMatcherBuilder builder, Set<String> rules, MethodTranscodingOptions options, String method, Target<?> target) {
+    boolean registered = false;
+    HttpTemplate template = HttpTemplate.parse(options.getPath());
+    if (template != null && rules.add(options.getHttpMethod() + template.getVerb() + ' ' + String.join("/", template.getSegments()))) {
+      registered = builder.register(options, new HashSet<>(), method, target);
+    }
+    List<MethodTranscodingOptions> additionalBindings = options.getAdditionalBindings();
+    if (additionalBindings != null) {
+      for (MethodTranscodingOptions binding : additionalBindings) {
+        registered |= register(builder, rules, binding, method, target);
+      }
+    }
+    return registered;
+  }
+
+  private final Map<String, Target<H>> exact;
+  private final PathMatcher matcher;
+
+  private TranscodingRouter(Map<String, Target<H>> exact, PathMatcher matcher) {
+    this.exact = exact;
+    this.matcher = matcher;
+  }
+
+  @Override
+  public Route<H> route(HttpServerRequest request) {
+    if (!GrpcProtocol.TRANSCODING.mediaType().equals(request.getHeader(HttpHeaders.CONTENT_TYPE))) {
+      return null;
+    }
+    if (matcher != null) {
+      PathMatcherLookupResult res = matcher.lookup(request.method().name(), request.path(), request.query());
+      if (res != null) {
+        Target<H> target = (Target<H>) res.getTarget();
+        return target.route(request, res.getVariableBindings());
+      }
+    }
+    Target<H> target = exact.get(request.path());
+    if (target != null) {
+      return target.route(request, new ArrayList<>());
+    }
+    return null;
+  }
+
+  private static final class Target<H> {
+
+    private final H handler;
+    private final GrpcMessageDecoder<?> decoder;
+    private final GrpcMessageEncoder<?> encoder;
+    private final GrpcMethodCall methodCall;
+    private final String body;
+    private final String responseBody;
+    private final TranscodingStreamFormat streamFormat;
+
+    private Target(H handler, ServiceMethod<?, ?> method, GrpcMethodCall methodCall, String body, String responseBody, TranscodingStreamFormat streamFormat) {
+      this.handler = handler;
+      this.decoder = method.decoder();
+      this.encoder = method.encoder();
+      this.methodCall = methodCall;
+      this.body = body;
+      this.responseBody = responseBody;
+      this.streamFormat = streamFormat;
+    }
+
+    private Route<H> route(HttpServerRequest request, List<HttpVariableBinding> bindings) {
+      return new Route<>(handler, TranscodingServiceMethodImpl.invocation(request, methodCall, body, bindings, responseBody, streamFormat, decoder, encoder));
+    }
+  }
+}
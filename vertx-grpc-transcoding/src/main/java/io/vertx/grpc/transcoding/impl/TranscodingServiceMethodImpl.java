@@ -2,6 +2,7 @@ package io.vertx.grpc.transcoding.impl;
 
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.http.HttpServerRequestInternal;
 import io.vertx.grpc.common.GrpcMessageDecoder;
 import io.vertx.grpc.common.GrpcMessageEncoder;
@@ -29,7 +30,7 @@ public class TranscodingServiceMethodImpl<I, O> implements TranscodingServiceMet
   private final GrpcMessageDecoder<I> decoder;
   private final MethodTranscodingOptions options;
 
-  private final PathMatcher pathMatcher;
+  private volatile PathMatcher pathMatcher;
 
   public TranscodingServiceMethodImpl(ServiceName serviceName, String methodName, GrpcMessageEncoder<O> encoder, GrpcMessageDecoder<I> decoder) {
     this(serviceName, methodName, encoder, decoder, null);
@@ -41,15 +42,20 @@ public class TranscodingServiceMethodImpl<I, O> implements TranscodingServiceMet
     this.encoder = encoder;
     this.decoder = decoder;
     this.options = options;
+  }
 
-    // Init
-    if (options != null) {
+  /**
+   * @return the matcher of the method HTTP rules, built on first use since servers resolve requests with a {@link TranscodingRouter}
+   */
+  private PathMatcher pathMatcher() {
+    PathMatcher matcher = pathMatcher;
+    if (matcher == null && options != null) {
       PathMatcherBuilder pmb = new PathMatcherBuilder();
       PathMatcherUtility.registerByHttpRule(pmb, options, fullMethodName());
-      this.pathMatcher = pmb.build();
-    } else {
-      this.pathMatcher = null;
+      matcher = pmb.build();
+      pathMatcher = matcher;
     }
+    return matcher;
   }
 
   @Override
@@ -83,51 +89,56 @@ public class TranscodingServiceMethodImpl<I, O> implements TranscodingServiceMet
   }
 
   public GrpcInvocation<I, O> accept(HttpServerRequest httpRequest) {
-    if (!httpRequest.getHeader(HttpHeaders.CONTENT_TYPE).equals(GrpcProtocol.TRANSCODING.mediaType())) {
+    if (!GrpcProtocol.TRANSCODING.mediaType().equals(httpRequest.getHeader(HttpHeaders.CONTENT_TYPE))) {
       return null;
     }
 
-    PathMatcherLookupResult res = pathMatcher == null ? null : pathMatcher.lookup(httpRequest.method().name(), httpRequest.path(), httpRequest.query());
+    PathMatcher matcher = pathMatcher();
+    PathMatcherLookupResult res = matcher == null ? null : matcher.lookup(httpRequest.method().name(), httpRequest.path(), httpRequest.query());
     if (res != null) {
-      List<HttpVariableBinding> bindings = new ArrayList<>(res.getVariableBindings());
-      io.vertx.core.internal.ContextInternal context = ((HttpServerRequestInternal) httpRequest).context();
-      GrpcServerRequestImpl<I, O> grpcRequest = new TranscodingGrpcServerRequest<>(
-        context,
-        httpRequest,
-        options.getBody(),
-        bindings,
-        decoder,
-        new GrpcMethodCall("/" + res.getMethod()));
-      GrpcServerResponseImpl<I, O> grpcResponse = new TranscodingGrpcServerResponse<>(
-        context,
-        grpcRequest,
-        GrpcProtocol.TRANSCODING,
-        httpRequest.response(),
-        options.getResponseBody(),
-        encoder);
-      return new GrpcInvocation<>(grpcRequest, grpcResponse);
+      return invocation(httpRequest, new GrpcMethodCall("/" + res.getMethod()), options.getBody(), res.getVariableBindings(),
+        options.getResponseBody(), options.getStreamFormat(), decoder, encoder);
     } else if (options == null) {
-      io.vertx.core.internal.ContextInternal context = ((HttpServerRequestInternal) httpRequest).context();
-      GrpcServerRequestImpl<I, O> grpcRequest = new TranscodingGrpcServerRequest<>(
-        context,
-        httpRequest,
-        null,
-        new ArrayList<>(),
-        decoder,
-        new GrpcMethodCall("/" + methodName));
-      GrpcServerResponseImpl<I, O> grpcResponse = new TranscodingGrpcServerResponse<>(
-        context,
-        grpcRequest,
-        GrpcProtocol.TRANSCODING,
-        httpRequest.response(),
-        null,
-        encoder);
-      return new GrpcInvocation<>(grpcRequest, grpcResponse);
+      return invocation(httpRequest, new GrpcMethodCall("/" + methodName), null, new ArrayList<>(), null, null, decoder, encoder);
     }
 
     return null;
   }
 
+  /**
+   * Create the transcoded invocation of a request.
+   *
+   * @param httpRequest the HTTP request
+   * @param methodCall the invoked method
+   * @param body the request body field path
+   * @param bindings the variable bindings extracted from the request
+   * @param responseBody the response body field path
+   * @param streamFormat the stream format of the response, or {@code null}
+   * @param decoder the request message decoder
+   * @param encoder the response message encoder
+   * @return the invocation
+   */
+  static <I, O> GrpcInvocation<I, O> invocation(HttpServerRequest httpRequest, GrpcMethodCall methodCall, String body, List<HttpVariableBinding> bindings,
+                                                String responseBody, TranscodingStreamFormat streamFormat, GrpcMessageDecoder<I> decoder, GrpcMessageEncoder<O> encoder) {
+    ContextInternal context = ((HttpServerRequestInternal) httpRequest).context();
+    GrpcServerRequestImpl<I, O> grpcRequest = new TranscodingGrpcServerRequest<>(
+      context,
+      httpRequest,
+      body,
+      bindings,
+      decoder,
+      methodCall);
+    GrpcServerResponseImpl<I, O> grpcResponse = new TranscodingGrpcServerResponse<>(
+      context,
+      grpcRequest,
+      GrpcProtocol.TRANSCODING,
+      httpRequest.response(),
+      responseBody,
+      TranscodingGrpcServerResponse.streamFormat(httpRequest, streamFormat),
+      encoder);
+    return new GrpcInvocation<>(grpcRequest, grpcResponse);
+  }
+
   @Override
   public ServiceName serviceName() {
     return serviceName;
@@ -3,8 +3,10 @@ package io.vertx.tests.transcoding;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonObject;
+import io.vertx.grpc.common.CodecException;
 import io.vertx.grpc.transcoding.impl.config.HttpVariableBinding;
 import io.vertx.grpc.transcoding.impl.MessageWeaver;
+import io.vertx.tests.server.grpc.web.*;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -250,4 +252,74 @@ public class MessageWeaverTest {
       "*"
     ));
   }
+
+  @Test
+  public void testBuilderBindings() {
+    addBinding("request.payload", "foo");
+
+    EchoRequestBody.Builder result = MessageWeaver.weaveRequestMessage(Buffer.buffer(), bindings, null, EchoRequestBody.newBuilder());
+
+    assertEquals("foo", result.getRequest().getPayload());
+  }
+
+  @Test
+  public void testBuilderBodyTakesPrecedence() {
+    addBinding("payload", "binding");
+
+    EchoRequest.Builder result = MessageWeaver.weaveRequestMessage(Buffer.buffer("{\"payload\":\"body\"}"), bindings, "*", EchoRequest.newBuilder());
+
+    assertEquals("body", result.getPayload());
+  }
+
+  @Test
+  public void testBuilderBodyField() {
+    EchoRequestBody.Builder result = MessageWeaver.weaveRequestMessage(Buffer.buffer("{\"payload\":\"body\"}"), bindings, "request", EchoRequestBody.newBuilder());
+
+    assertEquals("body", result.getRequest().getPayload());
+  }
+
+  @Test
+  public void testBuilderRepeatedBindings() {
+    addBinding("response_size", "1");
+    addBinding("responseSize", "2");
+
+    StreamingRequest.Builder result = MessageWeaver.weaveRequestMessage(Buffer.buffer(" "), bindings, null, StreamingRequest.newBuilder());
+
+    assertEquals(Arrays.asList(1, 2), result.getResponseSizeList());
+  }
+
+  @Test
+  public void testBuilderInvalidBindings() {
+    addBinding("response_size", "not-a-number");
+    assertThrows(CodecException.class, () -> MessageWeaver.weaveRequestMessage(Buffer.buffer(), bindings, null, StreamingRequest.newBuilder()));
+
+    bindings.clear();
+    addBinding("unknown", "value");
+    assertThrows(CodecException.class, () -> MessageWeaver.weaveRequestMessage(Buffer.buffer(), bindings, null, StreamingRequest.newBuilder()));
+  }
+
+  @Test
+  public void testMessageResponseBody() {
+    EchoResponseBody message = EchoResponseBody.newBuilder()
+      .setResponse(EchoResponse.newBuilder().setPayload("foo"))
+      .build();
+
+    Buffer result = MessageWeaver.weaveResponseMessage(message, "response");
+
+    assertEquals(new JsonObject().put("payload", "foo"), new JsonObject(result.toString()));
+    assertEquals("\"foo\"", MessageWeaver.weaveResponseMessage(message, "response.payload").toString());
+    assertThrows(IllegalStateException.class, () -> MessageWeaver.weaveResponseMessage(EchoResponseBody.getDefaultInstance(), "response"));
+  }
+
+  @Test
+  public void testMessageResponseBodyField() {
+    StreamingRequest list = StreamingRequest.newBuilder().addResponseSize(1).addResponseSize(2).build();
+    assertEquals("[1,2]", MessageWeaver.weaveResponseMessage(list, "response_size").toString());
+    assertEquals("[]", MessageWeaver.weaveResponseMessage(StreamingRequest.getDefaultInstance(), "responseSize").toString());
+
+    EchoResponse scalar = EchoResponse.newBuilder().setPayload("\"foo\"").build();
+    assertEquals("\"\\\"foo\\\"\"", MessageWeaver.weaveResponseMessage(scalar, "payload").toString());
+
+    assertThrows(IllegalStateException.class, () -> MessageWeaver.weaveResponseMessage(scalar, "unknown"));
+  }
 }
@@ -326,4 +326,59 @@ public class PathMatcherTest {
     assertNull(lookup("GET", "/animal:other"));
     assertNull(lookup("GET", "/animal/cat:other"));
   }
+
+  @Test
+  public void testQueryParameterBindings() {
+    String path = addPathWithSystemParams("GET", "/a/{x}", Collections.singleton("key"));
+
+    build();
+
+    PathMatcherLookupResult result = matcher.lookup("GET", "/a/b", "y=1&key=secret&&=2&z&c.d=%20+e&y=3");
+
+    assertEquals(path, result.getMethod());
+    assertVariableList(Arrays.asList(
+        new HttpVariableBinding(Collections.singletonList("x"), "b"),
+        new HttpVariableBinding(Collections.singletonList("y"), "1"),
+        new HttpVariableBinding(Arrays.asList("c", "d"), " +e"),
+        new HttpVariableBinding(Collections.singletonList("y"), "3")),
+      result.getVariableBindings());
+    assertSame(result.getVariableBindings(), result.getVariableBindings());
+  }
+
+  @Test
+  public void testTrailingSlashesAndQuery() {
+    String path = addGetPath("/a/{x}/c");
+
+    build();
+
+    assertEquals(path, lookupNoBindings("GET", "/a/b/c/"));
+    assertEquals(path, lookupNoBindings("GET", "/a/b/c//"));
+    assertEquals(path, lookupNoBindings("GET", "/a/b/c?d=e"));
+    assertNull(lookupNoBindings("GET", "/a/b/c/d"));
+
+    PathMatcherLookupResult result = lookup("GET", "/a/b%2Fd/c/?e=f");
+
+    assertEquals(path, result.getMethod());
+    assertVariableList(Collections.singletonList(new HttpVariableBinding(Collections.singletonList("x"), "b/d")), result.getVariableBindings());
+  }
+
+  @Test
+  public void testManyRoutes() {
+    List<String> methods = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      methods.add(addGetPath("/v1/resource" + i + "/{id}"));
+      methods.add(addPath("POST", "/v1/resource" + i + "/{id}:action"));
+    }
+
+    build();
+
+    for (int i = 0; i < 200; i++) {
+      PathMatcherLookupResult result = lookup("GET", "/v1/resource" + i + "/" + i);
+      assertEquals(methods.get(i * 2), result.getMethod());
+      assertVariableList(Collections.singletonList(new HttpVariableBinding(Collections.singletonList("id"), String.valueOf(i))), result.getVariableBindings());
+      assertEquals(methods.get(i * 2 + 1), lookupNoBindings("POST", "/v1/resource" + i + "/" + i + ":action"));
+      assertNull(lookupNoBindings("POST", "/v1/resource" + i + "/" + i));
+    }
+    assertNull(lookupNoBindings("GET", "/v1/resource200/0"));
+  }
 }
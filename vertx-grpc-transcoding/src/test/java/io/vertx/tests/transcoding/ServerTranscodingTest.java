@@ -20,14 +20,17 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
 import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.grpc.common.*;
 import io.vertx.grpc.server.GrpcServer;
 import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.grpc.server.GrpcServerRequest;
 import io.vertx.grpc.server.GrpcServerResponse;
 import io.vertx.grpc.transcoding.MethodTranscodingOptions;
 import io.vertx.grpc.transcoding.TranscodingServiceMethod;
+import io.vertx.grpc.transcoding.TranscodingStreamFormat;
 import io.vertx.tests.common.GrpcTestBase;
 import io.vertx.tests.server.grpc.web.*;
 import org.junit.Test;
@@ -58,6 +61,8 @@ public class ServerTranscodingTest extends GrpcTestBase {
   public static GrpcMessageDecoder<EchoRequestBody> ECHO_REQUEST_BODY_DECODER = GrpcMessageDecoder.decoder(EchoRequestBody.newBuilder());
   public static GrpcMessageEncoder<EchoResponse> ECHO_RESPONSE_ENCODER = GrpcMessageEncoder.encoder();
   public static GrpcMessageEncoder<EchoResponseBody> ECHO_RESPONSE_BODY_ENCODER = GrpcMessageEncoder.encoder();
+  public static GrpcMessageDecoder<StreamingRequest> STREAMING_REQUEST_DECODER = GrpcMessageDecoder.decoder(StreamingRequest.newBuilder());
+  public static GrpcMessageEncoder<StreamingResponse> STREAMING_RESPONSE_ENCODER = GrpcMessageEncoder.encoder();
 
   public static final ServiceName TEST_SERVICE_NAME = ServiceName.create(TestServiceGrpc.SERVICE_NAME);
 
@@ -82,6 +87,22 @@ public class ServerTranscodingTest extends GrpcTestBase {
   public static final TranscodingServiceMethod<EchoRequest, EchoResponseBody> UNARY_CALL_WITH_RESPONSE_BODY = TranscodingServiceMethod.server(TEST_SERVICE_NAME, "UnaryCallWithResponseBody",
     ECHO_RESPONSE_BODY_ENCODER, ECHO_REQUEST_DECODER, UNARY_TRANSCODING_WITH_RESPONSE_BODY);
 
+  public static final MethodTranscodingOptions UNARY_TRANSCODING_WITH_ADDITIONAL_BINDING = create(null, HttpMethod.GET, "/echo/{payload}", null, null,
+    create(null, HttpMethod.GET, "/v2/echo/{payload}", null, null));
+
+  public static final TranscodingServiceMethod<EchoRequest, EchoResponse> UNARY_CALL_WITH_ADDITIONAL_BINDING = TranscodingServiceMethod.server(TEST_SERVICE_NAME,
+    "UnaryCallWithAdditionalBinding", ECHO_RESPONSE_ENCODER, ECHO_REQUEST_DECODER, UNARY_TRANSCODING_WITH_ADDITIONAL_BINDING);
+
+  public static final MethodTranscodingOptions STREAMING_TRANSCODING = new MethodTranscodingOptions().setPath("/stream").setStreamFormat(TranscodingStreamFormat.JSON_ARRAY);
+
+  public static final TranscodingServiceMethod<StreamingRequest, StreamingResponse> STREAMING_CALL = TranscodingServiceMethod.server(TEST_SERVICE_NAME, "StreamingCall",
+    STREAMING_RESPONSE_ENCODER, STREAMING_REQUEST_DECODER, STREAMING_TRANSCODING);
+
+  public static final MethodTranscodingOptions COALESCED_STREAMING_TRANSCODING = new MethodTranscodingOptions().setPath("/stream/coalesced").setStreamFormat(TranscodingStreamFormat.NDJSON);
+
+  public static final TranscodingServiceMethod<StreamingRequest, StreamingResponse> COALESCED_STREAMING_CALL = TranscodingServiceMethod.server(TEST_SERVICE_NAME, "CoalescedStreamingCall",
+    STREAMING_RESPONSE_ENCODER, STREAMING_REQUEST_DECODER, COALESCED_STREAMING_TRANSCODING);
+
   private static final CharSequence USER_AGENT = HttpHeaders.createOptimized("X-User-Agent");
   private static final String CONTENT_TYPE = "application/json";
 
@@ -194,6 +215,23 @@ public class ServerTranscodingTest extends GrpcTestBase {
         }
       });
     });
+    grpcServer.callHandler(UNARY_CALL_WITH_ADDITIONAL_BINDING, request -> {
+      request.handler(requestMsg -> {
+        EchoResponse responseMsg = EchoResponse.newBuilder()
+          .setPayload(requestMsg.getPayload())
+          .build();
+        request.response().end(responseMsg);
+      });
+    });
+    for (int i = 0; i < 16; i++) {
+      // Methods declaring the same rule, the first registered method wins
+      String payload = "duplicate-" + i;
+      TranscodingServiceMethod<EchoRequest, EchoResponse> duplicate = TranscodingServiceMethod.server(TEST_SERVICE_NAME, "DuplicateCall" + i, ECHO_RESPONSE_ENCODER,
+        ECHO_REQUEST_DECODER, new MethodTranscodingOptions().setPath("/duplicate"));
+      grpcServer.callHandler(duplicate, request -> request.handler(requestMsg -> request.response().end(EchoResponse.newBuilder().setPayload(payload).build())));
+    }
+    grpcServer.callHandler(STREAMING_CALL, request -> stream(request, false));
+    grpcServer.callHandler(COALESCED_STREAMING_CALL, request -> stream(request, true));
     httpServer = vertx.createHttpServer(new HttpServerOptions().setPort(port)).requestHandler(grpcServer);
     httpServer.listen().onComplete(should.asyncAssertSuccess());
   }
@@ -205,6 +243,20 @@ public class ServerTranscodingTest extends GrpcTestBase {
     super.tearDown(should);
   }
 
+  private static void stream(GrpcServerRequest<StreamingRequest, StreamingResponse> request, boolean coalesce) {
+    request.handler(requestMsg -> {
+      GrpcServerResponse<StreamingRequest, StreamingResponse> response = request.response().coalesceWrites(coalesce);
+      for (int size : requestMsg.getResponseSizeList()) {
+        if (size < 0) {
+          response.status(GrpcStatus.INTERNAL).statusMessage("boom").end();
+          return;
+        }
+        response.write(StreamingResponse.newBuilder().setPayload("x".repeat(size)).build());
+      }
+      response.end();
+    });
+  }
+
   static void copyHeaders(MultiMap src, MultiMap headers) {
     copyMetadata(src, headers, "x-header-text-key", "x-header-bin-key-bin");
   }
@@ -404,6 +456,137 @@ public class ServerTranscodingTest extends GrpcTestBase {
     })));
   }
 
+  @Test
+  public void testAdditionalBinding(TestContext should) {
+    for (String path : Arrays.asList("/echo/foo", "/v2/echo/foo")) {
+      httpClient.request(HttpMethod.GET, path).compose(req -> {
+        req.headers().addAll(HEADERS);
+        return req.send().compose(response -> response.body().map(response));
+      }).onComplete(should.asyncAssertSuccess(response -> should.verify(v -> {
+        assertEquals(200, response.statusCode());
+        JsonObject body = decodeBody(response.body().result());
+        assertEquals("foo", body.getString("payload"));
+      })));
+    }
+  }
+
+  @Test
+  public void testStreamJsonArray(TestContext should) {
+    httpClient.request(HttpMethod.GET, "/stream?response_size=1&response_size=2").compose(req -> {
+      req.headers().addAll(HEADERS);
+      return req.send().compose(response -> response.body().map(response));
+    }).onComplete(should.asyncAssertSuccess(response -> should.verify(v -> {
+      assertEquals(200, response.statusCode());
+      MultiMap headers = response.headers();
+      assertTrue(headers.contains(HttpHeaders.CONTENT_TYPE, CONTENT_TYPE, true));
+      assertNull(headers.get(HttpHeaders.CONTENT_LENGTH));
+      JsonArray body = new JsonArray(response.body().result());
+      assertEquals(2, body.size());
+      assertEquals("x", body.getJsonObject(0).getString("payload"));
+      assertEquals("xx", body.getJsonObject(1).getString("payload"));
+    })));
+  }
+
+  @Test
+  public void testStreamEmptyJsonArray(TestContext should) {
+    httpClient.request(HttpMethod.GET, "/stream").compose(req -> {
+      req.headers().addAll(HEADERS);
+      return req.send().compose(response -> response.body().map(response));
+    }).onComplete(should.asyncAssertSuccess(response -> should.verify(v -> {
+      assertEquals(200, response.statusCode());
+      assertEquals("[]", response.body().result().toString());
+    })));
+  }
+
+  @Test
+  public void testStreamNdjson(TestContext should) {
+    httpClient.request(HttpMethod.GET, "/stream?response_size=1&response_size=2&response_size=-1").compose(req -> {
+      req.headers().addAll(HEADERS);
+      req.headers().set(HttpHeaders.ACCEPT, "application/x-ndjson");
+      return req.send().compose(response -> response.body().map(response));
+    }).onComplete(should.asyncAssertSuccess(response -> should.verify(v -> {
+      assertEquals(200, response.statusCode());
+      assertTrue(response.headers().contains(HttpHeaders.CONTENT_TYPE, "application/x-ndjson", true));
+      String[] lines = response.body().result().toString().split("\n");
+      assertEquals(3, lines.length);
+      assertEquals("x", new JsonObject(lines[0]).getString("payload"));
+      assertEquals("xx", new JsonObject(lines[1]).getString("payload"));
+      JsonObject error = new JsonObject(lines[2]).getJsonObject("error");
+      assertEquals(GrpcStatus.INTERNAL.code, (int) error.getInteger("code"));
+      assertEquals("boom", error.getString("message"));
+    })));
+  }
+
+  @Test
+  public void testStreamServerSentEvents(TestContext should) {
+    httpClient.request(HttpMethod.GET, "/stream?response_size=1&response_size=2").compose(req -> {
+      req.headers().addAll(HEADERS);
+      req.headers().set(HttpHeaders.ACCEPT, "text/event-stream");
+      return req.send().compose(response -> response.body().map(response));
+    }).onComplete(should.asyncAssertSuccess(response -> should.verify(v -> {
+      assertEquals(200, response.statusCode());
+      assertTrue(response.headers().contains(HttpHeaders.CONTENT_TYPE, "text/event-stream", true));
+      String[] events = response.body().result().toString().split("\n\n");
+      assertEquals(2, events.length);
+      assertTrue(events[0].startsWith("data: "));
+      assertEquals("x", new JsonObject(events[0].substring("data: ".length())).getString("payload"));
+      assertEquals("xx", new JsonObject(events[1].substring("data: ".length())).getString("payload"));
+    })));
+  }
+
+  @Test
+  public void testStreamAcceptQuality(TestContext should) {
+    httpClient.request(HttpMethod.GET, "/stream?response_size=1&response_size=2").compose(req -> {
+      req.headers().addAll(HEADERS);
+      req.headers().set(HttpHeaders.ACCEPT, "text/event-stream;q=0, application/x-ndjson;q=0.5");
+      return req.send().compose(response -> response.body().map(response));
+    }).onComplete(should.asyncAssertSuccess(response -> should.verify(v -> {
+      assertEquals(200, response.statusCode());
+      assertTrue(response.headers().contains(HttpHeaders.CONTENT_TYPE, "application/x-ndjson", true));
+      String[] lines = response.body().result().toString().split("\n");
+      assertEquals(2, lines.length);
+    })));
+  }
+
+  @Test
+  public void testUnaryIgnoresStreamAccept(TestContext should) {
+    httpClient.request(HttpMethod.GET, "/echo/foo").compose(req -> {
+      req.headers().addAll(HEADERS);
+      req.headers().set(HttpHeaders.ACCEPT, "text/event-stream, */*");
+      return req.send().compose(response -> response.body().map(response));
+    }).onComplete(should.asyncAssertSuccess(response -> should.verify(v -> {
+      assertEquals(200, response.statusCode());
+      assertTrue(response.headers().contains(HttpHeaders.CONTENT_TYPE, CONTENT_TYPE, true));
+      assertEquals("foo", decodeBody(response.body().result()).getString("payload"));
+    })));
+  }
+
+  @Test
+  public void testStreamCoalescedWrites(TestContext should) {
+    httpClient.request(HttpMethod.GET, "/stream/coalesced?response_size=1&response_size=2&response_size=3").compose(req -> {
+      req.headers().addAll(HEADERS);
+      return req.send().compose(response -> response.body().map(response));
+    }).onComplete(should.asyncAssertSuccess(response -> should.verify(v -> {
+      assertEquals(200, response.statusCode());
+      String[] lines = response.body().result().toString().split("\n");
+      assertEquals(3, lines.length);
+      for (int i = 0; i < 3; i++) {
+        assertEquals("x".repeat(i + 1), new JsonObject(lines[i]).getString("payload"));
+      }
+    })));
+  }
+
+  @Test
+  public void testDuplicateRule(TestContext should) {
+    httpClient.request(HttpMethod.GET, "/duplicate").compose(req -> {
+      req.headers().addAll(HEADERS);
+      return req.send().compose(response -> response.body().map(response));
+    }).onComplete(should.asyncAssertSuccess(response -> should.verify(v -> {
+      assertEquals(200, response.statusCode());
+      assertEquals("duplicate-0", decodeBody(response.body().result()).getString("payload"));
+    })));
+  }
+
   private Buffer encode(Message message) {
     Buffer buffer = BufferInternal.buffer();
     try {
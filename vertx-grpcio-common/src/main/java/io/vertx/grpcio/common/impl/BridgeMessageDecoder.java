@@ -10,10 +10,8 @@
  */
 package io.vertx.grpcio.common.impl;
 
-import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.google.protobuf.MessageLite;
-import com.google.protobuf.util.JsonFormat;
 import io.grpc.Decompressor;
 import io.grpc.KnownLength;
 import io.grpc.MethodDescriptor;
@@ -25,10 +23,10 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.impl.ProtobufJsonCodec;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 
 public class BridgeMessageDecoder<T> implements GrpcMessageDecoder<T> {
 
@@ -74,13 +72,7 @@ public class BridgeMessageDecoder<T> implements GrpcMessageDecoder<T> {
           }
         }
       case JSON:
-        try {
-          Message.Builder builder = (Message.Builder) messageLite.toBuilder();
-          JsonFormat.parser().merge(msg.payload().toString(StandardCharsets.UTF_8), builder);
-          return (T) builder.build();
-        } catch (InvalidProtocolBufferException e) {
-          throw new CodecException(e);
-        }
+        return (T) ProtobufJsonCodec.decode(msg.payload(), (Message.Builder) messageLite.toBuilder()).build();
       default:
         throw new CodecException("Invalid wire format: " + msg.format());
     }
@@ -10,9 +10,7 @@
  */
 package io.vertx.grpcio.common.impl;
 
-import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.MessageOrBuilder;
-import com.google.protobuf.util.JsonFormat;
 import io.grpc.Compressor;
 import io.grpc.Drainable;
 import io.grpc.MethodDescriptor;
@@ -21,6 +19,7 @@ import io.vertx.grpc.common.CodecException;
 import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.impl.ProtobufJsonCodec;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -76,13 +75,7 @@ public class BridgeMessageEncoder<T> implements GrpcMessageEncoder<T> {
         break;
       case JSON:
         if (msg instanceof MessageOrBuilder) {
-          MessageOrBuilder mob = (MessageOrBuilder) msg;
-          try {
-            String res = JsonFormat.printer().print(mob);
-            encoded = Buffer.buffer(res);
-          } catch (InvalidProtocolBufferException e) {
-            throw new CodecException(e);
-          }
+          encoded = ProtobufJsonCodec.encode((MessageOrBuilder) msg);
         } else {
           throw new CodecException();
         }
@@ -10,18 +10,20 @@
  */
 package io.vertx.grpcio.common.impl;
 
-import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.google.protobuf.MessageOrBuilder;
-import com.google.protobuf.util.JsonFormat;
 import io.grpc.InternalMetadata;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
 import io.netty.util.AsciiString;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.impl.ProtobufJsonCodec;
 
 import javax.annotation.Nullable;
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -79,22 +81,16 @@ public class Utils {
       }
       @Override
       public InputStream stream(T value) {
-        String res;
-        try {
-          res = JsonFormat.printer().print(value);
-        } catch (InvalidProtocolBufferException e) {
-          throw new RuntimeException(e);
-        }
-        return new ByteArrayInputStream(res.getBytes(StandardCharsets.UTF_8));
+        Buffer json = ProtobufJsonCodec.encode(value);
+        return new ByteBufInputStream(((BufferInternal) json).getByteBuf());
       }
 
       @Override
       public T parse(InputStream stream) {
         try {
           Message.Builder builder = b.get();
-          byte[] bytes = stream.readAllBytes();
-          JsonFormat.parser().merge(new String(bytes, StandardCharsets.UTF_8), builder);
-          return (T) builder.build();
+          Buffer json = BufferInternal.buffer(Unpooled.wrappedBuffer(stream.readAllBytes()));
+          return (T) ProtobufJsonCodec.decode(json, builder).build();
         } catch (Exception e) {
           throw new RuntimeException(e);
         }